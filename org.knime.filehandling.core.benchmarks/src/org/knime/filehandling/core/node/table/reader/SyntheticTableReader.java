@@ -0,0 +1,328 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.node.table.reader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataType;
+import org.knime.core.data.convert.map.MappingFramework;
+import org.knime.core.data.convert.map.ProducerRegistry;
+import org.knime.core.data.convert.map.SimpleCellValueProducerFactory;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.filehandling.core.node.table.reader.ReadAdapter.ReadAdapterParams;
+import org.knime.filehandling.core.node.table.reader.config.ReaderSpecificConfig;
+import org.knime.filehandling.core.node.table.reader.config.TableReadConfig;
+import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessible;
+import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessibleUtils;
+import org.knime.filehandling.core.node.table.reader.read.Read;
+import org.knime.filehandling.core.node.table.reader.spec.TypedReaderTableSpec;
+import org.knime.filehandling.core.node.table.reader.type.hierarchy.DefaultTypeTester;
+import org.knime.filehandling.core.node.table.reader.type.hierarchy.TreeTypeHierarchy;
+
+/**
+ * A {@link GenericTableReader} that reads in-memory tables of string tokens, i.e. it behaves like a CSV reader whose
+ * parsing is free. The items are the indices of the synthetic files. Each file consists of a pool of pre-generated rows
+ * that is repeated until the file has the requested number of rows, so that the benchmarks measure the framework and
+ * not the data generation.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+final class SyntheticTableReader
+    implements GenericTableReader<Integer, SyntheticTableReader.SyntheticConfig, SyntheticTableReader.SyntheticType, String> {
+
+    private static final int ROW_POOL_SIZE = 1024;
+
+    private static ProducerRegistry<SyntheticType, SyntheticReadAdapter> producerRegistry;
+
+    private final String[][] m_rowPool;
+
+    private final long m_rowsPerFile;
+
+    private final int m_chunksPerFile;
+
+    private final TypedReaderTableSpec<SyntheticType> m_spec;
+
+    /**
+     * Constructor.
+     *
+     * @param numberOfColumns the number of columns of each file
+     * @param rowsPerFile the number of rows of each file
+     * @param chunksPerFile the number of chunks {@link #multiRead(Integer, TableReadConfig)} splits each file into
+     */
+    SyntheticTableReader(final int numberOfColumns, final long rowsPerFile, final int chunksPerFile) {
+        m_rowsPerFile = rowsPerFile;
+        m_chunksPerFile = chunksPerFile;
+        final var random = new Random(numberOfColumns);
+        m_rowPool = new String[ROW_POOL_SIZE][];
+        for (var r = 0; r < ROW_POOL_SIZE; r++) {
+            final var row = new String[numberOfColumns];
+            for (var c = 0; c < numberOfColumns; c++) {
+                row[c] = createToken(getColumnType(c), r, random);
+            }
+            m_rowPool[r] = row;
+        }
+        m_spec = TypedReaderTableSpec.create( //
+            IntStream.range(0, numberOfColumns).mapToObj(c -> "column-" + c).toList(), //
+            IntStream.range(0, numberOfColumns).mapToObj(SyntheticTableReader::getColumnType).toList(), //
+            IntStream.range(0, numberOfColumns).mapToObj(c -> Boolean.TRUE).toList());
+    }
+
+    /**
+     * The first column holds a unique row identifier, the remaining columns cycle through the types.
+     */
+    static SyntheticType getColumnType(final int columnIdx) {
+        if (columnIdx == 0) {
+            return SyntheticType.STRING;
+        }
+        return SyntheticType.values()[columnIdx % SyntheticType.values().length];
+    }
+
+    private static String createToken(final SyntheticType type, final int rowIdx, final Random random) {
+        return switch (type) {
+            case INTEGER -> Integer.toString(random.nextInt(1_000_000));
+            case DOUBLE -> Double.toString(random.nextInt(1_000_000) / 100d);
+            case STRING -> "value-" + rowIdx + "-" + random.nextInt(1_000);
+        };
+    }
+
+    @Override
+    public Read<String> read(final Integer item, final TableReadConfig<SyntheticConfig> config) {
+        return new SyntheticRead(0, m_rowsPerFile);
+    }
+
+    @Override
+    public List<Read<String>> multiRead(final Integer item, final TableReadConfig<SyntheticConfig> config) {
+        final List<Read<String>> reads = new ArrayList<>(m_chunksPerFile);
+        final var chunkSize = m_rowsPerFile / m_chunksPerFile;
+        for (var i = 0; i < m_chunksPerFile; i++) {
+            final var end = i == m_chunksPerFile - 1 ? m_rowsPerFile : ((i + 1) * chunkSize);
+            reads.add(new SyntheticRead(i * chunkSize, end));
+        }
+        return reads;
+    }
+
+    @Override
+    public boolean canBeReadInParallel(final SourceGroup<Integer> sourceGroup) {
+        return true;
+    }
+
+    @Override
+    public TypedReaderTableSpec<SyntheticType> readSpec(final Integer item,
+        final TableReadConfig<SyntheticConfig> config, final ExecutionMonitor exec) {
+        return m_spec;
+    }
+
+    @Override
+    public DataColumnSpec createIdentifierColumnSpec(final Integer item, final String name) {
+        return new DataColumnSpecCreator(name, StringCell.TYPE).createSpec();
+    }
+
+    @Override
+    public DataCell createIdentifierCell(final Integer item) {
+        return new StringCell("file-" + item);
+    }
+
+    /**
+     * @return all rows of a file, one {@link RandomAccessible} per row
+     */
+    List<RandomAccessible<String>> createRows() {
+        final List<RandomAccessible<String>> rows = new ArrayList<>();
+        for (var i = 0L; i < m_rowsPerFile; i++) {
+            rows.add(RandomAccessibleUtils.createFromArrayUnsafe(m_rowPool[(int)(i % ROW_POOL_SIZE)]));
+        }
+        return rows;
+    }
+
+    TypedReaderTableSpec<SyntheticType> getSpec() {
+        return m_spec;
+    }
+
+    /**
+     * @return the type hierarchy STRING &larr; DOUBLE &larr; INTEGER used to guess the column types
+     */
+    static TreeTypeHierarchy<SyntheticType, String> createTypeHierarchy() {
+        return TreeTypeHierarchy.builder(new DefaultTypeTester<SyntheticType, String>(SyntheticType.STRING, s -> true))//
+            .addType(SyntheticType.STRING,
+                new DefaultTypeTester<SyntheticType, String>(SyntheticType.DOUBLE, SyntheticTableReader::isDouble))//
+            .addType(SyntheticType.DOUBLE,
+                new DefaultTypeTester<SyntheticType, String>(SyntheticType.INTEGER, SyntheticTableReader::isInteger))//
+            .build();
+    }
+
+    private static boolean isInteger(final String value) {
+        return !value.isEmpty() && value.chars().allMatch(Character::isDigit);
+    }
+
+    private static boolean isDouble(final String value) {
+        var dots = 0;
+        for (var i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            if (c == '.') {
+                dots++;
+            } else if (!Character.isDigit(c)) {
+                return false;
+            }
+        }
+        return !value.isEmpty() && dots <= 1;
+    }
+
+    /**
+     * @return the registry of the producers for the {@link SyntheticType types}
+     */
+    static synchronized ProducerRegistry<SyntheticType, SyntheticReadAdapter> getProducerRegistry() {
+        if (producerRegistry == null) {
+            final ProducerRegistry<SyntheticType, SyntheticReadAdapter> registry =
+                MappingFramework.forSourceType(SyntheticReadAdapter.class);
+            register(registry, SyntheticType.INTEGER, Integer.class, Integer::valueOf);
+            register(registry, SyntheticType.DOUBLE, Double.class, Double::valueOf);
+            register(registry, SyntheticType.STRING, String.class, Function.identity());
+            producerRegistry = registry;
+        }
+        return producerRegistry;
+    }
+
+    private static <J> void register(final ProducerRegistry<SyntheticType, SyntheticReadAdapter> registry,
+        final SyntheticType type, final Class<J> javaType, final Function<String, J> parser) {
+        registry.register(
+            new SimpleCellValueProducerFactory<SyntheticReadAdapter, SyntheticType, J, ReadAdapterParams<SyntheticReadAdapter, SyntheticConfig>>(
+                type, javaType, (adapter, params) -> {
+                    final var token = adapter.get(params);
+                    return token == null ? null : parser.apply(token);
+                }));
+    }
+
+    /**
+     * @param type an external type
+     * @return the KNIME type the external type is mapped to by default
+     */
+    static DataType getDefaultType(final SyntheticType type) {
+        return switch (type) {
+            case INTEGER -> IntCell.TYPE;
+            case DOUBLE -> DoubleCell.TYPE;
+            case STRING -> StringCell.TYPE;
+        };
+    }
+
+    /**
+     * The external types of the synthetic tables.
+     */
+    enum SyntheticType {
+            /** Integer tokens. */
+            INTEGER,
+            /** Floating point tokens. */
+            DOUBLE,
+            /** Any other tokens. */
+            STRING;
+    }
+
+    /**
+     * The (empty) reader specific config of the synthetic reader.
+     */
+    static final class SyntheticConfig implements ReaderSpecificConfig<SyntheticConfig> {
+
+        @Override
+        public SyntheticConfig copy() {
+            return new SyntheticConfig();
+        }
+    }
+
+    /**
+     * The {@link ReadAdapter} of the synthetic reader.
+     */
+    static final class SyntheticReadAdapter extends ReadAdapter<SyntheticType, String> {
+    }
+
+    private final class SyntheticRead implements Read<String> {
+
+        private final long m_end;
+
+        private long m_current;
+
+        SyntheticRead(final long start, final long end) {
+            m_current = start;
+            m_end = end;
+        }
+
+        @Override
+        public RandomAccessible<String> next() {
+            if (m_current >= m_end) {
+                return null;
+            }
+            final var row = m_rowPool[(int)(m_current % ROW_POOL_SIZE)];
+            m_current++;
+            return RandomAccessibleUtils.createFromArrayUnsafe(row);
+        }
+
+        @Override
+        public OptionalLong getMaxProgress() {
+            return OptionalLong.of(m_end);
+        }
+
+        @Override
+        public long getProgress() {
+            return m_current;
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+    }
+}
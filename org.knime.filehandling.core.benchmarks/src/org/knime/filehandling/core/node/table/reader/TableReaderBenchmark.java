@@ -0,0 +1,532 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.node.table.reader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.convert.map.ProductionPath;
+import org.knime.core.data.filestore.FileStoreFactory;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.filehandling.core.node.table.reader.SyntheticTableReader.SyntheticConfig;
+import org.knime.filehandling.core.node.table.reader.SyntheticTableReader.SyntheticType;
+import org.knime.filehandling.core.node.table.reader.config.DefaultTableReadConfig;
+import org.knime.filehandling.core.node.table.reader.config.MultiTableReadConfig;
+import org.knime.filehandling.core.node.table.reader.config.TableReadConfig;
+import org.knime.filehandling.core.node.table.reader.config.tablespec.ConfigID;
+import org.knime.filehandling.core.node.table.reader.config.tablespec.NodeSettingsConfigID;
+import org.knime.filehandling.core.node.table.reader.config.tablespec.TableSpecConfig;
+import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessible;
+import org.knime.filehandling.core.node.table.reader.rowkey.DefaultRowKeyGeneratorContextFactory;
+import org.knime.filehandling.core.node.table.reader.rowkey.RowKeyGenerator;
+import org.knime.filehandling.core.node.table.reader.spec.TableSpecGuesser;
+import org.knime.filehandling.core.node.table.reader.spec.TypedReaderTableSpec;
+import org.knime.filehandling.core.node.table.reader.type.hierarchy.TreeTypeHierarchy;
+import org.knime.filehandling.core.node.table.reader.type.mapping.DefaultTypeMapper;
+import org.knime.filehandling.core.node.table.reader.type.mapping.TypeMapper;
+import org.knime.filehandling.core.node.table.reader.util.DefaultIndexMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput of the individual stages of the table reader framework as well as of reading a complete
+ * (synthetic) table. Every benchmark that processes rows processes {@value #ROWS} rows per invocation and counts each
+ * row as one operation, i.e. the scores are rows per second and, with the GC profiler attached (default of the
+ * {@link org.knime.filehandling.core.benchmarks.BenchmarkRunner}), {@code gc.alloc.rate.norm} is the number of bytes
+ * allocated per row.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+@BenchmarkMode(Mode.Throughput)
+public class TableReaderBenchmark {
+
+    /** The number of rows of all files of a table. */
+    static final int ROWS = 100_000;
+
+    /**
+     * The shapes of the synthetic tables.
+     */
+    public enum TableShape {
+            /** Few columns, one file. */
+            NARROW(8, 1),
+            /** Many columns, one file. */
+            WIDE(256, 1),
+            /** Few columns spread across several files. */
+            MULTI_FILE(8, 16);
+
+        private final int m_numberOfColumns;
+
+        private final int m_numberOfFiles;
+
+        TableShape(final int numberOfColumns, final int numberOfFiles) {
+            m_numberOfColumns = numberOfColumns;
+            m_numberOfFiles = numberOfFiles;
+        }
+    }
+
+    /**
+     * Holds the synthetic table and the framework components needed to read it.
+     */
+    @State(Scope.Thread)
+    public static class Table {
+
+        /** The shape of the table. */
+        @Param({"NARROW", "WIDE", "MULTI_FILE"})
+        public TableShape m_shape;
+
+        SyntheticTableReader m_reader;
+
+        DefaultTableReadConfig<SyntheticConfig> m_config;
+
+        List<Integer> m_files;
+
+        List<RandomAccessible<String>> m_rows;
+
+        TreeTypeHierarchy<SyntheticType, String> m_typeHierarchy;
+
+        DefaultProductionPathProvider<SyntheticType> m_productionPathProvider;
+
+        final ExecutionMonitor m_exec = new ExecutionMonitor();
+
+        final FileStoreFactory m_fileStoreFactory = FileStoreFactory.createNotInWorkflowFileStoreFactory();
+
+        /**
+         * Creates the table.
+         */
+        @Setup(Level.Trial)
+        public void setup() {
+            m_reader = createReader(1);
+            m_config = createConfig();
+            // guess the types on all rows, so that the spec guessing scales with the number of rows
+            m_config.setLimitRowsForSpec(false);
+            m_files = IntStream.range(0, m_shape.m_numberOfFiles).boxed().toList();
+            m_rows = m_reader.createRows();
+            m_typeHierarchy = SyntheticTableReader.createTypeHierarchy();
+            m_productionPathProvider = new DefaultProductionPathProvider<>(SyntheticTableReader.getProducerRegistry(),
+                SyntheticTableReader::getDefaultType);
+        }
+
+        private static DefaultTableReadConfig<SyntheticConfig> createConfig() {
+            final var config = new DefaultTableReadConfig<>(new SyntheticConfig());
+            config.setUseColumnHeaderIdx(false);
+            return config;
+        }
+
+        SyntheticTableReader createReader(final int chunksPerFile) {
+            return new SyntheticTableReader(m_shape.m_numberOfColumns, ROWS / m_shape.m_numberOfFiles, chunksPerFile);
+        }
+
+        TypeMapper<String> createTypeMapper() {
+            final ProductionPath[] productionPaths = m_reader.getSpec().stream()//
+                .map(c -> m_productionPathProvider.getDefaultProductionPath(c.getType()))//
+                .toArray(ProductionPath[]::new);
+            return new DefaultTypeMapper<>(new SyntheticTableReader.SyntheticReadAdapter(), productionPaths,
+                m_fileStoreFactory, m_config.getReaderSpecificConfig());
+        }
+
+        IndexMappingRandomAccessibleDecorator<String> createIndexMapper() {
+            final var numberOfColumns = m_shape.m_numberOfColumns;
+            final var builder = DefaultIndexMapper.builder(numberOfColumns);
+            // reverse the columns, i.e. the table is reordered
+            for (var i = 0; i < numberOfColumns; i++) {
+                builder.addMapping(i, numberOfColumns - 1 - i);
+            }
+            return new IndexMappingRandomAccessibleDecorator<>(builder.build());
+        }
+
+        RowKeyGenerator<String> createRowKeyGenerator(final boolean extractFromColumn, final int file) {
+            final var config = createConfig();
+            config.setUseRowIDIdx(extractFromColumn);
+            config.setRowIDIdx(0);
+            return new DefaultRowKeyGeneratorContextFactory<Integer, String>(Object::toString, "File")//
+                .createContext(config)//
+                .createKeyGenerator(file);
+        }
+
+        DefaultIndividualTableReader<String> createIndividualTableReader(final int file) {
+            return new DefaultIndividualTableReader<>(createTypeMapper(), createIndexMapper(),
+                createRowKeyGenerator(false, file), null);
+        }
+    }
+
+    /**
+     * Holds a thread pool to read the chunks of a file in parallel.
+     */
+    @State(Scope.Thread)
+    public static class Parallel {
+
+        /** The number of chunks and threads. */
+        @Param({"1", "2", "4", "8"})
+        public int m_threads;
+
+        ExecutorService m_executor;
+
+        /**
+         * Creates the thread pool.
+         */
+        @Setup(Level.Trial)
+        public void startThreads() {
+            m_executor = Executors.newFixedThreadPool(m_threads);
+        }
+
+        /**
+         * Shuts down the thread pool.
+         */
+        @TearDown(Level.Trial)
+        public void stopThreads() {
+            m_executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Guesses the spec of each file with the {@link TableSpecGuesser}.
+     *
+     * @param table the table
+     * @param blackhole consumes the specs
+     * @throws Exception if guessing fails
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void guessSpec(final Table table, final Blackhole blackhole) throws Exception {
+        final var guesser = new TableSpecGuesser<Integer, SyntheticType, String>(table.m_typeHierarchy, s -> s);
+        for (final Integer file : table.m_files) {
+            blackhole.consume(guesser.guessSpec(table.m_reader.read(file, table.m_config), table.m_config,
+                table.m_exec, file));
+        }
+    }
+
+    /**
+     * Merges the specs of the files with the {@link RawSpecFactory}. Counts one operation per merge, not per row.
+     *
+     * @param table the table
+     * @return the raw spec
+     */
+    @Benchmark
+    public Object createRawSpec(final Table table) {
+        final List<TypedReaderTableSpec<SyntheticType>> specs = new ArrayList<>();
+        for (var i = 0; i < table.m_files.size(); i++) {
+            specs.add(table.m_reader.getSpec());
+        }
+        return new RawSpecFactory<>(table.m_typeHierarchy.createTypeFocusedHierarchy()).create(specs);
+    }
+
+    /**
+     * Accesses every value of each row through the {@link IndexMappingRandomAccessibleDecorator}.
+     *
+     * @param table the table
+     * @param blackhole consumes the values
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void mapIndices(final Table table, final Blackhole blackhole) {
+        final var indexMapper = table.createIndexMapper();
+        for (var i = 0; i < table.m_files.size(); i++) {
+            for (final RandomAccessible<String> row : table.m_rows) {
+                indexMapper.set(row);
+                for (var c = 0; c < indexMapper.size(); c++) {
+                    blackhole.consume(indexMapper.get(c));
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts each row into a {@link DataRow} with the {@link DefaultTypeMapper}.
+     *
+     * @param table the table
+     * @param blackhole consumes the rows
+     * @throws Exception if the mapping fails
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void mapTypes(final Table table, final Blackhole blackhole) throws Exception {
+        final var typeMapper = table.createTypeMapper();
+        final var key = new RowKey("Row0");
+        for (var i = 0; i < table.m_files.size(); i++) {
+            for (final RandomAccessible<String> row : table.m_rows) {
+                blackhole.consume(typeMapper.map(key, row));
+            }
+        }
+    }
+
+    /**
+     * Generates a row key for each row by counting.
+     *
+     * @param table the table
+     * @param blackhole consumes the keys
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void generateCountingRowKeys(final Table table, final Blackhole blackhole) {
+        generateRowKeys(table, false, blackhole);
+    }
+
+    /**
+     * Generates a row key for each row by extracting it from the first column.
+     *
+     * @param table the table
+     * @param blackhole consumes the keys
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void generateExtractingRowKeys(final Table table, final Blackhole blackhole) {
+        generateRowKeys(table, true, blackhole);
+    }
+
+    private static void generateRowKeys(final Table table, final boolean extractFromColumn,
+        final Blackhole blackhole) {
+        for (final Integer file : table.m_files) {
+            final var keyGenerator = table.createRowKeyGenerator(extractFromColumn, file);
+            for (final RandomAccessible<String> row : table.m_rows) {
+                blackhole.consume(keyGenerator.createKey(row));
+            }
+        }
+    }
+
+    /**
+     * Reads each file with a {@link DefaultIndividualTableReader}, i.e. index mapping, row key generation and type
+     * mapping combined.
+     *
+     * @param table the table
+     * @param blackhole consumes the rows
+     * @throws Exception if reading fails
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void fillOutput(final Table table, final Blackhole blackhole) throws Exception {
+        final var output = new BlackholeRowOutput(blackhole);
+        for (final Integer file : table.m_files) {
+            try (final var read = table.m_reader.read(file, table.m_config)) {
+                table.createIndividualTableReader(file).fillOutput(read, output, table.m_exec);
+            }
+        }
+    }
+
+    /**
+     * Reads the chunks of each file in parallel, one chunk per thread, mirroring the parallel read of the
+     * {@link DefaultStagedMultiTableRead} which reads each chunk with its own {@link DefaultIndividualTableReader}.
+     * Unlike the node, the rows are not written into tables, because creating tables requires an execution context.
+     *
+     * @param table the table
+     * @param parallel the thread pool
+     * @param blackhole consumes the rows
+     * @throws Exception if reading fails
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void fillOutputInParallel(final Table table, final Parallel parallel, final Blackhole blackhole)
+        throws Exception {
+        final var reader = table.createReader(parallel.m_threads);
+        for (final Integer file : table.m_files) {
+            final List<Future<Long>> chunks = new ArrayList<>();
+            for (final var read : reader.multiRead(file, table.m_config)) {
+                final var individualReader = table.createIndividualTableReader(file);
+                chunks.add(parallel.m_executor.submit(() -> {
+                    // the blackhole must not be shared across threads
+                    final var output = new CountingRowOutput();
+                    try (read) {
+                        individualReader.fillOutput(read, output, new ExecutionMonitor());
+                    }
+                    return output.m_count;
+                }));
+            }
+            for (final Future<Long> chunk : chunks) {
+                blackhole.consume(chunk.get());
+            }
+        }
+    }
+
+    /**
+     * Reads the complete table via the {@link DefaultMultiTableReadFactory}, i.e. from spec reading over the
+     * transformation to the rows, as the reader nodes do.
+     *
+     * @param table the table
+     * @param blackhole consumes the rows
+     * @throws Exception if reading fails
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void readTable(final Table table, final Blackhole blackhole) throws Exception {
+        final var factory = new DefaultMultiTableReadFactory<Integer, SyntheticConfig, SyntheticType, String>(
+            table.m_typeHierarchy.createTypeFocusedHierarchy(),
+            new DefaultRowKeyGeneratorContextFactory<>(Object::toString, "File"), table.m_reader,
+            table.m_productionPathProvider, SyntheticTableReader.SyntheticReadAdapter::new);
+        final var sourceGroup = new DefaultSourceGroup<>("synthetic", table.m_files);
+        final var config = new SyntheticMultiTableReadConfig(table.m_config);
+        factory.create(sourceGroup, config, table.m_exec)//
+            .withoutTransformation(sourceGroup)//
+            .fillRowOutput(new BlackholeRowOutput(blackhole), table.m_exec, table.m_fileStoreFactory);
+    }
+
+    private static final class BlackholeRowOutput extends RowOutput {
+
+        private final Blackhole m_blackhole;
+
+        BlackholeRowOutput(final Blackhole blackhole) {
+            m_blackhole = blackhole;
+        }
+
+        @Override
+        public void push(final DataRow row) {
+            m_blackhole.consume(row);
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+    }
+
+    private static final class CountingRowOutput extends RowOutput {
+
+        private long m_count;
+
+        @Override
+        public void push(final DataRow row) {
+            if (row != null) {
+                m_count++;
+            }
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+    }
+
+    private static final class SyntheticMultiTableReadConfig
+        implements MultiTableReadConfig<SyntheticConfig, SyntheticType> {
+
+        private final ConfigID m_configID = new NodeSettingsConfigID(new NodeSettings("synthetic"));
+
+        private final TableReadConfig<SyntheticConfig> m_tableReadConfig;
+
+        SyntheticMultiTableReadConfig(final TableReadConfig<SyntheticConfig> tableReadConfig) {
+            m_tableReadConfig = tableReadConfig;
+        }
+
+        @Override
+        public ConfigID getConfigID() {
+            return m_configID;
+        }
+
+        @Override
+        public TableReadConfig<SyntheticConfig> getTableReadConfig() {
+            return m_tableReadConfig;
+        }
+
+        @Deprecated
+        @Override
+        public SpecMergeMode getSpecMergeMode() {
+            return SpecMergeMode.UNION;
+        }
+
+        @Override
+        public boolean failOnDifferingSpecs() {
+            return false;
+        }
+
+        @Override
+        public boolean hasTableSpecConfig() {
+            return false;
+        }
+
+        @Override
+        public boolean saveTableSpecConfig() {
+            return false;
+        }
+
+        @Override
+        public boolean checkSavedTableSpec() {
+            return false;
+        }
+
+        @Override
+        public TableSpecConfig<SyntheticType> getTableSpecConfig() {
+            return null;
+        }
+
+        @Override
+        public void setTableSpecConfig(final TableSpecConfig<SyntheticType> config) {
+            // the config is not stored
+        }
+
+        @Override
+        public boolean skipEmptyColumns() {
+            return false;
+        }
+
+        @Override
+        public boolean appendItemIdentifierColumn() {
+            return false;
+        }
+
+        @Override
+        public String getItemIdentifierColumnName() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.fs.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs the benchmarks of this fragment and writes the results as JSON so that they can be compared across builds.
+ * Accepts the usual JMH command line options, e.g. a regular expression selecting the benchmarks to run, {@code -p
+ * m_fsType=amazon-s3} to select the file system or {@code -rff results.json} to change the result file.
+ *
+ * <p>
+ * The file systems are created via extension points, hence the runner has to be launched inside a KNIME/OSGi runtime
+ * (e.g. from an Eclipse launch configuration). For the same reason benchmarks run in the launching JVM by default
+ * instead of in forked JVMs.
+ * </p>
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+public final class BenchmarkRunner {
+
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * @param args JMH command line options
+     * @throws CommandLineOptionException if the options could not be parsed
+     * @throws RunnerException if a benchmark failed
+     */
+    public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+        final var commandLineOptions = new CommandLineOptions(args);
+        final var options = new OptionsBuilder() //
+            .parent(commandLineOptions) //
+            .forks(commandLineOptions.getForkCount().orElse(0)) //
+            .warmupIterations(commandLineOptions.getWarmupIterations().orElse(3)) //
+            .warmupTime(commandLineOptions.getWarmupTime().orElse(TimeValue.seconds(2))) //
+            .measurementIterations(commandLineOptions.getMeasurementIterations().orElse(5)) //
+            .measurementTime(commandLineOptions.getMeasurementTime().orElse(TimeValue.seconds(2))) //
+            .timeUnit(commandLineOptions.getTimeUnit().orElse(TimeUnit.MICROSECONDS)) //
+            .resultFormat(commandLineOptions.getResultFormat().orElse(ResultFormatType.JSON)) //
+            .result(commandLineOptions.getResult().orElse(DEFAULT_RESULT_FILE)) //
+            .build();
+        new Runner(options).run();
+    }
+}
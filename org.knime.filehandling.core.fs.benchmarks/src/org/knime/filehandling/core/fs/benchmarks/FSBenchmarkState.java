@@ -0,0 +1,143 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.fs.benchmarks;
+
+import java.io.IOException;
+
+import org.knime.filehandling.core.connections.FSFileSystem;
+import org.knime.filehandling.core.fs.testinitializer.FSTestConfig;
+import org.knime.filehandling.core.fs.testinitializer.FSTestInitializerManager;
+import org.knime.filehandling.core.fs.testinitializer.FSTestPropertiesResolver;
+import org.knime.filehandling.core.testing.FSTestInitializer;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Base class of benchmark states that need a file system. The file system is created by the {@link FSTestInitializer}
+ * that is registered for the {@link #m_fsType file system type parameter}, configured the same way as for the
+ * integration tests, i.e. via the {@value FSTestPropertiesResolver#TEST_PROPERTIES_FILE_NAME} file.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+@State(Scope.Benchmark)
+public abstract class FSBenchmarkState {
+
+    /**
+     * The file system type to benchmark, i.e. the key of a registered {@link FSTestInitializer}. Can be overwritten
+     * with the {@code -p m_fsType=...} JMH option.
+     */
+    @Param({"knime-local-relative-mountpoint"})
+    public String m_fsType;
+
+    private FSTestInitializer m_testInitializer;
+
+    /**
+     * Creates the file system and a fresh scratch directory.
+     *
+     * @throws IOException if the file system could not be initialized
+     */
+    @Setup(Level.Trial)
+    public void setupFileSystem() throws IOException {
+        final var testConfig = new FSTestConfig(FSTestPropertiesResolver.forIntegrationTests());
+        m_testInitializer = FSTestInitializerManager.instance().createInitializer(m_fsType,
+            testConfig.getSettingsForFSType(m_fsType));
+        m_testInitializer.beforeTestCase();
+        setup();
+    }
+
+    /**
+     * Removes the scratch directory and closes the file system.
+     *
+     * @throws IOException if cleaning up failed
+     */
+    @TearDown(Level.Trial)
+    public void tearDownFileSystem() throws IOException {
+        try {
+            tearDown();
+            m_testInitializer.afterTestCase();
+        } finally {
+            m_testInitializer.afterClass();
+        }
+    }
+
+    /**
+     * Called after the file system has been initialized, prepares the data needed by the benchmarks.
+     *
+     * @throws IOException if the preparation failed
+     */
+    protected abstract void setup() throws IOException;
+
+    /**
+     * Called before the scratch directory is removed, releases resources acquired in {@link #setup()}. Does nothing by
+     * default.
+     *
+     * @throws IOException if releasing the resources failed
+     */
+    protected void tearDown() throws IOException {
+        // nothing to release by default
+    }
+
+    /**
+     * @return the initializer of the benchmarked file system
+     */
+    public FSTestInitializer getTestInitializer() {
+        return m_testInitializer;
+    }
+
+    /**
+     * @return the benchmarked file system
+     */
+    public FSFileSystem<?> getFileSystem() {
+        return m_testInitializer.getFileSystem();
+    }
+}
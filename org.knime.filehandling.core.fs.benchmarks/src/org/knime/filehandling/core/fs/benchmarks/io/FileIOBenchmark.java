@@ -0,0 +1,304 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.fs.benchmarks.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.filehandling.core.connections.FSFiles;
+import org.knime.filehandling.core.connections.FSPath;
+import org.knime.filehandling.core.fs.benchmarks.FSBenchmarkState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks reading and writing file content through the streams and channels of a file system: many small files,
+ * large files that are read or written sequentially and random reads of a seekable byte channel. The size parameters
+ * are part of the JSON result, hence the throughput can be derived from the average time per operation.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+@BenchmarkMode(Mode.AverageTime)
+public class FileIOBenchmark {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static byte[] randomBytes(final int size) {
+        final var bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Holds a set of existing small files as well as a directory to create new small files in.
+     */
+    public static class SmallFiles extends FSBenchmarkState {
+
+        /** The size of each small file in bytes. */
+        @Param({"1024"})
+        public int m_fileSize;
+
+        /** The number of existing files that are read round-robin. */
+        @Param({"100"})
+        public int m_numberOfFiles;
+
+        private byte[] m_content;
+
+        private final List<FSPath> m_existingFiles = new ArrayList<>();
+
+        private FSPath m_createDir;
+
+        private int m_nextFileToRead;
+
+        private int m_nextFileToCreate;
+
+        @Override
+        protected void setup() throws IOException {
+            m_content = randomBytes(m_fileSize);
+            final var readDir = Files.createDirectory(getTestInitializer().makePath("read"));
+            for (var i = 0; i < m_numberOfFiles; i++) {
+                m_existingFiles.add((FSPath)Files.write(readDir.resolve("file-" + i), m_content));
+            }
+            m_createDir = getTestInitializer().makePath("create");
+            Files.createDirectory(m_createDir);
+        }
+
+        /**
+         * Removes the files created during the last iteration, so that every iteration starts with an empty
+         * directory.
+         *
+         * @throws IOException if the files could not be removed
+         */
+        @TearDown(Level.Iteration)
+        public void deleteCreatedFiles() throws IOException {
+            FSFiles.deleteRecursively(m_createDir);
+            Files.createDirectory(m_createDir);
+            m_nextFileToCreate = 0;
+        }
+
+        FSPath nextFileToRead() {
+            final var file = m_existingFiles.get(m_nextFileToRead);
+            m_nextFileToRead = (m_nextFileToRead + 1) % m_existingFiles.size();
+            return file;
+        }
+
+        FSPath nextFileToCreate() {
+            return (FSPath)m_createDir.resolve("file-" + m_nextFileToCreate++);
+        }
+    }
+
+    /**
+     * Holds an existing large file as well as the path to write a large file to.
+     */
+    public static class LargeFile extends FSBenchmarkState {
+
+        /** The size of the large file in MiB. */
+        @Param({"64"})
+        public int m_fileSizeInMiB;
+
+        private byte[] m_buffer;
+
+        private FSPath m_existingFile;
+
+        private FSPath m_fileToWrite;
+
+        @Override
+        protected void setup() throws IOException {
+            m_buffer = randomBytes(BUFFER_SIZE);
+            m_existingFile = getTestInitializer().makePath("large-read");
+            writeLargeFile(m_existingFile, m_buffer, getFileSize());
+            m_fileToWrite = getTestInitializer().makePath("large-write");
+        }
+
+        long getFileSize() {
+            return toBytes(m_fileSizeInMiB);
+        }
+    }
+
+    /**
+     * Holds an open channel of a file that is read at random positions.
+     */
+    public static class RandomAccess extends FSBenchmarkState {
+
+        /** The size of the file in MiB. */
+        @Param({"64"})
+        public int m_fileSizeInMiB;
+
+        /** The number of bytes read at each position. */
+        @Param({"4096"})
+        public int m_readSize;
+
+        private final Random m_random = new Random(0);
+
+        private ByteBuffer m_buffer;
+
+        private SeekableByteChannel m_channel;
+
+        private long m_maxPosition;
+
+        @Override
+        protected void setup() throws IOException {
+            final var file = getTestInitializer().makePath("random-access");
+            writeLargeFile(file, randomBytes(BUFFER_SIZE), toBytes(m_fileSizeInMiB));
+            m_buffer = ByteBuffer.allocate(m_readSize);
+            m_maxPosition = toBytes(m_fileSizeInMiB) - m_readSize;
+            m_channel = Files.newByteChannel(file, StandardOpenOption.READ);
+        }
+
+        @Override
+        protected void tearDown() throws IOException {
+            m_channel.close();
+        }
+    }
+
+    private static long toBytes(final int mebibytes) {
+        return mebibytes * 1024L * 1024L;
+    }
+
+    private static void writeLargeFile(final FSPath file, final byte[] buffer, final long size) throws IOException {
+        try (final OutputStream out = Files.newOutputStream(file)) {
+            for (long written = 0; written < size; written += buffer.length) {
+                out.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Creates a new small file and writes its content.
+     *
+     * @param state the small files
+     * @return the created file
+     * @throws IOException if the file could not be written
+     */
+    @Benchmark
+    public FSPath createSmallFile(final SmallFiles state) throws IOException {
+        return (FSPath)Files.write(state.nextFileToCreate(), state.m_content, StandardOpenOption.CREATE_NEW);
+    }
+
+    /**
+     * Reads the complete content of an existing small file.
+     *
+     * @param state the small files
+     * @return the content
+     * @throws IOException if the file could not be read
+     */
+    @Benchmark
+    public byte[] readSmallFile(final SmallFiles state) throws IOException {
+        return Files.readAllBytes(state.nextFileToRead());
+    }
+
+    /**
+     * Writes a large file sequentially, overwriting the file written by the previous invocation.
+     *
+     * @param state the large file
+     * @throws IOException if the file could not be written
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void writeLargeFileSequentially(final LargeFile state) throws IOException {
+        writeLargeFile(state.m_fileToWrite, state.m_buffer, state.getFileSize());
+    }
+
+    /**
+     * Reads a large file sequentially.
+     *
+     * @param state the large file
+     * @return the number of bytes read
+     * @throws IOException if the file could not be read
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long readLargeFileSequentially(final LargeFile state) throws IOException {
+        final var buffer = new byte[BUFFER_SIZE];
+        long read = 0;
+        try (final InputStream in = Files.newInputStream(state.m_existingFile)) {
+            for (int n = in.read(buffer); n >= 0; n = in.read(buffer)) {
+                read += n;
+            }
+        }
+        return read;
+    }
+
+    /**
+     * Reads a block at a random position of an open channel.
+     *
+     * @param state the open channel
+     * @return the number of bytes read
+     * @throws IOException if the channel could not be read
+     */
+    @Benchmark
+    public int readRandomPosition(final RandomAccess state) throws IOException {
+        final var position = (long)(state.m_random.nextDouble() * state.m_maxPosition);
+        state.m_channel.position(position);
+        state.m_buffer.clear();
+        var read = 0;
+        while (state.m_buffer.hasRemaining()) {
+            final var n = state.m_channel.read(state.m_buffer);
+            if (n < 0) {
+                break;
+            }
+            read += n;
+        }
+        return read;
+    }
+}
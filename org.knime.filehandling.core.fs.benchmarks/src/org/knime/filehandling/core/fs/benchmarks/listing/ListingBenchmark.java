@@ -0,0 +1,167 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.fs.benchmarks.listing;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.knime.filehandling.core.connections.FSPath;
+import org.knime.filehandling.core.connections.base.BaseFileSystem;
+import org.knime.filehandling.core.fs.benchmarks.FSBenchmarkState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks listing a directory and reading the attributes of its entries, once as answered by the attributes cache
+ * and once with the cache entries removed beforehand, i.e. as answered by the backing storage.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+@BenchmarkMode(Mode.AverageTime)
+public class ListingBenchmark {
+
+    /**
+     * Holds a directory with a configurable number of empty files.
+     */
+    public static class Directory extends FSBenchmarkState {
+
+        /** The number of files in the directory. */
+        @Param({"10", "1000", "100000"})
+        public int m_numberOfEntries;
+
+        private FSPath m_directory;
+
+        private final List<FSPath> m_entries = new ArrayList<>();
+
+        @Override
+        protected void setup() throws IOException {
+            m_directory = getTestInitializer().makePath("listing");
+            Files.createDirectory(m_directory);
+            for (var i = 0; i < m_numberOfEntries; i++) {
+                m_entries.add((FSPath)Files.createFile(m_directory.resolve(String.format("file-%06d", i))));
+            }
+        }
+
+        void removeFromAttributeCache(final Path path) {
+            if (getFileSystem() instanceof BaseFileSystem<?> baseFileSystem) {
+                baseFileSystem.removeFromAttributeCache(path);
+            }
+        }
+    }
+
+    /**
+     * Lists the directory.
+     *
+     * @param directory the directory
+     * @param blackhole consumes the entries
+     * @throws IOException if the directory could not be listed
+     */
+    @Benchmark
+    public void list(final Directory directory, final Blackhole blackhole) throws IOException {
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(directory.m_directory)) {
+            for (final Path entry : stream) {
+                blackhole.consume(entry);
+            }
+        }
+    }
+
+    /**
+     * Lists the directory and reads the attributes of each entry. Listings usually populate the attributes cache,
+     * hence the attributes are typically answered by the cache.
+     *
+     * @param directory the directory
+     * @param blackhole consumes the attributes
+     * @throws IOException if the directory could not be listed
+     */
+    @Benchmark
+    public void listAndReadAttributes(final Directory directory, final Blackhole blackhole) throws IOException {
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(directory.m_directory)) {
+            for (final Path entry : stream) {
+                blackhole.consume(Files.readAttributes(entry, BasicFileAttributes.class));
+            }
+        }
+    }
+
+    /**
+     * Reads the attributes of each entry, which are answered by the attributes cache after the first invocation.
+     *
+     * @param directory the directory
+     * @param blackhole consumes the attributes
+     * @throws IOException if the attributes could not be read
+     */
+    @Benchmark
+    public void readAttributesCached(final Directory directory, final Blackhole blackhole) throws IOException {
+        for (final FSPath entry : directory.m_entries) {
+            blackhole.consume(Files.readAttributes(entry, BasicFileAttributes.class));
+        }
+    }
+
+    /**
+     * Reads the attributes of each entry after removing them from the attributes cache.
+     *
+     * @param directory the directory
+     * @param blackhole consumes the attributes
+     * @throws IOException if the attributes could not be read
+     */
+    @Benchmark
+    public void readAttributesUncached(final Directory directory, final Blackhole blackhole) throws IOException {
+        for (final FSPath entry : directory.m_entries) {
+            directory.removeFromAttributeCache(entry);
+            blackhole.consume(Files.readAttributes(entry, BasicFileAttributes.class));
+        }
+    }
+}
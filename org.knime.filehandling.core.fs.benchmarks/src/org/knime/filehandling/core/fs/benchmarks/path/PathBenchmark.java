@@ -0,0 +1,224 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.fs.benchmarks.path;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.knime.filehandling.core.connections.FSFiles;
+import org.knime.filehandling.core.connections.FSPath;
+import org.knime.filehandling.core.fs.benchmarks.FSBenchmarkState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks path-heavy workloads, e.g. processing the result of a large listing. The {@code *Reparsed} and
+ * {@code *ByString} variants mimic the former string based implementations of the path operations and serve as
+ * baseline for the structural implementations in {@link org.knime.filehandling.core.connections.base.UnixStylePath}.
+ * None of the benchmarks accesses the file system itself.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+@BenchmarkMode(Mode.AverageTime)
+public class PathBenchmark {
+
+    /**
+     * Holds a listing-like collection of paths.
+     */
+    public static class Listing extends FSBenchmarkState {
+
+        /** The number of paths in the listing. */
+        @Param({"1000", "100000"})
+        public int m_numberOfPaths;
+
+        /** The number of directories per path. */
+        @Param({"5"})
+        public int m_depth;
+
+        private List<FSPath> m_paths;
+
+        private List<String> m_pathStrings;
+
+        @Override
+        protected void setup() {
+            final var root = (FSPath)getTestInitializer().getTestCaseScratchDir().toAbsolutePath();
+            m_paths = new ArrayList<>(m_numberOfPaths);
+            m_pathStrings = new ArrayList<>(m_numberOfPaths);
+            for (var i = 0; i < m_numberOfPaths; i++) {
+                var path = root;
+                for (var d = 0; d < m_depth; d++) {
+                    // few distinct directories with many files each, as in a typical bucket listing
+                    path = (FSPath)path.resolve("dir-" + ((i >> (2 * d)) % 4));
+                }
+                path = (FSPath)path.resolve("file-" + (m_numberOfPaths - i) + ".csv");
+                m_paths.add(path);
+                m_pathStrings.add(path.toString());
+            }
+        }
+    }
+
+    /**
+     * Parses the path strings.
+     *
+     * @param listing the listing
+     * @param blackhole consumes the results
+     */
+    @Benchmark
+    public void parse(final Listing listing, final Blackhole blackhole) {
+        final var fs = listing.getFileSystem();
+        for (final String pathString : listing.m_pathStrings) {
+            blackhole.consume(fs.getPath(pathString));
+        }
+    }
+
+    /**
+     * Walks up to the root of each path.
+     *
+     * @param listing the listing
+     * @param blackhole consumes the results
+     */
+    @Benchmark
+    public void getParents(final Listing listing, final Blackhole blackhole) {
+        for (final FSPath path : listing.m_paths) {
+            for (Path parent = path.getParent(); parent != null; parent = parent.getParent()) {
+                blackhole.consume(parent);
+            }
+        }
+    }
+
+    /**
+     * Walks up to the root of each path by parsing the string representation of the parents.
+     *
+     * @param listing the listing
+     * @param blackhole consumes the results
+     */
+    @Benchmark
+    public void getParentsReparsed(final Listing listing, final Blackhole blackhole) {
+        final var fs = listing.getFileSystem();
+        for (final FSPath path : listing.m_paths) {
+            for (var i = path.getNameCount() - 1; i > 0; i--) {
+                blackhole.consume(fs.getPath("/" + path.subpath(0, i)));
+            }
+        }
+    }
+
+    /**
+     * Retrieves the file name of each path and resolves it against the parent.
+     *
+     * @param listing the listing
+     * @param blackhole consumes the results
+     */
+    @Benchmark
+    public void resolveSiblings(final Listing listing, final Blackhole blackhole) {
+        for (final FSPath path : listing.m_paths) {
+            blackhole.consume(path.resolveSibling(path.getFileName()));
+        }
+    }
+
+    /**
+     * Normalizes each path.
+     *
+     * @param listing the listing
+     * @param blackhole consumes the results
+     */
+    @Benchmark
+    public void normalize(final Listing listing, final Blackhole blackhole) {
+        for (final FSPath path : listing.m_paths) {
+            blackhole.consume(path.normalize());
+        }
+    }
+
+    /**
+     * Sorts the listing via {@link FSFiles#sortPathsLexicographically(List)}.
+     *
+     * @param listing the listing
+     * @return the sorted paths
+     */
+    @Benchmark
+    public List<FSPath> sort(final Listing listing) {
+        final List<FSPath> paths = new ArrayList<>(listing.m_paths);
+        FSFiles.sortPathsLexicographically(paths);
+        return paths;
+    }
+
+    /**
+     * Sorts the listing by comparing freshly created string representations.
+     *
+     * @param listing the listing
+     * @return the sorted paths
+     */
+    @Benchmark
+    public List<FSPath> sortByString(final Listing listing) {
+        final List<FSPath> paths = new ArrayList<>(listing.m_paths);
+        paths.sort((p1, p2) -> String.join("/", p1.stringStream().toList())
+            .compareTo(String.join("/", p2.stringStream().toList())));
+        return paths;
+    }
+
+    /**
+     * Collects the parents of all paths in a hash set.
+     *
+     * @param listing the listing
+     * @return the distinct parents
+     */
+    @Benchmark
+    public Set<Path> distinctParents(final Listing listing) {
+        final Set<Path> parents = new HashSet<>();
+        for (final FSPath path : listing.m_paths) {
+            parents.add(path.getParent());
+        }
+        return parents;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.fs.benchmarks.tree;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.filehandling.core.connections.FSFiles;
+import org.knime.filehandling.core.connections.FSPath;
+import org.knime.filehandling.core.fs.benchmarks.FSBenchmarkState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Benchmarks recursively copying and deleting a directory tree via {@link FSFiles#copyRecursively(Path, Path,
+ * java.nio.file.CopyOption...)} and {@link FSFiles#deleteRecursively(Path)}. The trees are (re-)created before each
+ * invocation, which is not part of the measurement.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TreeBenchmark {
+
+    /**
+     * Holds a directory tree.
+     */
+    public static class Tree extends FSBenchmarkState {
+
+        /** The number of sub directories per directory. */
+        @Param({"4"})
+        public int m_fanOut;
+
+        /** The number of directory levels below the root of the tree. */
+        @Param({"3"})
+        public int m_depth;
+
+        /** The number of files per directory. */
+        @Param({"10"})
+        public int m_filesPerDirectory;
+
+        /** The size of each file in bytes. */
+        @Param({"1024"})
+        public int m_fileSize;
+
+        private byte[] m_content;
+
+        private FSPath m_source;
+
+        private FSPath m_copyTarget;
+
+        private FSPath m_toDelete;
+
+        @Override
+        protected void setup() throws IOException {
+            m_content = new byte[m_fileSize];
+            new Random(0).nextBytes(m_content);
+            m_source = getTestInitializer().makePath("source");
+            createTree(m_source, m_depth);
+            m_copyTarget = getTestInitializer().makePath("copy");
+            m_toDelete = getTestInitializer().makePath("delete");
+        }
+
+        private void createTree(final Path dir, final int remainingDepth) throws IOException {
+            Files.createDirectory(dir);
+            for (var i = 0; i < m_filesPerDirectory; i++) {
+                Files.write(dir.resolve("file-" + i), m_content);
+            }
+            if (remainingDepth > 0) {
+                for (var i = 0; i < m_fanOut; i++) {
+                    createTree(dir.resolve("dir-" + i), remainingDepth - 1);
+                }
+            }
+        }
+
+        /**
+         * Removes the copy of the previous invocation and creates the tree to delete.
+         *
+         * @throws IOException if the trees could not be prepared
+         */
+        @Setup(Level.Invocation)
+        public void prepareTrees() throws IOException {
+            if (FSFiles.exists(m_copyTarget)) {
+                FSFiles.deleteRecursively(m_copyTarget);
+            }
+            if (!FSFiles.exists(m_toDelete)) {
+                createTree(m_toDelete, m_depth);
+            }
+        }
+    }
+
+    /**
+     * Copies the tree.
+     *
+     * @param tree the tree
+     * @throws IOException if the tree could not be copied
+     */
+    @Benchmark
+    public void copyRecursively(final Tree tree) throws IOException {
+        FSFiles.copyRecursively(tree.m_source, tree.m_copyTarget);
+    }
+
+    /**
+     * Deletes the tree.
+     *
+     * @param tree the tree
+     * @throws IOException if the tree could not be deleted
+     */
+    @Benchmark
+    public void deleteRecursively(final Tree tree) throws IOException {
+        FSFiles.deleteRecursively(tree.m_toDelete);
+    }
+}
@@ -53,6 +53,8 @@
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystemException;
 import java.nio.file.Files;
@@ -390,6 +392,53 @@ public void isWorkflow() throws IOException {
         assertTrue(fs.isWorkflow(fs.getPath("/other-workflow")));
     }
 
+    @Test
+    public void isWorkflowAfterModification() throws IOException {
+        final LocalRelativeToFileSystem fs = getMountpointRelativeFS();
+        final LocalWorkflowAwarePath folder = fs.getPath("/some-folder");
+        final LocalWorkflowAwarePath file = fs.getPath("/some-folder/some-file.txt");
+        Files.createDirectory(folder);
+        Files.createFile(file);
+        assertFalse(fs.isWorkflow(folder));
+        assertFalse(fs.isPartOfWorkflow(file));
+
+        // turning the folder into a workflow must not be hidden by the cached classification
+        Files.createFile(fs.getPath("/some-folder/workflow.knime"));
+        assertTrue(fs.isWorkflow(folder));
+        assertTrue(fs.isPartOfWorkflow(file));
+
+        Files.delete(folder);
+        assertFalse(fs.isWorkflow(folder));
+        assertFalse(fs.isPartOfWorkflow(file));
+    }
+
+    @Test
+    public void fileChannelMountpointRelative() throws IOException {
+        final LocalRelativeToFileSystem fs = getMountpointRelativeFS();
+        final LocalWorkflowAwarePath path = fs.getPath("/some-file.bin");
+        final byte[] content = "some content".getBytes(StandardCharsets.UTF_8);
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(content));
+        }
+        assertEquals(content.length, Files.size(m_mountpointRoot.resolve("some-file.bin")));
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var mapped = channel.map(MapMode.READ_ONLY, 0, channel.size());
+            final var read = new byte[content.length];
+            mapped.get(read);
+            assertEquals(new String(content, StandardCharsets.UTF_8), new String(read, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void fileChannelOnWorkflowFails() throws IOException {
+        final LocalRelativeToFileSystem fs = getMountpointRelativeFS();
+        try (var channel = FileChannel.open(fs.getPath("/other-workflow"), StandardOpenOption.READ)) {
+            fail("Workflows cannot be opened as file channel");
+        }
+    }
+
     @Test
     public void isWorkflowRelative() throws IOException {
         assertTrue(getWorkflowRelativeFS().isWorkflowRelativeFileSystem());
@@ -536,6 +585,33 @@ public void relativizeWorkflowRelative() throws IOException {
             fs.getWorkingDirectory().relativize(fs.getPath("/some-directory/some-workflow")));
     }
 
+    @Test
+    public void sharedPathPartsMatchParsedPaths() throws IOException {
+        final LocalRelativeToFileSystem fs = getMountpointRelativeFS();
+        final LocalWorkflowAwarePath path = fs.getPath("/some-directory/./other/../some-workflow");
+
+        assertEquals(fs.getPath("/some-directory/./other/.."), path.getParent());
+        assertEquals(fs.getPath("some-workflow"), path.getFileName());
+        assertEquals(fs.getPath("./other"), path.subpath(1, 3));
+        assertEquals(fs.getPath("/some-directory/some-workflow"), path.normalize());
+        assertEquals("/some-directory/some-workflow", path.normalize().toString());
+        assertEquals(fs.getPath("/some-directory/some-workflow/a/b"), path.normalize().resolve("a/b"));
+        assertEquals(fs.getPath("a/b"), fs.getPath("").resolve("a/b"));
+        assertEquals(path.normalize().hashCode(), fs.getPath("/some-directory/some-workflow").hashCode());
+    }
+
+    @Test
+    public void compareToMatchesStringComparison() throws IOException {
+        final LocalRelativeToFileSystem fs = getMountpointRelativeFS();
+        final String[] pathStrings = {"/", "/a", "/a/b", "/a-b", "/a.b", "/a/b-c", "/ab", "/a0", "/b", "/a/b/c", "/A"};
+        for (final String first : pathStrings) {
+            for (final String second : pathStrings) {
+                assertEquals(first + " vs. " + second, Integer.signum(first.compareTo(second)),
+                    Integer.signum(fs.getPath(first).compareTo(fs.getPath(second))));
+            }
+        }
+    }
+
     @Test
     public void absolutWorkflowRelative() throws IOException {
         final LocalRelativeToFileSystem fs = getWorkflowRelativeFS();
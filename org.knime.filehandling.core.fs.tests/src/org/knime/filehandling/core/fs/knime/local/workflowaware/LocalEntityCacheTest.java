@@ -0,0 +1,128 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.fs.knime.local.workflowaware;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.workflow.WorkflowPersistor;
+
+/**
+ * Tests the invalidation of the {@link LocalEntityCache}.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+public class LocalEntityCacheTest {
+
+    private Path m_tempDir;
+
+    private Path m_folder;
+
+    private Path m_workflow;
+
+    private LocalEntityCache m_cache;
+
+    @Before
+    public void setup() throws IOException {
+        m_tempDir = Files.createTempDirectory("local_entity_cache_test").toAbsolutePath().normalize();
+        m_folder = m_tempDir.resolve("folder");
+        m_workflow = m_folder.resolve("workflow");
+        Files.createDirectories(m_workflow);
+        Files.createFile(m_workflow.resolve(WorkflowPersistor.WORKFLOW_FILE));
+        m_cache = new LocalEntityCache();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(m_tempDir.toFile());
+    }
+
+    @Test
+    public void invalidating_a_cached_folder_invalidates_its_descendants() throws IOException {
+        assertTrue(m_cache.get(m_folder).isDirectory());
+        assertTrue(m_cache.get(m_workflow).isWorkflowDirectory());
+
+        FileUtils.deleteDirectory(m_folder.toFile());
+        m_cache.invalidate(m_folder);
+
+        assertFalse(m_cache.get(m_workflow).exists());
+    }
+
+    @Test
+    public void invalidating_an_uncached_folder_invalidates_its_descendants() throws IOException {
+        // only the workflow is cached, e.g. because the entry of the folder has already expired
+        assertTrue(m_cache.get(m_workflow).isWorkflowDirectory());
+
+        FileUtils.deleteDirectory(m_folder.toFile());
+        m_cache.invalidate(m_folder);
+
+        assertFalse(m_cache.get(m_workflow).exists());
+    }
+
+    @Test
+    public void invalidating_a_file_invalidates_its_parent() throws IOException {
+        final var workflowFile = m_workflow.resolve(WorkflowPersistor.WORKFLOW_FILE);
+        assertTrue(m_cache.get(workflowFile).exists());
+        assertTrue(m_cache.get(m_workflow).isWorkflowDirectory());
+
+        Files.delete(workflowFile);
+        m_cache.invalidate(workflowFile);
+
+        assertFalse(m_cache.get(workflowFile).exists());
+        assertFalse(m_cache.get(m_workflow).isWorkflowDirectory());
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 13, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.fs.knime.local.workflowaware;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.knime.core.node.workflow.WorkflowPersistor;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Bounded cache that classifies folders in the local file system as workflows, components, meta nodes or workflow
+ * groups. The classification requires several file system probes per folder and the workflow-aware file system needs
+ * it for the path itself and all its ancestors on almost every operation. Entries expire after a short time to live,
+ * so that changes made outside of the file system (e.g. by the KNIME Explorer) become visible, and are invalidated
+ * explicitly when the file system itself modifies a path.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+final class LocalEntityCache {
+
+    private static final long TIME_TO_LIVE_MS = 1000;
+
+    private static final long MAXIMUM_SIZE = 10_000;
+
+    /**
+     * Result of probing a path in the local file system.
+     *
+     * @param exists whether the path exists
+     * @param isDirectory whether the path is a directory
+     * @param hasWorkflowFile whether the directory contains a workflow.knime file
+     * @param hasTemplateFile whether the directory contains a template.knime file
+     */
+    record LocalEntity(boolean exists, boolean isDirectory, boolean hasWorkflowFile, boolean hasTemplateFile) {
+
+        private static final LocalEntity NON_EXISTING = new LocalEntity(false, false, false, false);
+
+        private static final LocalEntity DATA = new LocalEntity(true, false, false, false);
+
+        /**
+         * @return {@code true} if the path is a workflow, component or meta node directory
+         */
+        boolean isWorkflowDirectory() {
+            return hasWorkflowFile || hasTemplateFile;
+        }
+    }
+
+    private final Cache<Path, LocalEntity> m_cache = CacheBuilder.newBuilder() //
+        .maximumSize(MAXIMUM_SIZE) //
+        .expireAfterWrite(TIME_TO_LIVE_MS, TimeUnit.MILLISECONDS) //
+        .build();
+
+    /**
+     * Returns the (possibly cached) classification of the provided local path.
+     *
+     * @param localPath absolute and normalized path in the local file system
+     * @return the {@link LocalEntity} describing the path
+     */
+    LocalEntity get(final Path localPath) {
+        try {
+            return m_cache.get(localPath, () -> probe(localPath));
+        } catch (ExecutionException ex) {
+            // probe doesn't throw checked exceptions
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private static LocalEntity probe(final Path localPath) {
+        final BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(localPath, BasicFileAttributes.class);
+        } catch (IOException ex) { // NOSONAR same semantics as Files.exists
+            return LocalEntity.NON_EXISTING;
+        }
+        if (!attributes.isDirectory()) {
+            return LocalEntity.DATA;
+        }
+        return new LocalEntity(true, true, //
+            Files.exists(localPath.resolve(WorkflowPersistor.WORKFLOW_FILE)), //
+            Files.exists(localPath.resolve(WorkflowPersistor.TEMPLATE_FILE)));
+    }
+
+    /**
+     * Invalidates the provided path and its parent (creating or deleting a workflow.knime or template.knime file
+     * changes the classification of the parent). The descendants are invalidated unless the path was cached as a
+     * file, because deleting or moving a folder affects them, even if the folder's own entry has already expired. This
+     * keeps the invalidation constant time for the common case of writing files.
+     *
+     * @param localPath absolute and normalized path in the local file system
+     */
+    void invalidate(final Path localPath) {
+        final var parent = localPath.getParent();
+        if (parent != null) {
+            m_cache.invalidate(parent);
+        }
+        final LocalEntity removed = m_cache.asMap().remove(localPath);
+        if (removed == null || removed.isDirectory()) {
+            final List<Path> descendants = m_cache.asMap().keySet().stream()//
+                .filter(key -> key.startsWith(localPath))//
+                .collect(Collectors.toList());
+            m_cache.invalidateAll(descendants);
+        }
+    }
+
+    /**
+     * Invalidates all cached entries.
+     */
+    void invalidateAll() {
+        m_cache.invalidateAll();
+    }
+}
@@ -93,6 +93,11 @@ public abstract class LocalWorkflowAwareFileSystem extends BaseFileSystem<LocalW
      */
     private final Path m_localRoot;
 
+    /**
+     * Classification of local folders shared by the workflow checks of all operations.
+     */
+    private final LocalEntityCache m_entityCache = new LocalEntityCache();
+
     /**
      * Default constructor.
      *
@@ -180,6 +185,14 @@ public boolean isWorkflow(final LocalWorkflowAwarePath path) {
      * @return an absolute path in the local file system (default FS provider) that corresponds to this path.
      */
     public Path toLocalPath(final LocalWorkflowAwarePath path) {
+        if (path.getFileSystem() != this) { // NOSONAR
+            return createLocalPath(path);
+        }
+        // the mapping is kept in the path so that it is only computed once per path instance
+        return path.toLocalPath();
+    }
+
+    Path createLocalPath(final LocalWorkflowAwarePath path) {
         final var absolutePath = (LocalWorkflowAwarePath)path.toAbsolutePath().normalize();
         return Paths.get(m_localRoot.toString(), absolutePath.stringStream().toArray(String[]::new));
     }
@@ -195,14 +208,15 @@ public Path toLocalPath(final LocalWorkflowAwarePath path) {
     protected Optional<Entity> getEntity(final LocalWorkflowAwarePath path) throws IOException {
         // throws NoSuchFileException if it points into a workflow
         final var localPath = toLocalPathWithAccessibilityCheck(path);
-        if (!Files.exists(localPath)) {
+        final var localEntity = m_entityCache.get(localPath);
+        if (!localEntity.exists()) {
             return Optional.empty();
-        } else if (!Files.isDirectory(localPath)) {
+        } else if (!localEntity.isDirectory()) {
             return Optional.of(Entity.DATA);
         } else {
             // directories can be either workflows, meta nodes, components or workflow groups
-            if (hasWorkflowFile(localPath)) {
-                if (hasTemplateFile(localPath)) {
+            if (localEntity.hasWorkflowFile()) {
+                if (localEntity.hasTemplateFile()) {
                     final Entity entity = getTemplateEntity(localPath);
                     return Optional.of(entity);
                 } else {
@@ -214,14 +228,6 @@ protected Optional<Entity> getEntity(final LocalWorkflowAwarePath path) throws I
         }
     }
 
-    private static boolean hasTemplateFile(final Path localPath) {
-        return Files.exists(localPath.resolve(WorkflowPersistor.TEMPLATE_FILE));
-    }
-
-    private static boolean hasWorkflowFile(final Path localPath) {
-        return Files.exists(localPath.resolve(WorkflowPersistor.WORKFLOW_FILE));
-    }
-
     private static Entity getTemplateEntity(final Path localPath) throws IOException {
         if (isComponent(localPath.resolve(WorkflowPersistor.TEMPLATE_FILE))) {
             return Entity.COMPONENT;
@@ -249,12 +255,7 @@ private static boolean isComponent(final Path pathToTemplateFile) throws IOExcep
      * @return {@code true} when the path contains a workflow
      */
     protected boolean isLocalWorkflowDirectory(final Path localPath) {
-        if (!Files.exists(localPath)) {
-            return false;
-        }
-
-        return Files.exists(localPath.resolve(WorkflowPersistor.TEMPLATE_FILE))
-            || Files.exists(localPath.resolve(WorkflowPersistor.WORKFLOW_FILE));
+        return m_entityCache.get(localPath).isWorkflowDirectory();
     }
 
     /**
@@ -264,13 +265,18 @@ protected boolean isLocalWorkflowDirectory(final Path localPath) {
      * @return {@code true} if given path or a parent path is part of a workflow
      */
     public boolean isPartOfWorkflow(final LocalWorkflowAwarePath path) {
-        var current = (LocalWorkflowAwarePath)path.toAbsolutePath().normalize();
+        final var absolutePath = (LocalWorkflowAwarePath)path.toAbsolutePath().normalize();
+        if (!isInMountPoint(absolutePath)) {
+            return false;
+        }
 
-        while (isInMountPoint(current)) {
-            if (isWorkflow(current)) {
+        // walk the local ancestors directly instead of mapping every ancestor to the local file system
+        var current = toLocalPath(absolutePath);
+        while (current != null && current.startsWith(m_localRoot)) {
+            if (isLocalWorkflowDirectory(current)) {
                 return true;
             } else {
-                current = (LocalWorkflowAwarePath)current.getParent();
+                current = current.getParent();
             }
         }
 
@@ -345,8 +351,18 @@ protected boolean existsWithAccessibilityCheck(final LocalWorkflowAwarePath path
         return isPathAccessible(path) && Files.exists(localPath);
     }
 
+    /**
+     * Invalidates the cached classification of the given path, its parent and its descendants. Must be called after
+     * the path has been modified.
+     *
+     * @param path workflow-aware file system path that has been modified
+     */
+    void invalidateEntityCache(final LocalWorkflowAwarePath path) {
+        m_entityCache.invalidate(toLocalPath(path));
+    }
+
     @Override
     protected void prepareClose() {
-        // Nothing to do
+        m_entityCache.invalidateAll();
     }
 }
\ No newline at end of file
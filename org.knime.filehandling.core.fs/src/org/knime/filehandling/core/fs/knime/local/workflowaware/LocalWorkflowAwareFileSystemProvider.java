@@ -54,6 +54,7 @@
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.AccessMode;
 import java.nio.file.CopyOption;
@@ -136,6 +137,11 @@ private Optional<Entity> getEntity(final LocalWorkflowAwarePath path) throws IOE
         return getFileSystemInternal().getEntity(path);
     }
 
+    @SuppressWarnings("resource")// the file system has to stay open for further use
+    private void invalidateEntityCache(final LocalWorkflowAwarePath path) {
+        getFileSystemInternal().invalidateEntityCache(path);
+    }
+
     @Override
     protected OutputStream newOutputStreamInternal(final LocalWorkflowAwarePath path, final OpenOption... options)
         throws IOException {
@@ -144,7 +150,9 @@ protected OutputStream newOutputStreamInternal(final LocalWorkflowAwarePath path
             return NullOutputStream.NULL_OUTPUT_STREAM;
         }
         checkSupport(path, Operation.NEW_OUTPUT_STREAM);
-        return Files.newOutputStream(toLocalPathWithAccessibilityCheck(path), options);
+        final var out = Files.newOutputStream(toLocalPathWithAccessibilityCheck(path), options);
+        invalidateEntityCache(path);
+        return out;
     }
 
     @Override
@@ -162,11 +170,16 @@ protected boolean exists(final LocalWorkflowAwarePath path) throws IOException {
     @Override
     protected void deleteInternal(final LocalWorkflowAwarePath path) throws IOException {
         if (isWorkflow(path)) {
-            FSFiles.deleteRecursively(toLocalPathWithAccessibilityCheck(path));
+            try {
+                FSFiles.deleteRecursively(toLocalPathWithAccessibilityCheck(path));
+            } finally {
+                invalidateEntityCache(path);
+            }
         } else if (isPartOfWorkflow(path)) {
             throw new IOException(path.toString()  + " points to/into a workflow. Cannot delete data from a workflow");
         } else {
             Files.delete(toLocalPathWithAccessibilityCheck(path));
+            invalidateEntityCache(path);
         }
     }
 
@@ -174,6 +187,30 @@ protected void deleteInternal(final LocalWorkflowAwarePath path) throws IOExcept
     protected SeekableByteChannel newByteChannelInternal(final LocalWorkflowAwarePath path,
         final Set<? extends OpenOption> options, final FileAttribute<?>... attrs) throws IOException {
 
+        if (isIgnoredChannel(path, options)) {
+            return new NullByteChannel();
+        }
+        return openFileChannel(path, options);
+    }
+
+    @Override
+    protected FileChannel newFileChannelInternal(final LocalWorkflowAwarePath path,
+        final Set<? extends OpenOption> options, final FileAttribute<?>... attrs) throws IOException {
+
+        if (isIgnoredChannel(path, options)) {
+            // writes are silently ignored for byte channels but we can't provide a FileChannel that discards them
+            throw new FileSystemException(path.toString(), null, "Path is reserved for internal use");
+        }
+        return openFileChannel(path, options);
+    }
+
+    /**
+     * Checks whether a channel can be opened for the given path.
+     *
+     * @return {@code true} if the channel writes to the metainfo file and should silently discard all writes
+     */
+    private boolean isIgnoredChannel(final LocalWorkflowAwarePath path, final Set<? extends OpenOption> options)
+        throws IOException {
         if (isPartOfWorkflow(path)) {
             throw new IOException(
                 path.toString() + " points to/into a workflow. Workflows cannot be opened for reading/writing");
@@ -184,14 +221,26 @@ protected SeekableByteChannel newByteChannelInternal(final LocalWorkflowAwarePat
 
         // AP-20346 we silently ignore writes to workflowset.meta
         if (isReservedForMetainfoFile(path) && options.contains(StandardOpenOption.WRITE)) {
-            return new NullByteChannel();
+            return true;
         }
 
         checkSupport(path, options.contains(StandardOpenOption.READ)//
             ? Operation.NEW_INPUT_STREAM//
             : Operation.NEW_OUTPUT_STREAM);
+        return false;
+    }
 
-        return Files.newByteChannel(toLocalPathWithAccessibilityCheck(path), options);
+    /**
+     * Opens a {@link FileChannel} directly on the local file, which allows callers to use memory mapping and zero-copy
+     * transfers just like with the local file system.
+     */
+    private FileChannel openFileChannel(final LocalWorkflowAwarePath path, final Set<? extends OpenOption> options)
+        throws IOException {
+        final var channel = FileChannel.open(toLocalPathWithAccessibilityCheck(path), options);
+        if (options.contains(StandardOpenOption.WRITE)) {
+            invalidateEntityCache(path);
+        }
+        return channel;
     }
 
     @Override
@@ -209,6 +258,7 @@ protected void createDirectoryInternal(final LocalWorkflowAwarePath dir, final F
 
         checkSupport(dir, Operation.CREATE_FOLDER);
         Files.createDirectory(toLocalPathWithAccessibilityCheck(checkCastAndAbsolutizePath(dir)), attrs);
+        invalidateEntityCache(dir);
     }
 
     @Override
@@ -227,11 +277,16 @@ protected void copyInternal(final LocalWorkflowAwarePath source, final LocalWork
 
         Files.deleteIfExists(target); // this also deletes a workflow/metanode/component
 
-        if (sourceIsWorkflow) {
-            FSFiles.copyRecursively(toLocalPathWithAccessibilityCheck(source),
-                toLocalPathWithAccessibilityCheck(target));
-        } else {
-            Files.copy(toLocalPathWithAccessibilityCheck(source), toLocalPathWithAccessibilityCheck(target), options);
+        try {
+            if (sourceIsWorkflow) {
+                FSFiles.copyRecursively(toLocalPathWithAccessibilityCheck(source),
+                    toLocalPathWithAccessibilityCheck(target));
+            } else {
+                Files.copy(toLocalPathWithAccessibilityCheck(source), toLocalPathWithAccessibilityCheck(target),
+                    options);
+            }
+        } finally {
+            invalidateEntityCache(target);
         }
     }
 
@@ -250,7 +305,12 @@ protected void moveInternal(final LocalWorkflowAwarePath source, final LocalWork
         }
 
         Files.deleteIfExists(target); // this also deletes a workflow/metanode/component
-        Files.move(toLocalPathWithAccessibilityCheck(source), toLocalPathWithAccessibilityCheck(target), options);
+        try {
+            Files.move(toLocalPathWithAccessibilityCheck(source), toLocalPathWithAccessibilityCheck(target), options);
+        } finally {
+            invalidateEntityCache(source);
+            invalidateEntityCache(target);
+        }
     }
 
     @Override
@@ -326,6 +386,8 @@ public void deployWorkflow(final Path source, final FSPath dest, final boolean o
                attemptOpen);
         } catch (URISyntaxException e) {
             throw new IOException(e);
+        } finally {
+            invalidateEntityCache(absoluteDest);
         }
     }
 
@@ -48,6 +48,9 @@
  */
 package org.knime.filehandling.core.fs.knime.local.workflowaware;
 
+import java.nio.file.Path;
+import java.util.List;
+
 import org.knime.filehandling.core.connections.base.UnixStylePath;
 
 /**
@@ -59,6 +62,12 @@
  */
 public final class LocalWorkflowAwarePath extends UnixStylePath {
 
+    /**
+     * The corresponding path in the local file system. Computed lazily, benign data races are fine because the value
+     * is immutable and always the same.
+     */
+    private Path m_localPath;
+
     /**
      * Creates a path using a given file system and path parts.
      *
@@ -71,8 +80,33 @@ public LocalWorkflowAwarePath(final LocalWorkflowAwareFileSystem fileSystem, fin
         super(fileSystem, first, more);
     }
 
+    private LocalWorkflowAwarePath(final LocalWorkflowAwareFileSystem fileSystem, final boolean isAbsolute,
+        final List<String> pathParts) {
+        super(fileSystem, isAbsolute, pathParts);
+    }
+
+    @SuppressWarnings("resource")
+    @Override
+    protected LocalWorkflowAwarePath createPath(final boolean isAbsolute, final List<String> pathParts) {
+        return new LocalWorkflowAwarePath(getFileSystem(), isAbsolute, pathParts);
+    }
+
     @Override
     public LocalWorkflowAwareFileSystem getFileSystem() {
         return (LocalWorkflowAwareFileSystem)super.getFileSystem();
     }
+
+    /**
+     * @return the corresponding absolute path in the local file system
+     * @see LocalWorkflowAwareFileSystem#toLocalPath(LocalWorkflowAwarePath)
+     */
+    @SuppressWarnings("resource")
+    Path toLocalPath() {
+        var localPath = m_localPath;
+        if (localPath == null) {
+            localPath = getFileSystem().createLocalPath(this);
+            m_localPath = localPath;
+        }
+        return localPath;
+    }
 }
@@ -104,7 +104,7 @@ public LocalPath getPath(final String first, final String... more) {
     }
 
     @Override
-    public synchronized boolean isClosing() {
+    public boolean isClosing() {
         return super.isClosing();
     }
 
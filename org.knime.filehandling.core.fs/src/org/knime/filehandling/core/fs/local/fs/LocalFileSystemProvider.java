@@ -50,6 +50,7 @@
 
 import java.io.IOException;
 import java.net.URI;
+import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.AccessMode;
 import java.nio.file.ClosedFileSystemException;
@@ -71,6 +72,7 @@
 import java.util.Map;
 import java.util.Set;
 
+import org.knime.filehandling.core.connections.FSFileChannel;
 import org.knime.filehandling.core.connections.FSFileSystemProvider;
 import org.knime.filehandling.core.connections.FSSeekableByteChannel;
 import org.knime.filehandling.core.connections.base.RelativizingPathIterator;
@@ -148,6 +150,18 @@ public SeekableByteChannel newByteChannel(final Path path, final Set<? extends O
             PLATFORM_DEFAULT_PROVIDER.newByteChannel(localPath.getWrappedPath(), options, attrs), m_fileSystem);
     }
 
+    @SuppressWarnings("resource")
+    @Override
+    public FileChannel newFileChannel(final Path path, final Set<? extends OpenOption> options,
+        final FileAttribute<?>... attrs) throws IOException {
+
+        checkFileSystemOpenAndNotClosing();
+        final LocalPath localPath = checkCastAndAbsolutizePath(path);
+
+        return new FSFileChannel(
+            PLATFORM_DEFAULT_PROVIDER.newFileChannel(localPath.getWrappedPath(), options, attrs), m_fileSystem);
+    }
+
     @Override
     public DirectoryStream<Path> newDirectoryStream(final Path path, final Filter<? super Path> filter)
         throws IOException {
@@ -0,0 +1,222 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.connections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import org.knime.filehandling.core.connections.base.BaseFileSystem;
+
+/**
+ * Unit tests for {@link FSConnectionPool}.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings({"javadoc", "resource"})
+public class FSConnectionPoolTest {
+
+    private static final FSLocationSpec LOCAL = new DefaultFSLocationSpec(FSCategory.LOCAL);
+
+    private static final FSLocationSpec MOUNTPOINT = new DefaultFSLocationSpec(FSCategory.MOUNTPOINT, "LOCAL");
+
+    private final FSConnectionPool m_pool = new FSConnectionPool(Duration.ofHours(1));
+
+    private final AtomicInteger m_created = new AtomicInteger();
+
+    private FSConnection m_lastCreated;
+
+    private final Supplier<FSConnection> m_factory = () -> {
+        m_created.incrementAndGet();
+        final FSFileSystem<?> fileSystem = mock(FSFileSystem.class);
+        when(fileSystem.isOpen()).thenReturn(true);
+        final FSConnection connection = mock(FSConnection.class);
+        when(connection.getFileSystem()).then(invocation -> fileSystem);
+        m_lastCreated = connection;
+        return connection;
+    };
+
+    @Test
+    public void testConnectionIsReusedForSameLocationSpec() throws IOException {
+        final FSConnection first = m_pool.acquire(LOCAL, m_factory);
+        first.close();
+        final FSConnection second = m_pool.acquire(LOCAL, m_factory);
+        final FSConnection third = m_pool.acquire(LOCAL, m_factory);
+
+        assertEquals(1, m_created.get());
+        assertNotSame(second, third);
+        assertSame(second.getFileSystem(), third.getFileSystem());
+        verify(m_lastCreated, never()).close();
+        second.close();
+        third.close();
+    }
+
+    @Test
+    public void testAttributesCacheIsOnlyClearedWhenIdleConnectionIsReused() throws IOException {
+        final BaseFileSystem<?> fileSystem = mock(BaseFileSystem.class);
+        when(fileSystem.isOpen()).thenReturn(true);
+        final FSConnection connection = mock(FSConnection.class);
+        when(connection.getFileSystem()).then(invocation -> fileSystem);
+        final Supplier<FSConnection> factory = () -> connection;
+
+        final FSConnection first = m_pool.acquire(LOCAL, factory);
+        final FSConnection second = m_pool.acquire(LOCAL, factory);
+        verify(fileSystem, never()).clearAttributesCache();
+
+        first.close();
+        second.close();
+        m_pool.acquire(LOCAL, factory);
+        verify(fileSystem, times(1)).clearAttributesCache();
+    }
+
+    @Test
+    public void testCloseablesAreClosedWhenLastLeaseIsReleased() throws IOException {
+        final FSConnection first = m_pool.acquire(LOCAL, m_factory);
+        final FSConnection second = m_pool.acquire(LOCAL, m_factory);
+        final FSFileSystem<?> fileSystem = m_lastCreated.getFileSystem();
+
+        first.close();
+        verify(fileSystem, never()).closeAllCloseables();
+
+        second.close();
+        verify(fileSystem, times(1)).closeAllCloseables();
+        verify(m_lastCreated, never()).close();
+    }
+
+    @Test
+    public void testDifferentLocationSpecsUseDifferentConnections() {
+        final FSConnection local = m_pool.acquire(LOCAL, m_factory);
+        final FSConnection mountpoint = m_pool.acquire(MOUNTPOINT, m_factory);
+
+        assertEquals(2, m_created.get());
+        assertEquals(2, m_pool.size());
+        assertNotSame(local.getFileSystem(), mountpoint.getFileSystem());
+    }
+
+    @Test
+    public void testOnlyUnreferencedConnectionsAreEvicted() throws IOException {
+        final FSConnection local = m_pool.acquire(LOCAL, m_factory);
+        final FSConnection pooledLocal = m_lastCreated;
+        m_pool.acquire(MOUNTPOINT, m_factory).close();
+        final FSConnection pooledMountpoint = m_lastCreated;
+
+        m_pool.evictIdleConnections();
+
+        assertEquals(1, m_pool.size());
+        verify(pooledMountpoint).close();
+        verify(pooledLocal, never()).close();
+
+        local.close();
+        m_pool.evictIdleConnections();
+        assertEquals(0, m_pool.size());
+        verify(pooledLocal).close();
+    }
+
+    @Test
+    public void testClosingALeaseTwiceReleasesOnlyOnce() throws IOException {
+        final FSConnection first = m_pool.acquire(LOCAL, m_factory);
+        final FSConnection second = m_pool.acquire(LOCAL, m_factory);
+        first.close();
+        first.close();
+
+        m_pool.evictIdleConnections();
+
+        assertEquals(1, m_pool.size());
+        second.close();
+        m_pool.evictIdleConnections();
+        verify(m_lastCreated, times(1)).close();
+    }
+
+    @Test
+    public void testClosedFileSystemIsRecreated() throws IOException {
+        m_pool.acquire(LOCAL, m_factory).close();
+        when(m_lastCreated.getFileSystem().isOpen()).thenReturn(false);
+
+        m_pool.acquire(LOCAL, m_factory);
+
+        assertEquals(2, m_created.get());
+    }
+
+    @Test
+    public void testFailedCreationDoesNotLeaveAnEntry() {
+        try {
+            m_pool.acquire(LOCAL, () -> {
+                throw new IllegalStateException("failed");
+            });
+        } catch (IllegalStateException ex) { // NOSONAR expected
+        }
+        assertEquals(0, m_pool.size());
+    }
+
+    @Test
+    public void testDisabledPoolAlwaysCreatesConnections() {
+        final FSConnectionPool disabled = new FSConnectionPool(Duration.ZERO);
+        disabled.acquire(LOCAL, m_factory);
+        disabled.acquire(LOCAL, m_factory);
+
+        assertEquals(2, m_created.get());
+        assertEquals(0, disabled.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConnectedLocationsAreNotPoolable() {
+        m_pool.acquire(new DefaultFSLocationSpec(FSCategory.CONNECTED, "foo"), m_factory);
+    }
+}
@@ -52,9 +52,16 @@
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 import org.knime.core.node.util.FileSystemBrowser;
@@ -224,6 +231,110 @@ public void deregistering_a_key_not_in_the_registry_returns_null() {
         assertEquals(null, connection);
     }
 
+    /**
+     * Tests that deregistering a connection removes all keys it has been registered with, but leaves other connections
+     * untouched.
+     */
+    @Test
+    public void deregistering_a_connection_removes_all_of_its_keys() {
+        final FSConnectionRegistry connections = FSConnectionRegistry.getInstance();
+        final TestConnection testConnection = new TestConnection();
+        final TestConnection otherConnection = new TestConnection();
+        final String key1 = connections.getKey();
+        final String key2 = connections.getKey();
+        final String otherKey = connections.getKey();
+
+        connections.register(key1, testConnection);
+        connections.register(key2, testConnection);
+        connections.register(otherKey, otherConnection);
+        connections.deregister(testConnection);
+
+        assertFalse(connections.contains(key1));
+        assertFalse(connections.contains(key2));
+        assertTrue(connections.contains(otherKey));
+        connections.deregister(otherConnection);
+        assertFalse(connections.contains(otherKey));
+    }
+
+    /**
+     * Tests that a key deregistered individually is not resurrected and that the connection can still be deregistered
+     * afterwards.
+     */
+    @Test
+    public void deregistering_a_key_keeps_the_remaining_keys_of_its_connection() {
+        final FSConnectionRegistry connections = FSConnectionRegistry.getInstance();
+        final TestConnection testConnection = new TestConnection();
+        final String key1 = connections.getKey();
+        final String key2 = connections.getKey();
+
+        connections.register(key1, testConnection);
+        connections.register(key2, testConnection);
+
+        assertEquals(testConnection, connections.deregister(key1));
+        assertFalse(connections.contains(key1));
+        assertTrue(connections.contains(key2));
+
+        connections.deregister(testConnection);
+        assertFalse(connections.contains(key2));
+    }
+
+    /**
+     * Stress test that concurrently registers, retrieves and deregisters connections from many threads and checks
+     * that the registry ends up empty for all involved keys.
+     *
+     * @throws Exception if a worker fails
+     */
+    @Test
+    public void concurrent_registration_retrieval_and_deregistration_is_consistent() throws Exception {
+        final FSConnectionRegistry connections = FSConnectionRegistry.getInstance();
+        final int threads = 16;
+        final int iterations = 2000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<List<String>>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                final boolean deregisterByConnection = t % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    final List<String> keys = new ArrayList<>();
+                    start.await();
+                    for (int i = 0; i < iterations; i++) {
+                        final TestConnection connection = new TestConnection();
+                        final String key1 = connections.getKey();
+                        final String key2 = connections.getKey();
+                        keys.add(key1);
+                        keys.add(key2);
+                        connections.register(key1, connection);
+                        connections.register(key2, connection);
+                        // registering the same connection twice is a no-op
+                        connections.register(key1, connection);
+                        assertTrue(connections.retrieve(key1).isPresent());
+                        assertTrue(connections.contains(key2));
+                        if (deregisterByConnection) {
+                            connections.deregister(connection);
+                        } else {
+                            assertEquals(connection, connections.deregister(key1));
+                            assertEquals(connection, connections.deregister(key2));
+                            // must be a no-op now that both keys are gone
+                            connections.deregister(connection);
+                        }
+                        assertFalse(connections.contains(key1));
+                        assertFalse(connections.retrieve(key2).isPresent());
+                    }
+                    return keys;
+                }));
+            }
+            start.countDown();
+            for (final Future<List<String>> future : futures) {
+                for (final String key : future.get(1, TimeUnit.MINUTES)) {
+                    assertFalse(connections.contains(key));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private static class TestConnection implements FSConnection {
 
         @Override
@@ -0,0 +1,146 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.connections.base;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * Tests the subtree pruning and literal prefix of the {@link GlobPathMatcher}.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+public class GlobPathMatcherTest {
+
+    @Test
+    public void prunes_directories_not_matching_fixed_segments() {
+        final var matcher = new GlobPathMatcher("/data/2024/*/part-*.parquet", "/");
+        assertTrue(matcher.canMatchBelow("/"));
+        assertTrue(matcher.canMatchBelow("/data"));
+        assertTrue(matcher.canMatchBelow("/data/2024"));
+        assertTrue(matcher.canMatchBelow("/data/2024/01"));
+        assertTrue(matcher.canMatchBelow("/data/2024/01/")); // trailing separator of blob store directories
+
+        assertFalse(matcher.canMatchBelow("/data/2023"));
+        assertFalse(matcher.canMatchBelow("/data/20245"));
+        assertFalse(matcher.canMatchBelow("/other"));
+        assertFalse(matcher.canMatchBelow("/data/2024/01/02"));
+        assertFalse(matcher.canMatchBelow("/data/2024/01/part-1.parquet"));
+
+        assertTrue(matcher.matches("/data/2024/01/part-1.parquet"));
+        assertFalse(matcher.matches("/data/2024/01/02/part-1.parquet"));
+    }
+
+    @Test
+    public void does_not_prune_below_double_star() {
+        final var matcher = new GlobPathMatcher("/data/**/*.csv", "/");
+        assertTrue(matcher.canMatchBelow("/data/a/b/c"));
+        assertFalse(matcher.canMatchBelow("/other/a"));
+        assertTrue(matcher.matches("/data/a/b/c/file.csv"));
+    }
+
+    @Test
+    public void prunes_with_groups_and_relative_globs() {
+        final var matcher = new GlobPathMatcher("{2023,2024}/q?/*.csv", "/");
+        assertTrue(matcher.canMatchBelow(""));
+        assertTrue(matcher.canMatchBelow("2023"));
+        assertTrue(matcher.canMatchBelow("2024/q1"));
+        assertFalse(matcher.canMatchBelow("2022"));
+        assertFalse(matcher.canMatchBelow("2024/q10"));
+        assertFalse(matcher.isAbsolute());
+    }
+
+    @Test
+    public void literal_prefix() {
+        assertEquals(Optional.of("/data/2024"), new GlobPathMatcher("/data/2024/*/part-*.parquet", "/").getLiteralPrefix());
+        assertEquals(Optional.of("/data"), new GlobPathMatcher("/data/file.csv", "/").getLiteralPrefix());
+        assertEquals(Optional.of("/data"), new GlobPathMatcher("/data/file-\\*.csv", "/").getLiteralPrefix());
+        assertEquals(Optional.of("/"), new GlobPathMatcher("/*.csv", "/").getLiteralPrefix());
+        assertEquals(Optional.of("a/b"), new GlobPathMatcher("a/b/c*", "/").getLiteralPrefix());
+        assertEquals(Optional.empty(), new GlobPathMatcher("*/b/c", "/").getLiteralPrefix());
+        assertEquals(Optional.empty(), new GlobPathMatcher("file.csv", "/").getLiteralPrefix());
+        assertTrue(new GlobPathMatcher("/*.csv", "/").isAbsolute());
+    }
+
+    @Test
+    public void literal_prefix_is_unescaped() {
+        assertEquals(Optional.of("/data/{x}"), new GlobPathMatcher("/data/\\{x\\}/*.csv", "/").getLiteralPrefix());
+        assertEquals(Optional.of("/da*ta"), new GlobPathMatcher("/da\\*ta/file?.csv", "/").getLiteralPrefix());
+        assertTrue(new GlobPathMatcher("/data/\\{x\\}/*.csv", "/").matches("/data/{x}/file.csv"));
+    }
+
+    @Test
+    public void backslash_separator_is_not_an_escape_character() {
+        final var matcher = new GlobPathMatcher("C:\\data\\2024\\*\\part-*.parquet", "\\");
+        assertTrue(matcher.isAbsolute());
+        assertEquals(Optional.of("C:\\data\\2024"), matcher.getLiteralPrefix());
+        assertTrue(matcher.canMatchBelow("C:\\data\\2024\\01"));
+        assertFalse(matcher.canMatchBelow("C:\\data\\2023"));
+        assertFalse(matcher.canMatchBelow("C:\\data\\2024\\01\\02"));
+        assertTrue(matcher.matches("C:\\data\\2024\\01\\part-1.parquet"));
+        assertFalse(matcher.matches("C:\\data\\2024\\01\\02\\part-1.parquet"));
+
+        final var driveRoot = new GlobPathMatcher("C:\\*.csv", "\\");
+        assertTrue(driveRoot.isAbsolute());
+        assertEquals(Optional.of("C:\\"), driveRoot.getLiteralPrefix());
+
+        final var relative = new GlobPathMatcher("data\\*.csv", "\\");
+        assertFalse(relative.isAbsolute());
+        assertEquals(Optional.of("data"), relative.getLiteralPrefix());
+        assertTrue(relative.matches("data\\file.csv"));
+
+        // a drive is only recognized if the backslash is the separator
+        assertFalse(new GlobPathMatcher("C:/*.csv", "/").isAbsolute());
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.connections.metrics;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.knime.filehandling.core.connections.DefaultFSLocationSpec;
+import org.knime.filehandling.core.connections.FSCategory;
+
+/**
+ * Tests the counters and latency histograms of {@link FSMetrics}.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+public class FSMetricsTest {
+
+    @Test
+    public void disabled_metrics_record_nothing() {
+        final var metrics = new FSMetrics(false);
+        assertFalse(metrics.isEnabled());
+        assertEquals(0, metrics.startTimer());
+
+        metrics.record(FSOperation.COPY, 0);
+        metrics.recordBytesRead(42);
+        metrics.recordBytesWritten(42);
+        metrics.recordAttributeCacheHit();
+        metrics.recordAttributeCacheMiss();
+
+        assertEquals(0, metrics.getStatistics(FSOperation.COPY).getCount());
+        assertEquals(0, metrics.getBytesRead());
+        assertEquals(0, metrics.getBytesWritten());
+        assertEquals(0, metrics.getAttributeCacheHits());
+        assertEquals(0, metrics.getAttributeCacheMisses());
+    }
+
+    @Test
+    public void enabled_metrics_count_calls_bytes_and_cache_lookups() {
+        final var metrics = new FSMetrics(true);
+        assertTrue(metrics.isEnabled());
+
+        metrics.record(FSOperation.DELETE, metrics.startTimer());
+        metrics.record(FSOperation.DELETE, metrics.startTimer());
+        metrics.record(FSOperation.LIST_DIRECTORY, metrics.startTimer());
+        metrics.recordBytesRead(10);
+        metrics.recordBytesRead(-1); // end of stream
+        metrics.recordBytesWritten(5);
+        metrics.recordAttributeCacheHit();
+        metrics.recordAttributeCacheHit();
+        metrics.recordAttributeCacheMiss();
+
+        assertEquals(2, metrics.getStatistics(FSOperation.DELETE).getCount());
+        assertEquals(1, metrics.getStatistics(FSOperation.LIST_DIRECTORY).getCount());
+        assertEquals(0, metrics.getStatistics(FSOperation.COPY).getCount());
+        assertEquals(Long.valueOf(2), metrics.getOperationCounts().get(FSOperation.DELETE.name()));
+        assertEquals(10, metrics.getBytesRead());
+        assertEquals(5, metrics.getBytesWritten());
+        assertEquals(2, metrics.getAttributeCacheHits());
+        assertEquals(1, metrics.getAttributeCacheMisses());
+
+        metrics.reset();
+        assertEquals(0, metrics.getStatistics(FSOperation.DELETE).getCount());
+        assertEquals(0, metrics.getBytesRead());
+        assertEquals(0, metrics.getAttributeCacheHits());
+    }
+
+    @Test
+    public void creation_does_not_resolve_unregistered_file_system_types() {
+        // resolving the type of these specs fails, which must not prevent the creation of their file systems
+        FSMetrics.create(new DefaultFSLocationSpec(FSCategory.CONNECTED, "unregistered")).dispose();
+        FSMetrics.create(new DefaultFSLocationSpec(FSCategory.RELATIVE)).dispose();
+    }
+
+    @Test
+    public void histogram_uses_power_of_two_buckets() {
+        assertEquals(0, LatencyHistogram.bucketIndex(0));
+        assertEquals(1, LatencyHistogram.bucketIndex(1));
+        assertEquals(2, LatencyHistogram.bucketIndex(2));
+        assertEquals(2, LatencyHistogram.bucketIndex(3));
+        assertEquals(3, LatencyHistogram.bucketIndex(4));
+        assertEquals(11, LatencyHistogram.bucketIndex(1_024));
+        assertEquals(63, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+
+        final var histogram = new LatencyHistogram(FSOperation.FETCH_ATTRIBUTES);
+        histogram.record(3);
+        histogram.record(-5); // nanoTime is not guaranteed to be monotonic across cores
+        final var expected = new long[LatencyHistogram.NUMBER_OF_BUCKETS];
+        expected[0] = 1;
+        expected[2] = 1;
+        assertArrayEquals(expected, histogram.snapshot().getHistogram());
+    }
+
+    @Test
+    public void percentiles_are_estimated_by_bucket_upper_bound() {
+        final var histogram = new LatencyHistogram(FSOperation.NEW_INPUT_STREAM);
+        for (var i = 0; i < 99; i++) {
+            histogram.record(1_000);
+        }
+        histogram.record(1_000_000);
+
+        final var statistics = histogram.snapshot();
+        assertEquals(100, statistics.getCount());
+        assertEquals(1_000_000, statistics.getMaxNanos());
+        assertEquals((99 * 1_000 + 1_000_000) / 100d, statistics.getMeanNanos(), 1e-9);
+        assertEquals(1_023, statistics.getPercentileNanos(50));
+        assertEquals(1_023, statistics.getPercentileNanos(99));
+        assertEquals(1_000_000, statistics.getPercentileNanos(100));
+    }
+
+    @Test
+    public void percentiles_of_empty_histogram_are_zero() {
+        assertEquals(0, new LatencyHistogram(FSOperation.COPY).snapshot().getPercentileNanos(95));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 13, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.data.location;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.knime.core.table.access.StringAccess.StringReadAccess;
+import org.knime.core.table.access.StringAccess.StringWriteAccess;
+import org.knime.core.table.access.StructAccess.StructReadAccess;
+import org.knime.core.table.access.StructAccess.StructWriteAccess;
+import org.knime.filehandling.core.connections.FSCategory;
+import org.knime.filehandling.core.connections.FSLocation;
+
+/**
+ * Unit tests for {@link PrefixSharingFSLocationValueFactory}.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+public class PrefixSharingFSLocationValueFactoryTest {
+
+    private static final String CATEGORY = FSCategory.CONNECTED.toString();
+
+    private static final String SPECIFIER = "amazon-s3:eu-west-1";
+
+    @Test
+    public void testSplitIsLossless() {
+        for (String path : new String[]{"", "/", "foo", "/foo", "/foo/bar.csv", "foo/bar/", "/foo/bar/",
+            "C:\\foo\\bar.csv", "//", "a//b"}) {
+            final var idx = PrefixSharingFSLocationValueFactory.getNameStartIndex(path);
+            assertEquals(path, path.substring(0, idx) + path.substring(idx));
+        }
+    }
+
+    @Test
+    public void testSplitAtParent() {
+        assertEquals(5, PrefixSharingFSLocationValueFactory.getNameStartIndex("/foo/bar.csv"));
+        assertEquals(5, PrefixSharingFSLocationValueFactory.getNameStartIndex("/foo/bar/"));
+        assertEquals(7, PrefixSharingFSLocationValueFactory.getNameStartIndex("C:\\foo\\bar.csv"));
+        assertEquals(0, PrefixSharingFSLocationValueFactory.getNameStartIndex("bar.csv"));
+    }
+
+    @Test
+    public void testWriteSplitsPath() {
+        final var factory = new PrefixSharingFSLocationValueFactory();
+        final var struct = mock(StructWriteAccess.class);
+        final var category = mock(StringWriteAccess.class);
+        final var specifier = mock(StringWriteAccess.class);
+        final var parent = mock(StringWriteAccess.class);
+        final var name = mock(StringWriteAccess.class);
+        when(struct.getWriteAccess(0)).thenReturn(category);
+        when(struct.getWriteAccess(1)).thenReturn(specifier);
+        when(struct.getWriteAccess(2)).thenReturn(parent);
+        when(struct.getWriteAccess(3)).thenReturn(name);
+
+        factory.createWriteValue(struct).setLocation(new FSLocation(CATEGORY, "/data/2024/part-0.parquet"));
+
+        verify(category).setStringValue(CATEGORY);
+        verify(specifier).setMissing();
+        verify(parent).setStringValue("/data/2024/");
+        verify(name).setStringValue("part-0.parquet");
+    }
+
+    @Test
+    public void testReadConcatenatesPath() {
+        final var factory = new PrefixSharingFSLocationValueFactory();
+        final var struct = mock(StructReadAccess.class);
+        final var category = mockReadAccess(CATEGORY);
+        final var specifier = mockReadAccess(SPECIFIER);
+        final var parent = mockReadAccess("/data/2024/");
+        final var name = mockReadAccess("part-0.parquet");
+        when(struct.getAccess(0)).thenReturn(category);
+        when(struct.getAccess(1)).thenReturn(specifier);
+        when(struct.getAccess(2)).thenReturn(parent);
+        when(struct.getAccess(3)).thenReturn(name);
+
+        assertEquals(new FSLocation(CATEGORY, SPECIFIER, "/data/2024/part-0.parquet"),
+            factory.createReadValue(struct).getFSLocation());
+    }
+
+    private static StringReadAccess mockReadAccess(final String value) {
+        final var access = mock(StringReadAccess.class);
+        when(access.getStringValue()).thenReturn(value);
+        return access;
+    }
+}
@@ -49,6 +49,8 @@
 package org.knime.filehandling.core.defaultnodesettings.filechooser;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -67,9 +69,11 @@
 import org.knime.core.node.context.ports.PortsConfiguration;
 import org.knime.core.node.workflow.WorkflowManager;
 import org.knime.filehandling.core.connections.FSCategory;
+import org.knime.filehandling.core.connections.FSFileSystem;
 import org.knime.filehandling.core.connections.FSLocation;
 import org.knime.filehandling.core.connections.FSPath;
 import org.knime.filehandling.core.defaultnodesettings.EnumConfig;
+import org.knime.filehandling.core.defaultnodesettings.filechooser.reader.ReadPathAccessor;
 import org.knime.filehandling.core.defaultnodesettings.filechooser.reader.SettingsModelReaderFileChooser;
 import org.knime.filehandling.core.defaultnodesettings.filtermode.FilterOptionsSettings;
 import org.knime.filehandling.core.defaultnodesettings.filtermode.SettingsModelFilterMode;
@@ -226,6 +230,33 @@ public void testLinkBehaviorOfGetFSPaths() throws IOException, InvalidSettingsEx
         WorkflowTestUtil.shutdownWorkflowManager(workflowManager);
     }
 
+    /**
+     * Tests that the accessors created by the settings model, as done by the node dialogs for their previews, take
+     * their convenience file system from the pool and that closing an accessor only releases it.
+     *
+     * @throws IOException not thrown
+     * @throws InvalidSettingsException not thrown
+     */
+    @Test
+    public void testDialogAccessorsSharePooledConnection() throws IOException, InvalidSettingsException {
+        final WorkflowManager workflowManager = WorkflowTestUtil.createAndLoadDummyWorkflow(m_tempDir);
+        when(m_portsConfig.getInputPortLocation()).thenReturn(Collections.emptyMap());
+        final SettingsModelReaderFileChooser settingsModel = new SettingsModelReaderFileChooser("test",
+            m_portsConfig, "foobar", EnumConfig.create(FilterMode.FILE), EnumSet.of(FSCategory.LOCAL));
+        settingsModel.setLocation(new FSLocation(FSCategory.LOCAL, m_ordinaryFile.toAbsolutePath().toString()));
+        final FSFileSystem<?> firstFileSystem;
+        try (final ReadPathAccessor accessor = settingsModel.createReadPathAccessor()) {
+            firstFileSystem = accessor.getFSPaths(s -> {
+            }).get(0).getFileSystem();
+        }
+        assertTrue("Closing the accessor must not close the pooled file system.", firstFileSystem.isOpen());
+        try (final ReadPathAccessor accessor = settingsModel.createReadPathAccessor()) {
+            assertSame(firstFileSystem, accessor.getFSPaths(s -> {
+            }).get(0).getFileSystem());
+        }
+        WorkflowTestUtil.shutdownWorkflowManager(workflowManager);
+    }
+
     private static void testGetFSPathsBehavior(final SettingsModelReaderFileChooser settingsModel,
         final TestConfig testConfig, final Path... expectedPaths) throws IOException, InvalidSettingsException {
         final SettingsModelFilterMode filterModel = settingsModel.getFilterModeModel();
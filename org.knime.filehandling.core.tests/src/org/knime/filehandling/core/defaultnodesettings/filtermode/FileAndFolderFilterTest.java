@@ -49,6 +49,8 @@
 package org.knime.filehandling.core.defaultnodesettings.filtermode;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -57,6 +59,7 @@
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -674,6 +677,30 @@ public void testRegexFolderNameCaseSensitiveHidden() throws IOException {
         assertEquals(3, filter.getNumberOfFilteredFolders());
     }
 
+    /**
+     * <pre>
+     * Filter for the regex firstFolder&lt;separator&gt;sub\w*, case-sensitive
+     *
+     * Visited folders: firstFolder (its subfolders can match)
+     * Pruned folders: secondFOLDER, fourth (neither they nor their subfolders can match)
+     * </pre>
+     */
+    @Test
+    public void testFolderNamePrunesSubtrees() {
+        final String separator = Pattern.quote(m_tempDir.getFileSystem().getSeparator());
+        FilterOptionsSettings filterOptionsSettings = new FilterOptionsSettings();
+        filterOptionsSettings.setFilterFoldersByName(true);
+        filterOptionsSettings.setFoldersNameFilterMode(FilterType.REGEX);
+        filterOptionsSettings.setFoldersNameExpression("firstFolder" + separator + "sub\\w*");
+        filterOptionsSettings.setFoldersNameCaseSensitive(true);
+
+        FileAndFolderFilter filter = new FileAndFolderFilter(m_tempDir, filterOptionsSettings);
+        assertFalse(filter.testFolderName(m_firstFolderPath));
+        assertTrue(filter.visitFolder(m_firstFolderPath));
+        assertFalse(filter.visitFolder(m_secondFolderPath));
+        assertFalse(filter.visitFolder(m_fourthFolderPath));
+    }
+
     private void test(final FileAndFolderFilter filter) throws IOException {
         for (int i = 0; i < m_allPaths.size(); i++) {
             Path filePath = m_allPaths.get(i);
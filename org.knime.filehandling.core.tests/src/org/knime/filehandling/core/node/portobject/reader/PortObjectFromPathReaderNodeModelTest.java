@@ -0,0 +1,386 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.node.portobject.reader;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.context.NodeCreationConfiguration;
+import org.knime.core.node.context.ports.PortsConfiguration;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.filehandling.core.connections.FSCategory;
+import org.knime.filehandling.core.connections.FSLocation;
+import org.knime.filehandling.core.connections.FSPath;
+import org.knime.filehandling.core.node.portobject.SelectionMode;
+import org.knime.filehandling.core.port.FileSystemPortObject;
+import org.knime.filehandling.core.tests.common.workflow.WorkflowTestUtil;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * Contains unit tests for the folder reading of {@link PortObjectFromPathReaderNodeModel}.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PortObjectFromPathReaderNodeModelTest {
+
+    private static final Path BLOCK = Path.of("block");
+
+    private static final Path FAIL = Path.of("fail");
+
+    @Mock
+    private NodeCreationConfiguration m_creationConfig;
+
+    @Mock
+    private PortsConfiguration m_portsConfig;
+
+    @Mock
+    private ExecutionContext m_exec;
+
+    private Path m_tempDir;
+
+    private WorkflowManager m_workflowManager;
+
+    private TestReaderNodeModel m_nodeModel;
+
+    /**
+     * Creates the node model under test.
+     *
+     * @throws IOException if the temporary directory can't be created
+     */
+    @Before
+    public void setup() throws IOException {
+        when(m_creationConfig.getPortConfig()).thenReturn(Optional.of(m_portsConfig));
+        when(m_portsConfig.getInputPorts()).thenReturn(new PortType[]{FileSystemPortObject.TYPE_OPTIONAL});
+        when(m_portsConfig.getOutputPorts()).thenReturn(new PortType[]{BufferedDataTable.TYPE});
+        lenient().when(m_portsConfig.getInputPortLocation()).thenReturn(Collections.emptyMap());
+        lenient().when(m_exec.createSubExecutionContext(anyDouble())).thenReturn(m_exec);
+        m_tempDir = Files.createTempDirectory("port_object_reader_test");
+        m_nodeModel = createNodeModel(SelectionMode.FILE, 4);
+    }
+
+    /**
+     * Deletes the temporary directory and shuts down the workflow, if one has been created.
+     *
+     * @throws IOException if the temporary directory can't be deleted
+     */
+    @After
+    public void tearDown() throws IOException {
+        if (m_workflowManager != null) {
+            WorkflowTestUtil.shutdownWorkflowManager(m_workflowManager);
+        }
+        FileUtils.deleteDirectory(m_tempDir.toFile());
+    }
+
+    private TestReaderNodeModel createNodeModel(final SelectionMode selectionMode, final int maxConcurrentReads) {
+        return new TestReaderNodeModel(m_creationConfig,
+            PortObjectReaderNodeConfig.builder(m_creationConfig).withSelectionMode(selectionMode).build(),
+            maxConcurrentReads);
+    }
+
+    private TestReaderNodeModel createFolderNodeModel(final Path folder, final boolean batch) throws IOException {
+        m_workflowManager = WorkflowTestUtil.createAndLoadDummyWorkflow(m_tempDir);
+        final var nodeModel = createNodeModel(SelectionMode.FILES_IN_FOLDERS, 4);
+        nodeModel.setLocation(new FSLocation(FSCategory.LOCAL, folder.toAbsolutePath().toString()));
+        nodeModel.m_batch = batch;
+        return nodeModel;
+    }
+
+    private Path createFolder(final String name, final int numFiles) throws IOException {
+        final var folder = Files.createDirectory(m_tempDir.resolve(name));
+        for (var i = 0; i < numFiles; i++) {
+            Files.createFile(folder.resolve("file" + i));
+        }
+        return folder;
+    }
+
+    /**
+     * Tests that executing a node that reads folders passes the files contained in the selected folder to
+     * {@link PortObjectFromPathReaderNodeModel#readFromPaths(List, ExecutionContext)}.
+     *
+     * @throws Exception not thrown
+     */
+    @Test(timeout = 10_000)
+    public void testExecuteReadsFilesInFolder() throws Exception {
+        final var folder = createFolder("folder", 3);
+        final var nodeModel = createFolderNodeModel(folder, true);
+        final PortObject[] objects = nodeModel.execute(new PortObject[]{null}, m_exec);
+        final List<String> fileNames = nodeModel.m_batchPaths.stream()//
+            .map(p -> p.getFileName().toString())//
+            .collect(Collectors.toList());
+        assertEquals(List.of("file0", "file1", "file2"), fileNames);
+        assertArrayEquals(nodeModel.m_batchPaths.stream()//
+            .map(p -> nodeModel.m_objects.get(p)[0])//
+            .toArray(), objects);
+    }
+
+    /**
+     * Tests that an empty folder results in an empty batch.
+     *
+     * @throws Exception not thrown
+     */
+    @Test(timeout = 10_000)
+    public void testExecuteWithEmptyFolder() throws Exception {
+        final var nodeModel = createFolderNodeModel(createFolder("empty", 0), true);
+        assertEquals(0, nodeModel.execute(new PortObject[]{null}, m_exec).length);
+        assertTrue(nodeModel.m_batchPaths.isEmpty());
+    }
+
+    /**
+     * Tests that the default implementation fails with a meaningful message if the selected folder is empty.
+     *
+     * @throws IOException if the folder can't be created
+     */
+    @Test(timeout = 10_000)
+    public void testExecuteWithEmptyFolderFailsByDefault() throws IOException {
+        final var nodeModel = createFolderNodeModel(createFolder("empty", 0), false);
+        final var ex =
+            assertThrows(InvalidSettingsException.class, () -> nodeModel.execute(new PortObject[]{null}, m_exec));
+        assertEquals("The selected folder doesn't contain any files.", ex.getMessage());
+    }
+
+    /**
+     * Tests that the default implementation reads the single file contained in the selected folder.
+     *
+     * @throws Exception not thrown
+     */
+    @Test(timeout = 10_000)
+    public void testExecuteWithSingleFileInFolderByDefault() throws Exception {
+        final var nodeModel = createFolderNodeModel(createFolder("single", 1), false);
+        final PortObject[] objects = nodeModel.execute(new PortObject[]{null}, m_exec);
+        assertEquals(1, nodeModel.m_objects.size());
+        assertSame(nodeModel.m_objects.values().iterator().next(), objects);
+    }
+
+    /**
+     * Tests that the default implementation fails if the selected folder contains multiple files.
+     *
+     * @throws IOException if the folder can't be created
+     */
+    @Test(timeout = 10_000)
+    public void testExecuteWithMultipleFilesInFolderFailsByDefault() throws IOException {
+        final var nodeModel = createFolderNodeModel(createFolder("multiple", 2), false);
+        final var ex =
+            assertThrows(InvalidSettingsException.class, () -> nodeModel.execute(new PortObject[]{null}, m_exec));
+        assertEquals("This node reads a single file but 2 files have been selected.", ex.getMessage());
+    }
+
+    /**
+     * Tests that the objects are returned in the order of the paths even if later paths are read faster.
+     *
+     * @throws Exception not thrown
+     */
+    @Test(timeout = 10_000)
+    public void testReadConcurrentlyKeepsOrder() throws Exception {
+        final List<Path> paths = IntStream.range(0, 20)//
+            .mapToObj(i -> Path.of("file" + i))//
+            .collect(Collectors.toList());
+        final List<PortObject[]> objects = m_nodeModel.readConcurrently(paths, m_exec);
+        assertEquals(paths.size(), objects.size());
+        for (var i = 0; i < paths.size(); i++) {
+            assertSame(m_nodeModel.m_objects.get(paths.get(i)), objects.get(i));
+        }
+    }
+
+    /**
+     * Tests that the files are read one after another unless the node opts into concurrent reads.
+     *
+     * @throws Exception not thrown
+     */
+    @Test(timeout = 10_000)
+    public void testReadSequentiallyByDefault() throws Exception {
+        final var nodeModel = createNodeModel(SelectionMode.FILE, 0);
+        final List<Path> paths = List.of(Path.of("file0"), Path.of("file1"), Path.of("file2"));
+        nodeModel.readConcurrently(paths, m_exec);
+        assertEquals(1, nodeModel.m_readingThreads.size());
+        assertTrue(nodeModel.m_readingThreads.contains(Thread.currentThread()));
+    }
+
+    /**
+     * Tests that no files result in no objects.
+     *
+     * @throws Exception not thrown
+     */
+    @Test
+    public void testReadConcurrentlyWithoutPaths() throws Exception {
+        assertTrue(m_nodeModel.readConcurrently(Collections.emptyList(), m_exec).isEmpty());
+    }
+
+    /**
+     * Tests that the failure of a single read is propagated and that the pending reads are cancelled.
+     *
+     * @throws InterruptedException if interrupted while waiting for the blocked read
+     */
+    @Test(timeout = 10_000)
+    public void testReadConcurrentlyPropagatesFailure() throws InterruptedException {
+        final var ex = assertThrows(IOException.class,
+            () -> m_nodeModel.readConcurrently(List.of(Path.of("file0"), FAIL, BLOCK), m_exec));
+        assertEquals("Corrupt file", ex.getMessage());
+        assertTrue("The pending read must be interrupted.", m_nodeModel.m_interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Tests that a cancellation of the node stops waiting for the reads and interrupts the pending ones.
+     *
+     * @throws Exception not thrown
+     */
+    @Test(timeout = 10_000)
+    public void testReadConcurrentlyIsCancelable() throws Exception {
+        doAnswer(invocation -> {
+            m_nodeModel.m_blockStarted.await();
+            throw new CanceledExecutionException();
+        }).when(m_exec).checkCanceled();
+        assertThrows(CanceledExecutionException.class,
+            () -> m_nodeModel.readConcurrently(List.of(BLOCK, Path.of("file1")), m_exec));
+        assertTrue("The pending read must be interrupted.", m_nodeModel.m_interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    private static final class TestReaderNodeModel
+        extends PortObjectFromPathReaderNodeModel<PortObjectReaderNodeConfig> {
+
+        private final Map<Path, PortObject[]> m_objects = new ConcurrentHashMap<>();
+
+        private final Map<Thread, Boolean> m_readingThreads = new ConcurrentHashMap<>();
+
+        private final CountDownLatch m_blockStarted = new CountDownLatch(1);
+
+        private final CountDownLatch m_interrupted = new CountDownLatch(1);
+
+        private final int m_maxConcurrentReads;
+
+        private boolean m_batch;
+
+        private List<FSPath> m_batchPaths;
+
+        TestReaderNodeModel(final NodeCreationConfiguration creationConfig, final PortObjectReaderNodeConfig config,
+            final int maxConcurrentReads) {
+            super(creationConfig, config);
+            m_maxConcurrentReads = maxConcurrentReads;
+        }
+
+        void setLocation(final FSLocation location) {
+            getConfig().getFileChooserModel().setLocation(location);
+        }
+
+        @Override
+        protected PortObject[] readFromPath(final Path inputPath, final ExecutionContext exec) throws Exception {
+            m_readingThreads.put(Thread.currentThread(), Boolean.TRUE);
+            if (BLOCK.equals(inputPath)) {
+                m_blockStarted.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException ex) {
+                    m_interrupted.countDown();
+                    throw ex;
+                }
+            } else if (FAIL.equals(inputPath)) {
+                // ensures that the blocking read is pending when the failure is noticed
+                m_blockStarted.await();
+                throw new IOException("Corrupt file");
+            }
+            // later paths are read faster
+            final var fileName = inputPath.getFileName().toString();
+            final var index = Integer.parseInt(fileName.substring("file".length()));
+            Thread.sleep(Math.max(0, 20 - index) * 5L);
+            return m_objects.computeIfAbsent(inputPath, p -> new PortObject[]{mock(PortObject.class)});
+        }
+
+        @Override
+        protected PortObject[] readFromPaths(final List<FSPath> inputPaths, final ExecutionContext exec)
+            throws Exception {
+            if (!m_batch) {
+                return super.readFromPaths(inputPaths, exec);
+            }
+            m_batchPaths = inputPaths;
+            return readConcurrently(inputPaths, exec).stream()//
+                .map(o -> o[0])//
+                .toArray(PortObject[]::new);
+        }
+
+        @Override
+        protected int getMaxConcurrentReads() {
+            return m_maxConcurrentReads > 0 ? m_maxConcurrentReads : super.getMaxConcurrentReads();
+        }
+
+    }
+
+}
@@ -49,6 +49,8 @@
 package org.knime.filehandling.core.node.table.reader;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -61,6 +63,10 @@
 import org.junit.runner.RunWith;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.v2.RowWrite;
+import org.knime.core.data.v2.RowWriteCursor;
+import org.knime.core.data.v2.WriteValue;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.streamable.RowOutput;
 import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessible;
@@ -122,7 +128,8 @@ public void init() throws Exception {
         RowKey secondKey = RowKey.createRowKey(1L);
         when(m_rowKeyGenerator.createKey(any())).thenReturn(firstKey, secondKey);
         when(m_read.next()).thenReturn(m_randomAccessible, m_randomAccessible, null);
-        when(m_typeMapper.map(any(), any())).thenReturn(m_first, m_second);
+        // not used when writing into a RowWriteCursor
+        lenient().when(m_typeMapper.map(any(), any())).thenReturn(m_first, m_second);
     }
 
     /**
@@ -154,4 +161,30 @@ public void testFillRowOutputWithoutPogress() throws Exception {
         verify(m_output).push(m_first);
         verify(m_output).push(m_second);
     }
+
+    /**
+     * Tests that the {@code fillOutput} method writes the rows directly into a {@link RowWriteCursor}.
+     *
+     * @throws Exception never thrown
+     */
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testFillRowWriteCursor() throws Exception {
+        final var identifierCell = new StringCell("file.csv");
+        m_testInstance =
+            new DefaultIndividualTableReader<>(m_typeMapper, m_idxMapper, m_rowKeyGenerator, identifierCell);
+        when(m_read.getMaxProgress()).thenReturn(OptionalLong.empty());
+        final RowWriteCursor cursor = mock(RowWriteCursor.class);
+        final RowWrite rowWrite = mock(RowWrite.class);
+        final WriteValue<StringCell> identifierValue = mock(WriteValue.class);
+        when(cursor.forward()).thenReturn(rowWrite);
+        when(rowWrite.getNumColumns()).thenReturn(3);
+        when(rowWrite.getWriteValue(2)).thenReturn(identifierValue);
+        m_testInstance.fillOutput(m_read, cursor, m_monitor);
+        verify(m_read, times(3)).next();
+        verify(m_typeMapper).map(RowKey.createRowKey(0L), m_idxMapper, rowWrite);
+        verify(m_typeMapper).map(RowKey.createRowKey(1L), m_idxMapper, rowWrite);
+        verify(m_typeMapper, never()).map(any(), any());
+        verify(identifierValue, times(2)).setValue(identifierCell);
+    }
 }
@@ -50,6 +50,7 @@
 
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.knime.filehandling.core.node.table.reader.TRFTestingUtils.createTypedTableSpec;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -60,6 +61,7 @@
 
 import java.io.IOException;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -175,6 +177,38 @@ public void testCreate() throws IOException {
         assertEquals(RAW_SPEC, smtr.getRawSpec());
     }
 
+    /**
+     * Tests that
+     * {@link MultiTableReadFactory#restage(StagedMultiTableRead, SourceGroup, MultiTableReadConfig, ExecutionMonitor)}
+     * reuses the individual specs of the previous read instead of reading them again.
+     *
+     * @throws IOException never thrown
+     */
+    @Test
+    public void testRestageReusesIndividualSpecs() throws IOException {
+        when(m_tableReader.readSpec(eq(PATH1), any(), any())).thenReturn(SPEC1);
+        when(m_tableReader.readSpec(eq(PATH2), any(), any())).thenReturn(SPEC2);
+
+        when(m_typeHierarchy.createResolver()).thenReturn(m_typeResolver);
+        when(m_typeResolver.getMostSpecificType()).thenReturn("X", "Y", "Z", "X", "Y", "Z");
+        when(m_typeResolver.hasType()).thenReturn(true);
+
+        ExecutionMonitor exec = mock(ExecutionMonitor.class);
+
+        when(m_sourceGroup.iterator()).thenAnswer(i -> asList(PATH1, PATH2).iterator());
+        when(m_sourceGroup.stream()).thenAnswer(i -> Stream.of(PATH1, PATH2));
+        when(m_sourceGroup.size()).thenReturn(2);
+        when(m_sourceGroup.getFingerprint()).thenReturn(SourceGroup.computeFingerprint(asList(PATH1, PATH2)));
+
+        StagedMultiTableRead<String, String> previous = m_testInstance.create(m_sourceGroup, m_config, exec);
+        StagedMultiTableRead<String, String> restaged = m_testInstance.restage(previous, m_sourceGroup, m_config, exec);
+
+        verify(m_tableReader, times(1)).readSpec(eq(PATH1), any(), any());
+        verify(m_tableReader, times(1)).readSpec(eq(PATH2), any(), any());
+        assertNotSame(previous, restaged);
+        assertEquals(RAW_SPEC, restaged.getRawSpec());
+    }
+
     /**
      * Tests the implementation of
      * {@link MultiTableReadFactory#createFromConfig(SourceGroup, MultiTableReadConfig)}.
@@ -51,11 +51,14 @@
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -75,6 +78,9 @@
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.filestore.FileStoreFactory;
+import org.knime.core.data.v2.RowContainer;
+import org.knime.core.data.v2.RowWriteCursor;
+import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.streamable.RowOutput;
 import org.knime.filehandling.core.node.table.reader.config.TableReadConfig;
@@ -230,6 +236,62 @@ public void testFillRowOutput() throws Exception {
         verify(m_individualTableReader, times(2)).fillOutput(any(), eq(m_rowOutput), any());
     }
 
+    /**
+     * Tests that the {@link MultiTableRead#readTypedTable(ExecutionContext)} implementation writes all reads into the
+     * cursor of a single {@link RowContainer} and finishes it afterwards.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testReadTypedTable() throws Exception {
+        stubReadFn();
+        stubIndividualTableReaderFactory();
+        when(m_sourceGroup.iterator()).thenReturn(asList(PATH1, PATH2).iterator());
+        final ExecutionContext exec = mock(ExecutionContext.class);
+        final ExecutionMonitor progress = mock(ExecutionMonitor.class);
+        when(exec.createSubProgress(anyDouble())).thenReturn(progress);
+        final RowContainer container = mock(RowContainer.class);
+        final RowWriteCursor cursor = mock(RowWriteCursor.class);
+        when(exec.createRowContainer(m_outputSpec)).thenReturn(container);
+        when(container.createCursor()).thenReturn(cursor);
+
+        m_testInstance.readTypedTable(exec);
+
+        verify(m_individualTableReaderFactory).apply(eq(PATH1), any());
+        verify(m_individualTableReaderFactory).apply(eq(PATH2), any());
+        verify(m_individualTableReader, times(2)).fillOutput(any(), eq(cursor), eq(progress));
+        verify(m_individualTableReader, never()).fillOutput(any(), any(RowOutput.class), any());
+        verify(cursor).close();
+        verify(container).finish();
+        verify(container, never()).close();
+    }
+
+    /**
+     * Tests that the {@link RowContainer} is closed if finishing the table fails.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testReadTypedTableClosesContainerIfFinishFails() throws Exception {
+        when(m_sourceGroup.iterator()).thenReturn(asList(PATH1).iterator());
+        @SuppressWarnings("unchecked")
+        final Read<String> read = mock(Read.class);
+        when(m_readFn.apply(PATH1)).thenReturn(read);
+        stubIndividualTableReaderFactory();
+        final ExecutionContext exec = mock(ExecutionContext.class);
+        when(exec.createSubProgress(anyDouble())).thenReturn(mock(ExecutionMonitor.class));
+        final RowContainer container = mock(RowContainer.class);
+        when(exec.createRowContainer(m_outputSpec)).thenReturn(container);
+        when(container.createCursor()).thenReturn(mock(RowWriteCursor.class));
+        final var failure = new IOException("finish failed");
+        doThrow(failure).when(container).finish();
+
+        final Exception ex = assertThrows(Exception.class, () -> m_testInstance.readTypedTable(exec));
+
+        assertEquals(failure, ex.getSuppressed()[0]);
+        verify(container).close();
+    }
+
     /**
      * Tests the {@link MultiTableRead#createPreviewIterator()} implementation.
      *
@@ -313,7 +313,10 @@ public void testGetRawSpec() {
 
     private SourceGroup<String> stubSourceGroup(final String... items) {
         when(m_sourceGroup.size()).thenReturn(items.length);
-        when(m_sourceGroup.stream()).thenReturn(Arrays.stream(items));
+        // not needed if the fingerprints don't match
+        Mockito.lenient().when(m_sourceGroup.stream()).thenReturn(Arrays.stream(items));
+        Mockito.lenient().when(m_sourceGroup.getFingerprint())
+            .thenReturn(SourceGroup.computeFingerprint(asList(items)));
         return m_sourceGroup;
     }
 
@@ -325,6 +328,7 @@ public void testIsValidFor() {
         assertTrue(m_testInstance.isValidFor(stubSourceGroup(PATH1, PATH2)));
         assertFalse(m_testInstance.isValidFor(stubSourceGroup(PATH1)));
         assertFalse(m_testInstance.isValidFor(stubSourceGroup(PATH1, "unknown")));
+        assertFalse(m_testInstance.isValidFor(stubSourceGroup(PATH2, PATH1)));
     }
 
 }
@@ -65,6 +65,7 @@
 import static org.knime.filehandling.core.node.table.reader.config.tablespec.TableSpecConfigTestingUtils.SPEC2;
 import static org.knime.filehandling.core.node.table.reader.config.tablespec.TableSpecConfigTestingUtils.getProductionPaths;
 import static org.knime.filehandling.core.node.table.reader.config.tablespec.TableSpecConfigTestingUtils.stub;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -193,7 +194,9 @@ public void testCreateFromTransformationModel() {
     private void stubSourceGroup(final String id, final String... items) {
         when(m_sourceGroup.getID()).thenReturn(id);
         when(m_sourceGroup.size()).thenReturn(items.length);
-        when(m_sourceGroup.stream()).thenReturn(Arrays.stream(items));
+        // not needed if the fingerprints don't match
+        lenient().when(m_sourceGroup.stream()).thenReturn(Arrays.stream(items));
+        lenient().when(m_sourceGroup.getFingerprint()).thenReturn(SourceGroup.computeFingerprint(asList(items)));
     }
 
     @Test
@@ -238,6 +241,20 @@ public void testIsConfiguredWithconfigIDAndSourceGroupDifferentItems() {
         assertFalse(tsc.isConfiguredWith(m_configID, m_sourceGroup));
     }
 
+    @Test
+    public void testIsConfiguredWithconfigIDAndSourceGroupDifferentOrder() {
+        final TableSpecConfig<String> tsc = builder().build();
+        when(m_configID.isCompatible(m_configID)).thenReturn(true);
+        stubSourceGroup(ROOT_PATH, PATH2, PATH1);
+        assertFalse(tsc.isConfiguredWith(m_configID, m_sourceGroup));
+    }
+
+    @Test
+    public void testSourceGroupFingerprintMatchesItems() {
+        final TableSpecConfig<String> tsc = builder().build();
+        assertEquals(SourceGroup.computeFingerprint(asList(PATH1, PATH2)), tsc.getSourceGroupFingerprint());
+    }
+
     public void testIsConfiguredWithConfigIDAndSourceGroupDifferentSourceGroupID() {
         final TableSpecConfig<String> tsc = builder().build();
         stubSourceGroup("other", PATH1, PATH2);
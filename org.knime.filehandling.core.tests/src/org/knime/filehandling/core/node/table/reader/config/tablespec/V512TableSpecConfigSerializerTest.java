@@ -0,0 +1,187 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.node.table.reader.config.tablespec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.knime.filehandling.core.node.table.reader.config.tablespec.TableSpecConfigTestingUtils.COL1;
+import static org.knime.filehandling.core.node.table.reader.config.tablespec.TableSpecConfigTestingUtils.COL2;
+import static org.knime.filehandling.core.node.table.reader.config.tablespec.TableSpecConfigTestingUtils.COL3;
+import static org.knime.filehandling.core.node.table.reader.config.tablespec.TableSpecConfigTestingUtils.SPEC1;
+import static org.knime.filehandling.core.node.table.reader.config.tablespec.TableSpecConfigTestingUtils.SPEC2;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.knime.core.data.convert.map.ProductionPath;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettings;
+import org.knime.filehandling.core.node.table.reader.config.tablespec.TableSpecConfigTestingUtils.TableSpecConfigBuilder;
+import org.knime.filehandling.core.node.table.reader.selector.ColumnFilterMode;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * Contains unit tests for V512TableSpecConfigSerializer.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class V512TableSpecConfigSerializerTest {
+
+    @Mock
+    private ConfigIDLoader m_configIDLoader;
+
+    @Mock
+    private ConfigID m_configID;
+
+    @Mock
+    private NodeSettingsSerializer<String> m_typeSerializer;
+
+    @Mock
+    private ProductionPathSerializer m_productionPathSerializer;
+
+    private V512TableSpecConfigSerializer<String> m_testInstance;
+
+    /**
+     * Initializes the test instance.
+     */
+    @Before
+    public void init() {
+        m_testInstance =
+            new V512TableSpecConfigSerializer<>(m_productionPathSerializer, m_configIDLoader, m_typeSerializer);
+    }
+
+    private TableSpecConfigBuilder builder() {
+        return new TableSpecConfigTestingUtils.TableSpecConfigBuilder(m_configID);
+    }
+
+    private void stubForLoading(final TableSpecConfigBuilder builder) throws InvalidSettingsException {
+        when(m_configIDLoader.createFromSettings(any())).thenReturn(m_configID);
+        when(m_typeSerializer.load(any())).thenReturn(//
+            COL1.getType(), COL2.getType(), COL3.getType(), // for TableTransformation
+            COL1.getType(), COL2.getType(), COL2.getType(), COL3.getType()); // for the distinct individual specs
+        when(m_productionPathSerializer.loadProductionPath(any(), any())).thenReturn(builder.m_prodPaths[0],
+            Arrays.stream(builder.m_prodPaths).skip(1).toArray(ProductionPath[]::new));
+    }
+
+    /**
+     * Tests that serializing and then deserializing works.
+     *
+     * @throws InvalidSettingsException never thrown
+     */
+    @Test
+    public void testSaveLoad() throws InvalidSettingsException {
+        final TableSpecConfigBuilder builder = builder();
+        final TableSpecConfig<String> config = builder//
+            .withEnforceTypes(false)//
+            .withUnknownPosition(2)//
+            .withKeepUnknown(true)//
+            .withPositions(0, 2, 1)//
+            .withKeep(false, true, false)//
+            .withColumnFilterMode(ColumnFilterMode.UNION)//
+            .build();
+        final NodeSettings settings = new NodeSettings("test");
+        m_testInstance.save(config, settings);
+
+        stubForLoading(builder);
+        final TableSpecConfig<String> loaded = m_testInstance.load(settings);
+        assertEquals(config, loaded);
+    }
+
+    /**
+     * Tests that items with the same spec share a single stored schema, also after loading.
+     *
+     * @throws InvalidSettingsException never thrown
+     */
+    @Test
+    public void testSchemasAreStoredOnce() throws InvalidSettingsException {
+        final TableSpecConfigBuilder builder = builder();
+        final TableSpecConfig<String> config = builder//
+            .withItems("first", "second", "third", "fourth")//
+            .withSpecs(SPEC1, SPEC2, SPEC1, SPEC2)//
+            .build();
+        final NodeSettings settings = new NodeSettings("test");
+        m_testInstance.save(config, settings);
+
+        assertEquals(2, settings.getNodeSettings("schemas").keySet().size());
+
+        stubForLoading(builder);
+        final TableSpecConfig<String> loaded = m_testInstance.load(settings);
+        assertEquals(config, loaded);
+        assertEquals(config.getItems(), loaded.getItems());
+        assertSame(loaded.getSpec("first"), loaded.getSpec("third"));
+        assertSame(loaded.getSpec("second"), loaded.getSpec("fourth"));
+    }
+
+    /**
+     * Tests that a corrupt item index is reported as invalid settings.
+     *
+     * @throws InvalidSettingsException expected
+     */
+    @Test(expected = InvalidSettingsException.class)
+    public void testLoadFailsOnCorruptItemIndex() throws InvalidSettingsException {
+        final TableSpecConfigBuilder builder = builder();
+        final NodeSettings settings = new NodeSettings("test");
+        m_testInstance.save(builder.build(), settings);
+        settings.addString("item_index", "not a valid index");
+
+        // loading fails before the config id is loaded
+        when(m_typeSerializer.load(any())).thenReturn(COL1.getType(), COL2.getType(), COL3.getType(),
+            COL1.getType(), COL2.getType(), COL2.getType(), COL3.getType());
+        when(m_productionPathSerializer.loadProductionPath(any(), any())).thenReturn(builder.m_prodPaths[0],
+            Arrays.stream(builder.m_prodPaths).skip(1).toArray(ProductionPath[]::new));
+        m_testInstance.load(settings);
+    }
+
+}
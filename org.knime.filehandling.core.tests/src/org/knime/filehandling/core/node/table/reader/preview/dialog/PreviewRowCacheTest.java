@@ -0,0 +1,200 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.node.table.reader.preview.dialog;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Contains unit tests for {@link PreviewRowCache}.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+public class PreviewRowCacheTest {
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("col", StringCell.TYPE).createSpec());
+
+    /**
+     * Tests that rows can be requested in arbitrary order while the source is only read once.
+     */
+    @Test
+    public void testRandomAccessReadsSourceOnce() {
+        final CountingRowIterator source = new CountingRowIterator(10);
+        try (final PreviewRowCache cache = new PreviewRowCache(SPEC, source, 3, 2)) {
+            assertRow(5, cache.getRow(5));
+            assertEquals(6, source.m_numRowsReturned);
+            assertRow(0, cache.getRow(0));
+            assertRow(2, cache.getRow(2));
+            assertRow(9, cache.getRow(9));
+            assertRow(5, cache.getRow(5));
+            assertEquals(10, source.m_numRowsReturned);
+        }
+    }
+
+    /**
+     * Tests that only the configured number of pages is kept in memory and that spilled pages are read back correctly.
+     */
+    @Test
+    public void testSpilledPagesAreReadBack() {
+        try (final PreviewRowCache cache = new PreviewRowCache(SPEC, new CountingRowIterator(10), 2, 1)) {
+            assertTrue(cache.hasRow(9));
+            assertEquals(1, cache.getNumPagesInMemory());
+            for (int i = 0; i < 10; i++) {
+                assertRow(i, cache.getRow(i));
+                assertEquals(1, cache.getNumPagesInMemory());
+            }
+        }
+    }
+
+    /**
+     * Tests that pages with duplicate row keys, e.g. from a row ID column with repeated values, can be spilled.
+     */
+    @Test
+    public void testSpillingDuplicateRowKeys() {
+        try (final PreviewRowCache cache =
+            new PreviewRowCache(SPEC, new CountingRowIterator(6, new RowKey("duplicate")), 2, 1)) {
+            assertTrue(cache.hasRow(5));
+            for (int i = 0; i < 6; i++) {
+                final DataRow row = cache.getRow(i);
+                assertEquals(new RowKey("duplicate"), row.getKey());
+                assertEquals(new StringCell("val" + i), row.getCell(0));
+            }
+        }
+    }
+
+    /**
+     * Tests the behavior at the end of the source.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void testEndOfSource() {
+        try (final PreviewRowCache cache = new PreviewRowCache(SPEC, new CountingRowIterator(3), 2, 1)) {
+            assertTrue(cache.hasRow(2));
+            assertFalse(cache.hasRow(3));
+            assertEquals(3, cache.getNumRowsRead());
+            cache.getRow(3);
+        }
+    }
+
+    /**
+     * Tests that closing the cache closes the source and that no rows are served afterwards.
+     */
+    @Test
+    public void testCloseClosesSource() {
+        final CountingRowIterator source = new CountingRowIterator(3);
+        final PreviewRowCache cache = new PreviewRowCache(SPEC, source, 2, 1);
+        assertTrue(cache.hasRow(1));
+        cache.close();
+        assertTrue(source.m_closed);
+        assertFalse(cache.hasRow(0));
+    }
+
+    private static void assertRow(final int expectedIdx, final DataRow row) {
+        assertEquals(RowKey.createRowKey((long)expectedIdx), row.getKey());
+        assertEquals(new StringCell("val" + expectedIdx), row.getCell(0));
+    }
+
+    private static final class CountingRowIterator extends CloseableRowIterator {
+
+        private final int m_numRows;
+
+        private final RowKey m_key;
+
+        private int m_numRowsReturned;
+
+        private boolean m_closed;
+
+        CountingRowIterator(final int numRows) {
+            this(numRows, null);
+        }
+
+        /**
+         * @param key the key of all rows or {@code null} to number the rows
+         */
+        CountingRowIterator(final int numRows, final RowKey key) {
+            m_numRows = numRows;
+            m_key = key;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return m_numRowsReturned < m_numRows;
+        }
+
+        @Override
+        public DataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final int idx = m_numRowsReturned;
+            m_numRowsReturned++;
+            final RowKey key = m_key == null ? RowKey.createRowKey((long)idx) : m_key;
+            return new DefaultRow(key, new StringCell("val" + idx));
+        }
+
+        @Override
+        public void close() {
+            m_closed = true;
+        }
+
+    }
+
+}
@@ -49,16 +49,39 @@
 package org.knime.filehandling.core.node.table.reader.type.mapping;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.knime.filehandling.core.node.table.reader.type.mapping.TypeMappingTestUtils.mockProductionPath;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.function.Function;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValue;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.convert.map.ProductionPath;
+import org.knime.core.data.def.BooleanCell;
 import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.filestore.FileStoreFactory;
+import org.knime.core.data.v2.RowWrite;
+import org.knime.core.data.v2.WriteValue;
+import org.knime.core.data.v2.value.BooleanValueFactory.BooleanWriteValue;
+import org.knime.core.data.v2.value.DoubleValueFactory.DoubleWriteValue;
+import org.knime.core.data.v2.value.IntValueFactory.IntWriteValue;
+import org.knime.core.data.v2.value.LongValueFactory.LongWriteValue;
 import org.knime.filehandling.core.node.table.reader.DummyReaderSpecificConfig;
 import org.knime.filehandling.core.node.table.reader.ReadAdapter;
 import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessible;
@@ -85,6 +108,9 @@ public class DefaultTypeMapperTest {
 
     private RowKey m_key = new RowKey("test");
 
+    @Mock
+    private RowWrite m_rowWrite;
+
     private DefaultTypeMapper<String, DummyReaderSpecificConfig> m_testInstance;
 
 
@@ -112,4 +138,118 @@ public void testMap() throws Exception {
         assertEquals(expected, actual);
     }
 
+    /**
+     * Tests that the {@code map} implementation for {@link RowWrite RowWrites} writes the values of int, long, double
+     * and boolean columns directly into the typed write values, i.e. without creating cells.
+     *
+     * @throws Exception never thrown
+     */
+    @Test
+    public void testMapIntoRowWriteUsesTypedWriteValues() throws Exception {
+        final var typeMapper = createTypeMapper(//
+            mockProductionPath(Integer.class, IntCell.TYPE, Integer::valueOf, failingConverter()), //
+            mockProductionPath(Long.class, LongCell.TYPE, Long::valueOf, failingConverter()), //
+            mockProductionPath(Double.class, DoubleCell.TYPE, Double::valueOf, failingConverter()), //
+            mockProductionPath(Boolean.class, BooleanCell.TYPE, Boolean::valueOf, failingConverter()));
+        when(m_randomAccessible.get(0)).thenReturn("1");
+        when(m_randomAccessible.get(1)).thenReturn("2");
+        when(m_randomAccessible.get(2)).thenReturn("3.5");
+        when(m_randomAccessible.get(3)).thenReturn("true");
+        final IntWriteValue intValue = mock(IntWriteValue.class);
+        final LongWriteValue longValue = mock(LongWriteValue.class);
+        final DoubleWriteValue doubleValue = mock(DoubleWriteValue.class);
+        final BooleanWriteValue booleanValue = mock(BooleanWriteValue.class);
+        when(m_rowWrite.<IntWriteValue> getWriteValue(0)).thenReturn(intValue);
+        when(m_rowWrite.<LongWriteValue> getWriteValue(1)).thenReturn(longValue);
+        when(m_rowWrite.<DoubleWriteValue> getWriteValue(2)).thenReturn(doubleValue);
+        when(m_rowWrite.<BooleanWriteValue> getWriteValue(3)).thenReturn(booleanValue);
+
+        typeMapper.map(m_key, m_randomAccessible, m_rowWrite);
+
+        verify(m_rowWrite).setRowKey(m_key);
+        verify(intValue).setIntValue(1);
+        verify(longValue).setLongValue(2L);
+        verify(doubleValue).setDoubleValue(3.5);
+        verify(booleanValue).setBooleanValue(true);
+        verify(m_rowWrite, never()).setMissing(anyInt());
+    }
+
+    /**
+     * Tests that the {@code map} implementation for {@link RowWrite RowWrites} converts the values of other columns
+     * into cells.
+     *
+     * @throws Exception never thrown
+     */
+    @Test
+    public void testMapIntoRowWriteFallsBackToConverter() throws Exception {
+        when(m_randomAccessible.get(0)).thenReturn("hans");
+        when(m_randomAccessible.get(1)).thenReturn("franz");
+        final WriteValue<DataValue> first = mockWriteValue();
+        final WriteValue<DataValue> second = mockWriteValue();
+        when(m_rowWrite.<WriteValue<DataValue>> getWriteValue(0)).thenReturn(first);
+        when(m_rowWrite.<WriteValue<DataValue>> getWriteValue(1)).thenReturn(second);
+
+        m_testInstance.map(m_key, m_randomAccessible, m_rowWrite);
+
+        verify(m_rowWrite).setRowKey(m_key);
+        verify(first).setValue(new StringCell("hans"));
+        verify(second).setValue(new StringCell("franz"));
+    }
+
+    /**
+     * Tests that the {@code map} implementation for {@link RowWrite RowWrites} writes missing values if no value is
+     * produced or the converter doesn't create a cell.
+     *
+     * @throws Exception never thrown
+     */
+    @Test
+    public void testMapIntoRowWriteWritesMissingValues() throws Exception {
+        final var typeMapper = createTypeMapper(//
+            mockProductionPath(Integer.class, IntCell.TYPE, Integer::valueOf, failingConverter()), //
+            mockProductionPath(String.class, StringCell.TYPE, Function.identity(), v -> null), //
+            mockProductionPath(String.class, StringCell.TYPE, Function.identity(), v -> DataType.getMissingCell()));
+        when(m_randomAccessible.get(1)).thenReturn("hans");
+        when(m_randomAccessible.get(2)).thenReturn("franz");
+
+        typeMapper.map(m_key, m_randomAccessible, m_rowWrite);
+
+        verify(m_rowWrite).setMissing(0);
+        verify(m_rowWrite).setMissing(1);
+        verify(m_rowWrite).setMissing(2);
+        verify(m_rowWrite, never()).getWriteValue(anyInt());
+    }
+
+    /**
+     * Tests that the {@code map} implementation for {@link RowWrite RowWrites} wraps exceptions into
+     * {@link TypeMapperException TypeMapperExceptions}.
+     */
+    @Test
+    public void testMapIntoRowWriteWrapsExceptions() {
+        final var typeMapper = createTypeMapper(//
+            mockProductionPath(Integer.class, IntCell.TYPE, Integer::valueOf, failingConverter()));
+        when(m_randomAccessible.get(0)).thenReturn("foo");
+
+        final TypeMapperException ex =
+            assertThrows(TypeMapperException.class, () -> typeMapper.map(m_key, m_randomAccessible, m_rowWrite));
+
+        assertEquals(m_key.toString(), ex.getRowKey());
+        assertTrue(ex.getCause() instanceof NumberFormatException);
+    }
+
+    private DefaultTypeMapper<String, DummyReaderSpecificConfig>
+        createTypeMapper(final ProductionPath... productionPaths) {
+        return new DefaultTypeMapper<>(new TestReadAdapter(), productionPaths, m_fsFactory, m_config);
+    }
+
+    private static <T> Function<T, DataCell> failingConverter() {
+        return v -> {
+            throw new AssertionError("The value should have been written without creating a cell.");
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static WriteValue<DataValue> mockWriteValue() {
+        return mock(WriteValue.class);
+    }
+
 }
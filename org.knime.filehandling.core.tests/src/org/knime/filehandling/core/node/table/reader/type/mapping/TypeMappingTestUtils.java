@@ -49,7 +49,9 @@
 package org.knime.filehandling.core.node.table.reader.type.mapping;
 
 import java.util.Arrays;
+import java.util.function.Function;
 
+import org.knime.core.data.DataCell;
 import org.knime.core.data.DataType;
 import org.knime.core.data.convert.datacell.JavaToDataCellConverter;
 import org.knime.core.data.convert.datacell.JavaToDataCellConverterFactory;
@@ -85,6 +87,16 @@ static ProductionPath mockProductionPath(final String externalType) {
             new TestJavaToDataCellConverterFactory());
     }
 
+    /**
+     * Creates a {@link ProductionPath} that parses the string values into <b>javaType</b> and converts them into cells
+     * of <b>cellType</b>.
+     */
+    static <T> ProductionPath mockProductionPath(final Class<T> javaType, final DataType cellType,
+        final Function<String, T> parser, final Function<T, DataCell> converter) {
+        return new ProductionPath(new TypedCellValueProducerFactory<>(javaType, parser),
+            new TypedJavaToDataCellConverterFactory<>(javaType, cellType, converter));
+    }
+
     static class TestReadAdapter extends ReadAdapter<String, String> {
 
     }
@@ -143,4 +155,79 @@ public JavaToDataCellConverter<String> create(final FileStoreFactory fileStoreFa
         }
 
     }
+
+    static class TypedCellValueProducerFactory<T> implements
+        CellValueProducerFactory<TestReadAdapter, String, T, ReadAdapterParams<TestReadAdapter, DummyReaderSpecificConfig>> {
+
+        private final Class<T> m_javaType;
+
+        private final Function<String, T> m_parser;
+
+        TypedCellValueProducerFactory(final Class<T> javaType, final Function<String, T> parser) {
+            m_javaType = javaType;
+            m_parser = parser;
+        }
+
+        @Override
+        public Class<?> getDestinationType() {
+            return m_javaType;
+        }
+
+        @Override
+        public String getSourceType() {
+            return "string";
+        }
+
+        @Override
+        public String getIdentifier() {
+            return m_javaType.getSimpleName() + " producer factory";
+        }
+
+        @Override
+        public CellValueProducer<TestReadAdapter, T, ReadAdapterParams<TestReadAdapter, DummyReaderSpecificConfig>>
+            create() {
+            return (s, p) -> {
+                final String value = s.get(p);
+                return value == null ? null : m_parser.apply(value);
+            };
+        }
+
+    }
+
+    static class TypedJavaToDataCellConverterFactory<T> implements JavaToDataCellConverterFactory<T> {
+
+        private final Class<T> m_javaType;
+
+        private final DataType m_cellType;
+
+        private final Function<T, DataCell> m_converter;
+
+        TypedJavaToDataCellConverterFactory(final Class<T> javaType, final DataType cellType,
+            final Function<T, DataCell> converter) {
+            m_javaType = javaType;
+            m_cellType = cellType;
+            m_converter = converter;
+        }
+
+        @Override
+        public DataType getDestinationType() {
+            return m_cellType;
+        }
+
+        @Override
+        public Class<?> getSourceType() {
+            return m_javaType;
+        }
+
+        @Override
+        public String getIdentifier() {
+            return m_javaType.getSimpleName() + " converter";
+        }
+
+        @Override
+        public JavaToDataCellConverter<T> create(final FileStoreFactory fileStoreFactory) {
+            return m_converter::apply;
+        }
+
+    }
 }
@@ -0,0 +1,375 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.node.table.writer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.StringCell;
+import org.knime.filehandling.core.connections.DefaultFSConnectionFactory;
+import org.knime.filehandling.core.connections.FSConnection;
+import org.knime.filehandling.core.connections.FSPath;
+import org.knime.filehandling.core.data.location.FSLocationValue;
+import org.knime.filehandling.core.defaultnodesettings.filechooser.writer.FileOverwritePolicy;
+
+/**
+ * Contains tests for {@link AbstractMultiTableWriterCellFactory}.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("javadoc")
+public final class AbstractMultiTableWriterCellFactoryTest {
+
+    private static final String BLOCKING_VALUE = "block";
+
+    private static final String FAILING_VALUE = "fail";
+
+    /**
+     * Temporary test folder
+     */
+    @Rule
+    public final TemporaryFolder m_testFolder = new TemporaryFolder();
+
+    private FSConnection m_connection;
+
+    private TestCellFactory m_cellFactory;
+
+    @Before
+    public void setup() {
+        m_connection = DefaultFSConnectionFactory.createLocalFSConnection();
+        m_cellFactory = new TestCellFactory();
+        m_cellFactory.setOutputPath(m_connection.getFileSystem().getPath(m_testFolder.getRoot().toString()));
+        m_cellFactory.setFileNameGenerator((row, rowIdx) -> "file" + rowIdx);
+        m_cellFactory.setOverwritePolicy(FileOverwritePolicy.FAIL);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        m_cellFactory.disableConcurrentWrites();
+        m_connection.close();
+    }
+
+    private static List<DataRow> createRows(final String... values) {
+        final List<DataRow> rows = new ArrayList<>();
+        for (var i = 0; i < values.length; i++) {
+            rows.add(new DefaultRow("Row" + i, new StringCell(values[i])));
+        }
+        return rows;
+    }
+
+    private Path getFile(final int rowIdx) {
+        return m_testFolder.getRoot().toPath().resolve("file" + rowIdx + ".txt");
+    }
+
+    private FSPath getFSPath(final int rowIdx) {
+        return m_connection.getFileSystem().getPath(getFile(rowIdx).toString());
+    }
+
+    private static String getPath(final DataCell[] cells) {
+        return ((FSLocationValue)cells[0]).getFSLocation().getPath();
+    }
+
+    private static String getStatus(final DataCell[] cells) {
+        return ((StringValue)cells[1]).getStringValue();
+    }
+
+    @Test
+    public void testConcurrentWritesKeepRowOrder() throws IOException {
+        final var values = new String[20];
+        for (var i = 0; i < values.length; i++) {
+            values[i] = "value" + i;
+        }
+        final List<DataRow> rows = createRows(values);
+        m_cellFactory.enableConcurrentWrites(new ListRowIterator(rows), 4);
+        for (var i = 0; i < rows.size(); i++) {
+            final DataCell[] cells = m_cellFactory.getCells(rows.get(i));
+            assertTrue(getPath(cells).endsWith("file" + i + ".txt"));
+            assertEquals("created", getStatus(cells));
+            assertEquals(values[i], Files.readString(getFile(i)));
+        }
+    }
+
+    @Test
+    public void testFailPolicy() throws IOException {
+        Files.writeString(getFile(1), "existing");
+        final List<DataRow> rows = createRows("a", "b");
+        m_cellFactory.enableConcurrentWrites(new ListRowIterator(rows), 2);
+        assertEquals("created", getStatus(m_cellFactory.getCells(rows.get(0))));
+        final var ex = assertThrows(IllegalStateException.class, () -> m_cellFactory.getCells(rows.get(1)));
+        assertTrue(ex.getMessage().contains("already exists"));
+        assertEquals("existing", Files.readString(getFile(1)));
+    }
+
+    @Test
+    public void testIgnorePolicy() throws IOException {
+        Files.writeString(getFile(1), "existing");
+        m_cellFactory.setOverwritePolicy(FileOverwritePolicy.IGNORE);
+        final List<DataRow> rows = createRows("a", "b");
+        m_cellFactory.enableConcurrentWrites(new ListRowIterator(rows), 2);
+        assertEquals("created", getStatus(m_cellFactory.getCells(rows.get(0))));
+        assertEquals("unmodified", getStatus(m_cellFactory.getCells(rows.get(1))));
+        assertEquals("existing", Files.readString(getFile(1)));
+    }
+
+    @Test
+    public void testOverwritePolicy() throws IOException {
+        Files.writeString(getFile(1), "existing content");
+        m_cellFactory.setOverwritePolicy(FileOverwritePolicy.OVERWRITE);
+        final List<DataRow> rows = createRows("a", "b");
+        m_cellFactory.enableConcurrentWrites(new ListRowIterator(rows), 2);
+        assertEquals("created", getStatus(m_cellFactory.getCells(rows.get(0))));
+        assertEquals("overwritten", getStatus(m_cellFactory.getCells(rows.get(1))));
+        assertEquals("b", Files.readString(getFile(1)));
+    }
+
+    @Test
+    public void testSequentialWritesRespectPolicy() throws IOException {
+        Files.writeString(getFile(0), "existing");
+        m_cellFactory.setOverwritePolicy(FileOverwritePolicy.IGNORE);
+        final List<DataRow> rows = createRows("a", "b");
+        assertEquals("unmodified", getStatus(m_cellFactory.getCells(rows.get(0))));
+        assertEquals("created", getStatus(m_cellFactory.getCells(rows.get(1))));
+    }
+
+    @Test
+    public void testListedFileIsNotWrittenWithFailPolicy() throws IOException {
+        // the listed file doesn't exist, i.e. the policy must have been applied without accessing it
+        m_cellFactory.m_listing = List.of(getFSPath(1));
+        final List<DataRow> rows = createRows("a", "b");
+        assertEquals("created", getStatus(m_cellFactory.getCells(rows.get(0))));
+        final var ex = assertThrows(IllegalStateException.class, () -> m_cellFactory.getCells(rows.get(1)));
+        assertTrue(ex.getCause() instanceof FileAlreadyExistsException);
+        assertFalse(Files.exists(getFile(1)));
+    }
+
+    @Test
+    public void testListedFileIsNotWrittenWithIgnorePolicy() throws IOException {
+        m_cellFactory.m_listing = List.of(getFSPath(1));
+        m_cellFactory.setOverwritePolicy(FileOverwritePolicy.IGNORE);
+        final List<DataRow> rows = createRows("a", "b");
+        assertEquals("created", getStatus(m_cellFactory.getCells(rows.get(0))));
+        assertEquals("unmodified", getStatus(m_cellFactory.getCells(rows.get(1))));
+        assertFalse(Files.exists(getFile(1)));
+    }
+
+    @Test
+    public void testFileCreatedAfterListingRespectsPolicy() throws IOException {
+        final List<DataRow> rows = createRows("a", "b", "c");
+        assertEquals("created", getStatus(m_cellFactory.getCells(rows.get(0))));
+        Files.writeString(getFile(1), "existing");
+        Files.writeString(getFile(2), "existing");
+
+        final var ex = assertThrows(IllegalStateException.class, () -> m_cellFactory.getCells(rows.get(1)));
+        assertTrue(ex.getMessage().contains("already exists"));
+        assertEquals("existing", Files.readString(getFile(1)));
+
+        m_cellFactory.setOverwritePolicy(FileOverwritePolicy.OVERWRITE);
+        assertEquals("overwritten", getStatus(m_cellFactory.getCells(rows.get(2))));
+        assertEquals("c", Files.readString(getFile(2)));
+    }
+
+    @Test
+    public void testListingFailureFallsBackToWriteOutcome() throws IOException {
+        Files.writeString(getFile(1), "existing");
+        m_cellFactory.m_listingFailure = new IOException("Listing failed");
+        m_cellFactory.setOverwritePolicy(FileOverwritePolicy.IGNORE);
+        final List<DataRow> rows = createRows("a", "b");
+        assertEquals("created", getStatus(m_cellFactory.getCells(rows.get(0))));
+        assertEquals("unmodified", getStatus(m_cellFactory.getCells(rows.get(1))));
+        assertEquals("a", Files.readString(getFile(0)));
+        assertEquals("existing", Files.readString(getFile(1)));
+    }
+
+    @Test
+    public void testMismatchingRowFails() {
+        final List<DataRow> rows = createRows("a", "b");
+        m_cellFactory.enableConcurrentWrites(new ListRowIterator(rows), 2);
+        final var ex = assertThrows(IllegalStateException.class, () -> m_cellFactory.getCells(rows.get(1)));
+        assertTrue(ex.getMessage().contains("doesn't belong to the processed row 'Row1'"));
+    }
+
+    @Test
+    public void testWriteFailureIsRethrown() {
+        final List<DataRow> rows = createRows("a", FAILING_VALUE);
+        m_cellFactory.enableConcurrentWrites(new ListRowIterator(rows), 2);
+        m_cellFactory.getCells(rows.get(0));
+        final var ex = assertThrows(IllegalStateException.class, () -> m_cellFactory.getCells(rows.get(1)));
+        assertTrue(ex.getCause() instanceof IOException);
+    }
+
+    @Test(timeout = 10_000)
+    public void testDisableCancelsPendingWrites() throws InterruptedException {
+        final List<DataRow> rows = createRows("a", BLOCKING_VALUE);
+        final var iterator = new ListRowIterator(rows);
+        m_cellFactory.enableConcurrentWrites(iterator, 2);
+        assertEquals("created", getStatus(m_cellFactory.getCells(rows.get(0))));
+        assertTrue("The blocking write should have been submitted.",
+            m_cellFactory.m_blockingWriteStarted.await(5, TimeUnit.SECONDS));
+        m_cellFactory.disableConcurrentWrites();
+        assertTrue("The pending write should have been interrupted.",
+            m_cellFactory.m_blockingWriteInterrupted.await(5, TimeUnit.SECONDS));
+        assertTrue(iterator.m_closed.get());
+    }
+
+    private static final class TestCellFactory extends AbstractMultiTableWriterCellFactory<StringValue> {
+
+        private final CountDownLatch m_blockingWriteStarted = new CountDownLatch(1);
+
+        private final CountDownLatch m_blockingWriteInterrupted = new CountDownLatch(1);
+
+        /** The files the output directory is listed with instead of its actual content, if not {@code null}. */
+        private List<Path> m_listing;
+
+        private IOException m_listingFailure;
+
+        TestCellFactory() {
+            super(new DataColumnSpec[]{new DataColumnSpecCreator("Location", StringCell.TYPE).createSpec(),
+                new DataColumnSpecCreator("Status", StringCell.TYPE).createSpec()}, 0, FileOverwritePolicy.FAIL);
+        }
+
+        @Override
+        protected void writeFile(final OutputStream outputStream, final StringValue value) throws IOException {
+            final String content = value.getStringValue();
+            if (FAILING_VALUE.equals(content)) {
+                throw new IOException("Write failed");
+            } else if (BLOCKING_VALUE.equals(content)) {
+                m_blockingWriteStarted.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException ex) {
+                    m_blockingWriteInterrupted.countDown();
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+            }
+            outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        protected String getOutputFileExtension(final StringValue value) {
+            return "txt";
+        }
+
+        @Override
+        DirectoryStream<Path> newDirectoryStream(final FSPath directory) throws IOException {
+            if (m_listingFailure != null) {
+                throw m_listingFailure;
+            } else if (m_listing == null) {
+                return super.newDirectoryStream(directory);
+            }
+            return new DirectoryStream<Path>() {
+
+                @Override
+                public Iterator<Path> iterator() {
+                    return m_listing.iterator();
+                }
+
+                @Override
+                public void close() {
+                    // nothing to close
+                }
+            };
+        }
+    }
+
+    private static final class ListRowIterator extends CloseableRowIterator {
+
+        private final Iterator<DataRow> m_rows;
+
+        private final AtomicBoolean m_closed = new AtomicBoolean();
+
+        ListRowIterator(final List<DataRow> rows) {
+            m_rows = rows.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return m_rows.hasNext();
+        }
+
+        @Override
+        public DataRow next() {
+            return m_rows.next();
+        }
+
+        @Override
+        public void close() {
+            m_closed.set(true);
+        }
+    }
+}
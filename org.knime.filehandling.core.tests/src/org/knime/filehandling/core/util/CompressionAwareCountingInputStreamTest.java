@@ -0,0 +1,148 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 12, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Contains tests for {@link CompressionAwareCountingInputStream}.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+public final class CompressionAwareCountingInputStreamTest {
+
+    /**
+     * Temporary test folder
+     */
+    @Rule
+    public final TemporaryFolder m_testFolder = new TemporaryFolder();
+
+    private static byte[] createContent(final int size) {
+        final var content = new byte[size];
+        new Random(42).nextBytes(content);
+        // make the content compressible
+        for (var i = 0; i < size; i += 2) {
+            content[i] = 0;
+        }
+        return content;
+    }
+
+    private Path writeGzip(final String name, final byte[] content) throws IOException {
+        final var path = m_testFolder.getRoot().toPath().resolve(name);
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(path))) {
+            out.write(content);
+        }
+        return path;
+    }
+
+    @Test
+    public void testReadCompressed() throws IOException {
+        // spans multiple read ahead blocks
+        final var content = createContent(5 * (1 << 20) + 17);
+        final var path = writeGzip("test.csv.gz", content);
+        try (final var in = new CompressionAwareCountingInputStream(path)) {
+            assertArrayEquals(content, IOUtils.toByteArray(in));
+            assertEquals("The count should match the compressed size.", Files.size(path), in.getCount());
+        }
+    }
+
+    @Test
+    public void testReadUncompressed() throws IOException {
+        final var content = createContent(3 * (1 << 20));
+        final var path = m_testFolder.getRoot().toPath().resolve("test.csv");
+        Files.write(path, content);
+        try (final var in = new CompressionAwareCountingInputStream(path)) {
+            assertArrayEquals(content, IOUtils.toByteArray(in));
+            assertEquals(content.length, in.getCount());
+        }
+    }
+
+    @Test
+    public void testFallbackIfNotGzipped() throws IOException {
+        final var content = createContent(2 * (1 << 20) + 1);
+        final var path = m_testFolder.getRoot().toPath().resolve("not_gzipped.gz");
+        Files.write(path, content);
+        try (final var in = new CompressionAwareCountingInputStream(path)) {
+            assertArrayEquals("The stream must be rewound to the start of the file.", content,
+                IOUtils.toByteArray(in));
+            assertEquals(content.length, in.getCount());
+        }
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        final var path = m_testFolder.newFile("empty.csv").toPath();
+        try (final var in = new CompressionAwareCountingInputStream(path)) {
+            assertEquals(-1, in.read());
+            assertEquals(0, in.getCount());
+        }
+    }
+
+    @Test
+    public void testWrappedStreamIsCounted() throws IOException {
+        try (final var in = new CompressionAwareCountingInputStream(new ByteArrayInputStream(createContent(100)))) {
+            IOUtils.toByteArray(in);
+            assertEquals(100, in.getCount());
+        }
+    }
+}
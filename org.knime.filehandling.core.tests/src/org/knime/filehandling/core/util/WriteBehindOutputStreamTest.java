@@ -0,0 +1,132 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Contains tests for {@link WriteBehindOutputStream}.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+public final class WriteBehindOutputStreamTest {
+
+    private static byte[] createContent(final int size) {
+        final var content = new byte[size];
+        new Random(42).nextBytes(content);
+        return content;
+    }
+
+    @Test
+    public void testWriteSpanningMultipleBlocks() throws IOException {
+        final var content = createContent(10 * 1024 + 17);
+        final var out = new ByteArrayOutputStream();
+        try (final var writeBehind = new WriteBehindOutputStream(out, 1024, 2)) {
+            // mix single byte and bulk writes that don't align with the blocks
+            writeBehind.write(content[0]);
+            writeBehind.write(content, 1, 3000);
+            writeBehind.write(content, 3001, content.length - 3001);
+        }
+        assertArrayEquals(content, out.toByteArray());
+    }
+
+    @Test
+    public void testFlushWritesBufferedData() throws IOException {
+        final var out = new ByteArrayOutputStream();
+        try (final var writeBehind = new WriteBehindOutputStream(out, 1024, 2)) {
+            writeBehind.write(createContent(100));
+            writeBehind.flush();
+            assertEquals(100, out.size());
+        }
+    }
+
+    @Test
+    public void testUnderlyingStreamIsClosed() throws IOException {
+        final var closed = new boolean[1];
+        final var out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        new WriteBehindOutputStream(out, 1024, 1).close();
+        assertTrue(closed[0]);
+    }
+
+    @Test(timeout = 10_000)
+    public void testFailureOfUnderlyingStreamIsRethrown() throws IOException {
+        final OutputStream failing = new OutputStream() {
+            @Override
+            public void write(final int b) throws IOException {
+                throw new IOException("Disk full");
+            }
+        };
+        final var writeBehind = new WriteBehindOutputStream(failing, 16, 1);
+        final var content = createContent(1024);
+        final var ex = assertThrows(IOException.class, () -> {
+            // each write spans far more than the single block in flight, so the producer must wait for the failed
+            // background writer to return a block and notices its failure
+            for (var i = 0; i < 10; i++) {
+                writeBehind.write(content);
+            }
+        });
+        assertEquals("Disk full", ex.getMessage());
+        assertThrows(IOException.class, writeBehind::close);
+    }
+}
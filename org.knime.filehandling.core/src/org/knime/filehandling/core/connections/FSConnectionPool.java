@@ -0,0 +1,331 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.connections;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.util.FileSystemBrowser;
+import org.knime.filehandling.core.connections.base.BaseFileSystem;
+import org.knime.filehandling.core.connections.uriexport.noconfig.NoConfigURIExporterFactory;
+import org.knime.filehandling.core.util.WorkflowContextUtil;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Reference-counted pool for the convenience {@link FSConnection connections} that nodes create from an
+ * {@link FSLocationSpec} (local, relative-to, mountpoint and hub space file systems).
+ * <p>
+ * Connections are keyed by the file system category and specifier of the location spec as well as by the workflow
+ * context of the calling thread, because together they determine the configuration of the connection. Each caller of
+ * {@link #acquire(FSLocationSpec, Supplier)} receives its own lease whose {@link FSConnection#close()} only releases
+ * the reference, i.e. callers cannot close the shared file system. Once a pooled connection is no longer referenced,
+ * it is kept for the configured idle timeout so that subsequent node executions in the same workflow can reuse it,
+ * and is closed afterwards.
+ * </p>
+ * <p>
+ * The idle timeout can be configured in seconds via the system property {@value #IDLE_TIMEOUT_PROPERTY}. A value of
+ * zero or less disables pooling.
+ * </p>
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ * @noreference non-public API
+ * @since 5.12
+ */
+public final class FSConnectionPool {
+
+    /**
+     * System property for the number of seconds an unreferenced connection is kept in the pool.
+     */
+    public static final String IDLE_TIMEOUT_PROPERTY = "knime.filehandling.connectionpool.idletimeout";
+
+    private static final long DEFAULT_IDLE_TIMEOUT_SECONDS = 60;
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(FSConnectionPool.class);
+
+    private static final ScheduledExecutorService EVICTOR = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("KNIME-FSConnectionPool-Evictor-%d").build());
+
+    private static final FSConnectionPool INSTANCE =
+        new FSConnectionPool(Duration.ofSeconds(Long.getLong(IDLE_TIMEOUT_PROPERTY, DEFAULT_IDLE_TIMEOUT_SECONDS)));
+
+    private final ConcurrentMap<PoolKey, PoolEntry> m_entries = new ConcurrentHashMap<>();
+
+    private final Duration m_idleTimeout;
+
+    FSConnectionPool(final Duration idleTimeout) {
+        m_idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Returns the instance of this pool.
+     *
+     * @return the instance of this pool
+     */
+    public static FSConnectionPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Checks whether connections for the given category are pooled. Connected file systems are owned by their
+     * connector node, and custom URL file systems are created per URL, hence neither of them is pooled.
+     *
+     * @param category the {@link FSCategory} to check
+     * @return {@code true} if connections for the given category can be obtained from this pool
+     */
+    public static boolean isPoolable(final FSCategory category) {
+        return category == FSCategory.LOCAL || category == FSCategory.RELATIVE || category == FSCategory.MOUNTPOINT
+            || category == FSCategory.HUB_SPACE;
+    }
+
+    /**
+     * Acquires a connection for the given location spec. If the pool holds an open connection for the spec and the
+     * current workflow context, it is reused, otherwise the provided factory is invoked to create it. The returned
+     * connection must be closed by the caller, which releases the reference without closing the shared file system.
+     * <p>
+     * Note that the {@link FSFileSystem#registerCloseable(java.io.Closeable) closeables} of a pooled file system, e.g.
+     * streams and temporary files that a caller didn't close, aren't tracked per lease. They are closed once the last
+     * lease on the connection has been released, i.e. if several leases are held concurrently, the leaked resources of
+     * one caller remain open until the other callers have released their leases, too.
+     * </p>
+     *
+     * @param locationSpec the {@link FSLocationSpec} to acquire a connection for
+     * @param connectionFactory creates the connection if none is pooled yet
+     * @return a lease on the pooled connection
+     * @throws IllegalArgumentException if the category of the location spec is not poolable
+     */
+    public FSConnection acquire(final FSLocationSpec locationSpec, final Supplier<FSConnection> connectionFactory) {
+        if (!isPoolable(locationSpec.getFSCategory())) {
+            throw new IllegalArgumentException(
+                String.format("Connections for the location '%s' can't be pooled.", locationSpec));
+        }
+        if (m_idleTimeout.isZero() || m_idleTimeout.isNegative()) {
+            return connectionFactory.get();
+        }
+        final var key = new PoolKey(locationSpec.getFileSystemCategory(),
+            locationSpec.getFileSystemSpecifier().orElse(null),
+            WorkflowContextUtil.getWorkflowContextV2Optional().orElse(null));
+        while (true) {
+            final PoolEntry entry = m_entries.computeIfAbsent(key, PoolEntry::new);
+            final FSConnection connection = entry.acquire(connectionFactory);
+            if (connection != null) {
+                return new PooledFSConnection(entry, connection);
+            }
+            // the entry has been evicted concurrently, retry with a fresh one
+        }
+    }
+
+    /**
+     * Closes all pooled connections that are currently not referenced. Referenced connections are closed once they
+     * are released and their idle timeout has passed.
+     */
+    public void evictIdleConnections() {
+        m_entries.values().forEach(entry -> entry.evictIfIdle(true));
+    }
+
+    /**
+     * @return the number of connections held by this pool, including the currently referenced ones
+     */
+    int size() {
+        return m_entries.size();
+    }
+
+    private static void closeSafely(final FSConnection connection) {
+        try {
+            connection.close();
+        } catch (IOException | RuntimeException ex) {
+            LOGGER.debug("Exception while closing pooled file system connection: " + ex.getMessage(), ex);
+        }
+    }
+
+    private record PoolKey(String category, String specifier, Object workflowContext) {
+    }
+
+    private final class PoolEntry {
+
+        private final PoolKey m_key;
+
+        private FSConnection m_connection;
+
+        private int m_references;
+
+        private long m_idleSince;
+
+        private boolean m_evicted;
+
+        PoolEntry(final PoolKey key) {
+            m_key = key;
+        }
+
+        /**
+         * @return the connection or {@code null} if this entry has been evicted
+         */
+        @SuppressWarnings("resource")
+        synchronized FSConnection acquire(final Supplier<FSConnection> connectionFactory) {
+            if (m_evicted) {
+                return null;
+            }
+            if (m_connection != null && !m_connection.getFileSystem().isOpen()) {
+                m_connection = null;
+            }
+            if (m_connection == null) {
+                m_connection = createConnection(connectionFactory);
+            } else if (m_references == 0 && m_connection.getFileSystem() instanceof BaseFileSystem<?> baseFs) {
+                // the file system may have been modified by others while the connection was idle; the cache is not
+                // cleared while the connection is leased, as this would invalidate it for the other leaseholders
+                baseFs.clearAttributesCache();
+            }
+            m_references++;
+            return m_connection;
+        }
+
+        private FSConnection createConnection(final Supplier<FSConnection> connectionFactory) {
+            try {
+                return connectionFactory.get();
+            } catch (RuntimeException ex) {
+                if (m_references == 0) {
+                    // don't keep an empty entry around that would never be evicted
+                    m_evicted = true;
+                    m_entries.remove(m_key, this);
+                }
+                throw ex;
+            }
+        }
+
+        void release() {
+            synchronized (this) {
+                m_references--;
+                if (m_references > 0) {
+                    return;
+                }
+                // close the streams and temporary files the leaseholders didn't close, just like closing an unpooled
+                // connection would do; this happens while holding the lock so that no new lease can interfere
+                if (m_connection != null) {
+                    m_connection.getFileSystem().closeAllCloseables();
+                }
+                m_idleSince = System.nanoTime();
+            }
+            EVICTOR.schedule(() -> evictIfIdle(false), m_idleTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        void evictIfIdle(final boolean ignoreTimeout) {
+            final FSConnection connection;
+            synchronized (this) {
+                if (m_evicted || m_references > 0
+                    || (!ignoreTimeout && System.nanoTime() - m_idleSince < m_idleTimeout.toNanos())) {
+                    return;
+                }
+                m_evicted = true;
+                m_entries.remove(m_key, this);
+                connection = m_connection;
+                m_connection = null;
+            }
+            if (connection != null) {
+                closeSafely(connection);
+            }
+        }
+    }
+
+    /**
+     * The lease handed out to the users of a pooled connection. Closing it only releases the reference.
+     */
+    private static final class PooledFSConnection implements FSConnection {
+
+        private final PoolEntry m_entry;
+
+        private final FSConnection m_wrapped;
+
+        private final AtomicBoolean m_released = new AtomicBoolean();
+
+        PooledFSConnection(final PoolEntry entry, final FSConnection wrapped) {
+            m_entry = entry;
+            m_wrapped = wrapped;
+        }
+
+        @Override
+        public void closeInBackground() {
+            close();
+        }
+
+        @Override
+        public void close() {
+            if (m_released.compareAndSet(false, true)) {
+                m_entry.release();
+            }
+        }
+
+        @Override
+        public FSFileSystem<?> getFileSystem() {
+            return m_wrapped.getFileSystem();
+        }
+
+        @Override
+        public FileSystemBrowser getFileSystemBrowser() {
+            return m_wrapped.getFileSystemBrowser();
+        }
+
+        @Override
+        public NoConfigURIExporterFactory getDefaultURIExporterFactory() {
+            return m_wrapped.getDefaultURIExporterFactory();
+        }
+
+        @Override
+        public boolean supportsBrowsing() {
+            return m_wrapped.supportsBrowsing();
+        }
+    }
+}
@@ -1,28 +1,34 @@
 package org.knime.filehandling.core.connections;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.Validate;
 
 /**
  * A registry for file system connections.
+ * <p>
+ * The registry is backed by concurrent maps, hence lookups never block. Next to the key to connection mapping, a
+ * reverse index from each connection to its keys is maintained so that closing a connection only touches its own
+ * keys instead of scanning the whole registry.
  *
  * @author Tobias Urhaug, KNIME GmbH, Berlin, Germany
  * @noreference non-public API
  */
 public final class FSConnectionRegistry {
 
-    private static FSConnectionRegistry INSTANCE;
+    private static final FSConnectionRegistry INSTANCE = new FSConnectionRegistry();
 
-    private final Map<String, FSConnection> m_connections;
+    private final ConcurrentMap<String, FSConnection> m_connections;
+
+    private final ConcurrentMap<FSConnection, Set<String>> m_keysByConnection;
 
     private FSConnectionRegistry() {
-        m_connections = new HashMap<>();
+        m_connections = new ConcurrentHashMap<>();
+        m_keysByConnection = new ConcurrentHashMap<>();
     }
 
     /**
@@ -30,10 +36,7 @@ private FSConnectionRegistry() {
      *
      * @return the instance of this registry
      */
-    public static synchronized FSConnectionRegistry getInstance() {
-        if (INSTANCE == null) {
-            INSTANCE = new FSConnectionRegistry();
-        }
+    public static FSConnectionRegistry getInstance() {
         return INSTANCE;
     }
 
@@ -45,17 +48,24 @@ public static synchronized FSConnectionRegistry getInstance() {
      * @see FSConnectionRegistry#getKey()
      */
     @SuppressWarnings("resource")
-    public synchronized void register(final String key, final FSConnection connection) {
+    public void register(final String key, final FSConnection connection) {
         Validate.notNull(key, "key not allowed to be null");
         Validate.notNull(connection, "Connection not allowed to be null");
-        final FSConnection existingConnection = m_connections.get(key);
-        if (existingConnection != null) {
-            if (!existingConnection.equals(connection)) {
-                throw new IllegalArgumentException("Different connection with key: " + key + " already exists");
+        // compute is atomic per key, which keeps the reverse index in sync with the mapping
+        m_connections.compute(key, (k, existingConnection) -> {
+            if (existingConnection != null) {
+                if (!existingConnection.equals(connection)) {
+                    throw new IllegalArgumentException("Different connection with key: " + key + " already exists");
+                }
+                return existingConnection;
             }
-            return;
-        }
-        m_connections.put(key, connection);
+            m_keysByConnection.compute(connection, (c, keys) -> {
+                final Set<String> connectionKeys = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+                connectionKeys.add(k);
+                return connectionKeys;
+            });
+            return connection;
+        });
     }
 
     /**
@@ -72,8 +82,8 @@ public String getKey() {
      * @return Optional containing the connection, if present
      */
     @SuppressWarnings("resource")
-    public synchronized Optional<FSConnection> retrieve(final String key) {
-        final FSConnection fsCon = m_connections.get(key);
+    public Optional<FSConnection> retrieve(final String key) {
+        final FSConnection fsCon = key == null ? null : m_connections.get(key);
         if (fsCon != null) {
             // all FSConnections that are registered in the registry have be created
             // by connection nodes. No other node than the connection node should be able to
@@ -90,22 +100,33 @@ public synchronized Optional<FSConnection> retrieve(final String key) {
      * @param key key for the connection to be deregistered
      * @return the connection that has been deregistered, null if the key is not in the registry.
      */
-    public synchronized FSConnection deregister(final String key) {
-        return m_connections.remove(key);
+    public FSConnection deregister(final String key) {
+        if (key == null) {
+            return null;
+        }
+        final FSConnection[] removed = new FSConnection[1];
+        m_connections.computeIfPresent(key, (k, connection) -> {
+            removed[0] = connection;
+            m_keysByConnection.computeIfPresent(connection, (c, keys) -> {
+                keys.remove(k);
+                return keys.isEmpty() ? null : keys;
+            });
+            return null;
+        });
+        return removed[0];
     }
 
     /**
-     * Deregister connection from the registry.
+     * Deregister connection from the registry i.e. removes all keys under which it is registered.
      *
      * @param fsConnection the connection to be deregistered
      */
-    synchronized void deregister(final FSConnection fsConnection) {
-        keysFor(fsConnection).forEach(key -> m_connections.remove(key));
-    }
-
-    private List<String> keysFor(final FSConnection fsConnection) {
-        return m_connections.entrySet().stream().filter(entry -> fsConnection.equals(entry.getValue()))
-            .map(Map.Entry::getKey).collect(Collectors.toList());
+    void deregister(final FSConnection fsConnection) {
+        final Set<String> keys = m_keysByConnection.remove(fsConnection);
+        if (keys != null) {
+            // only remove keys that haven't been re-registered with a different connection in the meantime
+            keys.forEach(key -> m_connections.remove(key, fsConnection));
+        }
     }
 
     /**
@@ -114,7 +135,7 @@ private List<String> keysFor(final FSConnection fsConnection) {
      * @param key key for the connection
      * @return true if the key is in the registry
      */
-    public synchronized boolean contains(final String key) {
-        return m_connections.containsKey(key);
+    public boolean contains(final String key) {
+        return key != null && m_connections.containsKey(key);
     }
 }
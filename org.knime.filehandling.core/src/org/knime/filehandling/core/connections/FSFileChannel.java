@@ -0,0 +1,191 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 14, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.connections;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Wrapper class for a {@link FileChannel} of the platform default file system which registers itself at a
+ * {@link FSFileSystem} in order to be closed when the file system gets closed. In contrast to
+ * {@link FSSeekableByteChannel}, this allows file systems that are backed by local files to expose memory mapping and
+ * zero-copy transfers of the underlying channel.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ * @noreference non-public API
+ * @noinstantiate non-public API
+ */
+public class FSFileChannel extends FileChannel {
+
+    private final FileChannel m_fileChannel;
+
+    private final FSFileSystem<?> m_fileSystem;
+
+    /**
+     * Wraps the given file channel and registers it at the file system.
+     *
+     * @param fileChannel the file channel to wrap
+     * @param fileSystem the handling file system
+     */
+    public FSFileChannel(final FileChannel fileChannel, final FSFileSystem<?> fileSystem) {
+        m_fileChannel = fileChannel;
+        m_fileSystem = fileSystem;
+        m_fileSystem.registerCloseable(this);
+    }
+
+    @Override
+    protected void implCloseChannel() throws IOException {
+        try {
+            m_fileChannel.close();
+        } finally {
+            m_fileSystem.unregisterCloseable(this);
+        }
+    }
+
+    @Override
+    public int read(final ByteBuffer dst) throws IOException {
+        return m_fileChannel.read(dst);
+    }
+
+    @Override
+    public long read(final ByteBuffer[] dsts, final int offset, final int length) throws IOException {
+        return m_fileChannel.read(dsts, offset, length);
+    }
+
+    @Override
+    public int write(final ByteBuffer src) throws IOException {
+        return m_fileChannel.write(src);
+    }
+
+    @Override
+    public long write(final ByteBuffer[] srcs, final int offset, final int length) throws IOException {
+        return m_fileChannel.write(srcs, offset, length);
+    }
+
+    @Override
+    public long position() throws IOException {
+        return m_fileChannel.position();
+    }
+
+    @Override
+    public FileChannel position(final long newPosition) throws IOException {
+        m_fileChannel.position(newPosition);
+        return this;
+    }
+
+    @Override
+    public long size() throws IOException {
+        return m_fileChannel.size();
+    }
+
+    @Override
+    public FileChannel truncate(final long size) throws IOException {
+        m_fileChannel.truncate(size);
+        return this;
+    }
+
+    @Override
+    public void force(final boolean metaData) throws IOException {
+        m_fileChannel.force(metaData);
+    }
+
+    @Override
+    public long transferTo(final long position, final long count, final WritableByteChannel target)
+        throws IOException {
+        return m_fileChannel.transferTo(position, count, unwrap(target));
+    }
+
+    @Override
+    public long transferFrom(final ReadableByteChannel src, final long position, final long count)
+        throws IOException {
+        return m_fileChannel.transferFrom(unwrap(src), position, count);
+    }
+
+    /**
+     * The platform channels only use the fast (e.g. sendfile) transfer paths if both sides are platform channels.
+     */
+    private static <C> C unwrap(final C channel) {
+        if (channel instanceof FSFileChannel fsFileChannel) {
+            @SuppressWarnings("unchecked") // FileChannel implements both Readable- and WritableByteChannel
+            final C unwrapped = (C)fsFileChannel.m_fileChannel;
+            return unwrapped;
+        }
+        return channel;
+    }
+
+    @Override
+    public int read(final ByteBuffer dst, final long position) throws IOException {
+        return m_fileChannel.read(dst, position);
+    }
+
+    @Override
+    public int write(final ByteBuffer src, final long position) throws IOException {
+        return m_fileChannel.write(src, position);
+    }
+
+    @Override
+    public MappedByteBuffer map(final MapMode mode, final long position, final long size) throws IOException {
+        return m_fileChannel.map(mode, position, size);
+    }
+
+    @Override
+    public FileLock lock(final long position, final long size, final boolean shared) throws IOException {
+        return m_fileChannel.lock(position, size, shared);
+    }
+
+    @Override
+    public FileLock tryLock(final long position, final long size, final boolean shared) throws IOException {
+        return m_fileChannel.tryLock(position, size, shared);
+    }
+}
@@ -55,13 +55,14 @@
 import java.nio.file.ClosedFileSystemException;
 import java.nio.file.FileSystem;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.knime.core.node.util.CheckUtils;
 import org.knime.filehandling.core.connections.meta.FSType;
+import org.knime.filehandling.core.connections.metrics.FSMetrics;
 import org.knime.filehandling.core.connections.workflowaware.WorkflowAware;
 
 /**
@@ -94,18 +95,31 @@
     private final String m_workingDirectory;
 
     /**
-     * A set of {@link Closeable}s that will be closed when the file system is closed.
+     * A set of {@link Closeable}s that will be closed when the file system is closed. Registering and unregistering
+     * happens whenever a stream or channel is opened or closed, hence the set is concurrent and not guarded by the
+     * monitor of this file system.
+     *
+     * NB: The references are deliberately strong. A closeable that was not closed by its user still holds resources
+     * (e.g. a connection) that must be released in {@link #ensureClosed()}, even if it is not reachable anymore.
      */
-    private final Set<Closeable> m_closeables = new HashSet<>();
+    private final Set<Closeable> m_closeables = ConcurrentHashMap.newKeySet();
 
     /**
      * A base URI that is used to construct the URI when invoking {@link FSPath#toUri()}.
      */
     private final URI m_fsBaseUri;
 
-    private boolean m_isOpen = true;
+    private volatile boolean m_isOpen = true;
 
-    private boolean m_isClosing = false;
+    /**
+     * The thread that is currently closing this file system, null if the file system is not closing.
+     */
+    private volatile Thread m_closingThread;
+
+    /**
+     * The instrumentation of this file system, a shared no-op instance unless metrics are enabled.
+     */
+    private final FSMetrics m_metrics;
 
     /**
      * Creates a new instance.
@@ -120,6 +134,7 @@ public FSFileSystem(final URI fsBaseUri, final FSLocationSpec fsLocationSpec, fi
         m_fsBaseUri = fsBaseUri;
         m_fsLocationSpec = fsLocationSpec;
         m_workingDirectory = workingDir;
+        m_metrics = FSMetrics.create(fsLocationSpec);
     }
 
     /**
@@ -183,16 +198,27 @@ public final Optional<String> getFileSystemSpecifier() {
         return m_fsLocationSpec.getFileSystemSpecifier();
     }
 
+    /**
+     * Returns the metrics of this file system, i.e. the counters and latency histograms of the provider primitives as
+     * well as the number of bytes transferred through the streams of this file system.
+     *
+     * @return the metrics of this file system (see {@link FSMetrics#isEnabled()})
+     * @since 5.12
+     */
+    public final FSMetrics getMetrics() {
+        return m_metrics;
+    }
+
     @Override
-    public synchronized boolean isOpen() {
+    public boolean isOpen() {
         return m_isOpen;
     }
 
     /**
      * @return true when the file system is currently closing and closing all the registered closeables.
      */
-    protected synchronized boolean isClosing() {
-        return m_isClosing;
+    protected boolean isClosing() {
+        return m_closingThread != null;
     }
 
     /**
@@ -214,12 +240,13 @@ public final void close() throws IOException {
     final synchronized void ensureClosed() throws IOException {
         if (m_isOpen) {
             try {
-                m_isClosing = true;
+                m_closingThread = Thread.currentThread();
                 closeAllCloseables();
             } finally {
+                m_metrics.dispose();
                 ensureClosedInternal();
                 m_isOpen = false;
-                m_isClosing = false;
+                m_closingThread = null;
             }
         }
     }
@@ -256,7 +283,7 @@ private static void closeSafely(final Closeable closeable) {
      *
      * @param closeable The closeable.
      */
-    public synchronized void unregisterCloseable(final Closeable closeable) {
+    public void unregisterCloseable(final Closeable closeable) {
         m_closeables.remove(closeable);
     }
 
@@ -267,12 +294,21 @@ public synchronized void unregisterCloseable(final Closeable closeable) {
      * @throws ClosedFileSystemException when the file system has already been closed. The given {@link Closeable} will
      *             be closed prior to throwing the exception in order to not cause any resource leaks.
      */
-    public synchronized void registerCloseable(final Closeable closeable) {
+    public void registerCloseable(final Closeable closeable) {
         if (!m_isOpen) {
             closeSafely(closeable);
             throw new ClosedFileSystemException();
         }
         m_closeables.add(closeable);
+        // ensureClosed() sets the closing thread before it closes the registered closeables, so either it sees the
+        // closeable we just added or we see the closing thread here. The closing thread itself may still register
+        // closeables, e.g. while cleaning up in ensureClosedInternal().
+        final var closingThread = m_closingThread;
+        if ((closingThread != null && closingThread != Thread.currentThread()) || !m_isOpen) {
+            m_closeables.remove(closeable);
+            closeSafely(closeable);
+            throw new ClosedFileSystemException();
+        }
     }
 
     /**
@@ -80,6 +80,7 @@
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.util.FileUtil;
+import org.knime.filehandling.core.connections.base.UnixStylePath;
 import org.knime.filehandling.core.connections.meta.FSDescriptorRegistry;
 import org.knime.filehandling.core.connections.meta.FSType;
 import org.knime.filehandling.core.connections.uriexport.URIExporterIDs;
@@ -421,7 +422,14 @@ private static void deleteSafely(final Path toDelete, final AtomicReference<IOEx
      * @param paths the list to be sorted
      */
     public static void sortPathsLexicographically(final List<FSPath> paths) {
-        paths.sort((final FSPath p1, final FSPath p2) -> p1.toString().compareTo(p2.toString()));
+        paths.sort(FSFiles::compareLexicographically);
+    }
+
+    private static int compareLexicographically(final FSPath p1, final FSPath p2) {
+        if (p1 instanceof UnixStylePath u1 && p2 instanceof UnixStylePath u2) {
+            return UnixStylePath.compareLexicographically(u1, u2);
+        }
+        return p1.toString().compareTo(p2.toString());
     }
 
     /**
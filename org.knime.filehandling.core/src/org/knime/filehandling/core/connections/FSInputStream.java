@@ -51,6 +51,8 @@
 import java.io.IOException;
 import java.io.InputStream;
 
+import org.knime.filehandling.core.connections.metrics.FSMetrics;
+
 /**
  * Wrapper for {@link InputStream} that is closed when the file system is closed.
  *
@@ -64,6 +66,8 @@ public final class FSInputStream extends InputStream {
 
     private final FSFileSystem<?> m_fileSystem;
 
+    private final FSMetrics m_metrics;
+
     /**
      * Wraps the given inputStream and registers it at the file system.
      *
@@ -73,22 +77,31 @@ public final class FSInputStream extends InputStream {
     public FSInputStream(final InputStream inputStream, final FSFileSystem<?> fileSystem) {
         m_inputStream = inputStream;
         m_fileSystem = fileSystem;
+        m_metrics = fileSystem.getMetrics();
         m_fileSystem.registerCloseable(this);
     }
 
     @Override
     public int read(final byte[] b) throws IOException {
-        return m_inputStream.read(b);
+        final var read = m_inputStream.read(b);
+        m_metrics.recordBytesRead(read);
+        return read;
     }
 
     @Override
     public int read(final byte[] b, final int off, final int len) throws IOException {
-        return m_inputStream.read(b, off, len);
+        final var read = m_inputStream.read(b, off, len);
+        m_metrics.recordBytesRead(read);
+        return read;
     }
 
     @Override
     public int read() throws IOException {
-        return m_inputStream.read();
+        final var read = m_inputStream.read();
+        if (read >= 0) {
+            m_metrics.recordBytesRead(1);
+        }
+        return read;
     }
 
     @Override
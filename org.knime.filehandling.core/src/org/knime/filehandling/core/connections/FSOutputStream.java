@@ -51,6 +51,8 @@
 import java.io.IOException;
 import java.io.OutputStream;
 
+import org.knime.filehandling.core.connections.metrics.FSMetrics;
+
 /**
  * Wrapper for {@link OutputStream} that is closed when the file system is closed.
  *
@@ -65,6 +67,8 @@ public class FSOutputStream extends OutputStream {
 
     private final FSFileSystem<?> m_fileSystem;
 
+    private final FSMetrics m_metrics;
+
     /**
      * Wraps the given output stream and registers it at the file system.
      *
@@ -74,23 +78,26 @@ public class FSOutputStream extends OutputStream {
     public FSOutputStream(final OutputStream outputStream, final FSFileSystem<?> fileSystem) {
         m_outputStream = outputStream;
         m_fileSystem = fileSystem;
+        m_metrics = fileSystem.getMetrics();
         m_fileSystem.registerCloseable(this);
     }
 
     @Override
     public void write(final int b) throws IOException {
         m_outputStream.write(b);
-
+        m_metrics.recordBytesWritten(1);
     }
 
     @Override
     public void write(final byte b[]) throws IOException {
         m_outputStream.write(b, 0, b.length);
+        m_metrics.recordBytesWritten(b.length);
     }
 
     @Override
     public void write(final byte b[], final int off, final int len) throws IOException {
         m_outputStream.write(b, off, len);
+        m_metrics.recordBytesWritten(len);
     }
 
     @Override
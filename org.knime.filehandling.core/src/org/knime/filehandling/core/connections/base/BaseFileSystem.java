@@ -144,7 +144,7 @@ public boolean isReadOnly() {
     }
 
     @Override
-    public synchronized boolean isClosing() {
+    public boolean isClosing() {
         return super.isClosing();
     }
 
@@ -178,15 +178,14 @@ public PathMatcher getPathMatcher(final String syntaxAndPattern) {
         final String syntax = syntaxAndPattern.substring(0, splitPosition);
         final String pattern = syntaxAndPattern.substring(splitPosition + 1);
 
-        Pattern expr;
         if (syntax.equalsIgnoreCase("glob")) {
-            expr = GlobToRegexConverter.convert(pattern, getSeparator().charAt(0));
+            return new GlobPathMatcher(pattern, getSeparator());
         } else if (syntax.equalsIgnoreCase("regex")) {
-            expr = Pattern.compile(pattern);
+            final Pattern expr = Pattern.compile(pattern);
+            return path -> expr.matcher(path.toString()).matches();
         } else {
             throw new UnsupportedOperationException(String.format("Syntax %s not supported", syntax));
         }
-        return path -> expr.matcher(path.toString()).matches();
     }
 
     @Override
@@ -53,6 +53,7 @@
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
+import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.AccessMode;
@@ -90,6 +91,7 @@
 import java.util.Set;
 import java.util.stream.Stream;
 
+import org.knime.filehandling.core.connections.FSFileChannel;
 import org.knime.filehandling.core.connections.FSFileSystemProvider;
 import org.knime.filehandling.core.connections.FSFiles;
 import org.knime.filehandling.core.connections.FSInputStream;
@@ -99,6 +101,7 @@
 import org.knime.filehandling.core.connections.base.attributes.BaseFileAttributeView;
 import org.knime.filehandling.core.connections.base.attributes.BaseFileAttributes;
 import org.knime.filehandling.core.connections.base.attributes.BasicFileAttributesUtil;
+import org.knime.filehandling.core.connections.metrics.FSOperation;
 
 /**
  * Base implementation of the {@link FileSystemProvider} class.
@@ -163,6 +166,65 @@ public SeekableByteChannel newByteChannel(final Path path, final Set<? extends O
 
         final P checkedPath = checkCastAndAbsolutizePath(path);
 
+        checkChannelCanBeOpened(path, checkedPath, options, sanitizedOptions);
+
+        final var metrics = m_fileSystem.getMetrics();
+        final long start = metrics.startTimer();
+        final SeekableByteChannel channel;
+        try {
+            channel = newByteChannelInternal(checkedPath, sanitizedOptions, attrs);
+        } finally {
+            metrics.record(FSOperation.NEW_BYTE_CHANNEL, start);
+        }
+
+        return new FSSeekableByteChannel(channel, m_fileSystem) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    removeFromAttributeCacheIfWritten(checkedPath, sanitizedOptions);
+                }
+            }
+        };
+    }
+
+    @SuppressWarnings({"resource"})
+    @Override
+    public FileChannel newFileChannel(final Path path, final Set<? extends OpenOption> options,
+        final FileAttribute<?>... attrs) throws IOException {
+
+        checkFileSystemOpenAndNotClosing();
+
+        final Set<OpenOption> sanitizedOptions = validateAndSanitizeChannelOpenOptions(options);
+
+        final P checkedPath = checkCastAndAbsolutizePath(path);
+
+        checkChannelCanBeOpened(path, checkedPath, options, sanitizedOptions);
+
+        final var metrics = m_fileSystem.getMetrics();
+        final long start = metrics.startTimer();
+        final FileChannel channel;
+        try {
+            channel = newFileChannelInternal(checkedPath, sanitizedOptions, attrs);
+        } finally {
+            metrics.record(FSOperation.NEW_FILE_CHANNEL, start);
+        }
+
+        return new FSFileChannel(channel, m_fileSystem) {
+            @Override
+            protected void implCloseChannel() throws IOException {
+                try {
+                    super.implCloseChannel();
+                } finally {
+                    removeFromAttributeCacheIfWritten(checkedPath, sanitizedOptions);
+                }
+            }
+        };
+    }
+
+    private void checkChannelCanBeOpened(final Path path, final P checkedPath,
+        final Set<? extends OpenOption> options, final Set<OpenOption> sanitizedOptions) throws IOException {
         try {
             final BasicFileAttributes fileAttrs = readAttributes(checkedPath, BasicFileAttributes.class);
 
@@ -189,19 +251,13 @@ public SeekableByteChannel newByteChannel(final Path path, final Set<? extends O
         if (sanitizedOptions.contains(StandardOpenOption.WRITE)) {
             deleteCachedParentDirectoryAttributes(checkedPath);
         }
-        return new FSSeekableByteChannel(newByteChannelInternal(checkedPath, sanitizedOptions, attrs), m_fileSystem) {
-            @Override
-            public void close() throws IOException {
-                try {
-                    super.close();
-                } finally {
-                    if (sanitizedOptions.contains(StandardOpenOption.APPEND)
-                        || sanitizedOptions.contains(StandardOpenOption.WRITE)) {
-                        getFileSystemInternal().removeFromAttributeCache(checkedPath);
-                    }
-                }
-            }
-        };
+    }
+
+    private void removeFromAttributeCacheIfWritten(final P checkedPath, final Set<OpenOption> sanitizedOptions) {
+        if (sanitizedOptions.contains(StandardOpenOption.APPEND)
+            || sanitizedOptions.contains(StandardOpenOption.WRITE)) {
+            getFileSystemInternal().removeFromAttributeCache(checkedPath);
+        }
     }
 
     /**
@@ -290,6 +346,26 @@ private static Set<OpenOption> validateAndSanitizeChannelOpenOptions(final Set<?
     protected abstract SeekableByteChannel newByteChannelInternal(final P path, final Set<? extends OpenOption> options,
         final FileAttribute<?>... attrs) throws IOException;
 
+    /**
+     * Opens or creates a file, returning a file channel to access the file. This method works in exactly the manner
+     * specified by the {@link FileChannel#open(Path, Set, FileAttribute...)} method. Only file systems that are backed
+     * by files in the platform default file system can support this, hence the default implementation throws an
+     * {@link UnsupportedOperationException}.
+     *
+     * @param path the path to the file to open or create
+     * @param options options specifying how the file is opened
+     * @param attrs an optional list of file attributes to set atomically when creating the file
+     *
+     * @return a new file channel
+     * @throws IOException if an I/O error occurs
+     * @throws UnsupportedOperationException if the file system does not support file channels
+     * @since 5.12
+     */
+    protected FileChannel newFileChannelInternal(final P path, final Set<? extends OpenOption> options, // NOSONAR
+        final FileAttribute<?>... attrs) throws IOException {
+        throw new UnsupportedOperationException("File channels are not supported by this file system.");
+    }
+
     @Override
     public InputStream newInputStream(final Path path, final OpenOption... options) throws IOException {
         checkFileSystemOpenAndNotClosing();
@@ -302,7 +378,16 @@ public InputStream newInputStream(final Path path, final OpenOption... options)
         }
 
         deleteCachedParentDirectoryAttributes(checkedPath);
-        return new FSInputStream(newInputStreamInternal(checkedPath, options), getFileSystemInternal());
+
+        final var metrics = getFileSystemInternal().getMetrics();
+        final long start = metrics.startTimer();
+        final InputStream in;
+        try {
+            in = newInputStreamInternal(checkedPath, options);
+        } finally {
+            metrics.record(FSOperation.NEW_INPUT_STREAM, start);
+        }
+        return new FSInputStream(in, getFileSystemInternal());
     }
 
     /**
@@ -346,7 +431,13 @@ public void move(final Path source, final Path target, final CopyOption... optio
             checkParentDirectoryExists(checkedTarget);
         }
 
-        moveInternal(checkedSource, checkedTarget, options);
+        final var metrics = getFileSystemInternal().getMetrics();
+        final long start = metrics.startTimer();
+        try {
+            moveInternal(checkedSource, checkedTarget, options);
+        } finally {
+            metrics.record(FSOperation.MOVE, start);
+        }
         getFileSystemInternal().removeFromAttributeCacheDeep(checkedSource);
 
         deleteCachedParentDirectoryAttributes(checkedTarget);
@@ -449,7 +540,13 @@ public void copy(final Path source, final Path target, final CopyOption... optio
             checkParentDirectoryExists(checkedTarget);
         }
 
-        copyInternal(checkedSource, checkedTarget, options);
+        final var metrics = getFileSystemInternal().getMetrics();
+        final long start = metrics.startTimer();
+        try {
+            copyInternal(checkedSource, checkedTarget, options);
+        } finally {
+            metrics.record(FSOperation.COPY, start);
+        }
         getFileSystemInternal().removeFromAttributeCache(checkedTarget);
         deleteCachedParentDirectoryAttributes(checkedTarget);
     }
@@ -497,7 +594,16 @@ public OutputStream newOutputStream(final Path path, final OpenOption... options
         }
 
         deleteCachedParentDirectoryAttributes(checkedPath);
-        return new FSOutputStream(newOutputStreamInternal(checkedPath, validatedOpenOptions), getFileSystemInternal()) {
+
+        final var metrics = getFileSystemInternal().getMetrics();
+        final long start = metrics.startTimer();
+        final OutputStream out;
+        try {
+            out = newOutputStreamInternal(checkedPath, validatedOpenOptions);
+        } finally {
+            metrics.record(FSOperation.NEW_OUTPUT_STREAM, start);
+        }
+        return new FSOutputStream(out, getFileSystemInternal()) {
             @Override
             public void close() throws IOException {
                 try {
@@ -559,7 +665,14 @@ public DirectoryStream<Path> newDirectoryStream(final Path dir, final Filter<? s
             throw new NotDirectoryException(checkedDir.toString());
         }
 
-        final Iterator<Path> pathIterator = (Iterator<Path>)createPathIterator(checkedDir, filter);
+        final var metrics = getFileSystemInternal().getMetrics();
+        final long start = metrics.startTimer();
+        final Iterator<Path> pathIterator;
+        try {
+            pathIterator = (Iterator<Path>)createPathIterator(checkedDir, filter);
+        } finally {
+            metrics.record(FSOperation.LIST_DIRECTORY, start);
+        }
 
         return new BaseDirectoryStream(new RelativizingPathIterator(pathIterator, dir), getFileSystemInternal());
     }
@@ -589,7 +702,13 @@ public void createDirectory(final Path dir, final FileAttribute<?>... attrs) thr
             readAttributes(checkedDir, BasicFileAttributes.class);
             throw new FileAlreadyExistsException(checkedDir.toString());
         } catch (NoSuchFileException e) { // NOSONAR exception is dealt with properly
-            createDirectoryInternal(checkedDir, attrs);
+            final var metrics = getFileSystemInternal().getMetrics();
+            final long start = metrics.startTimer();
+            try {
+                createDirectoryInternal(checkedDir, attrs);
+            } finally {
+                metrics.record(FSOperation.CREATE_DIRECTORY, start);
+            }
             deleteCachedParentDirectoryAttributes(checkedDir);
         }
     }
@@ -653,7 +772,12 @@ protected P checkCastAndAbsolutizePath(final Path path) {
      */
     protected final boolean existsCached(final P path) throws IOException {
         final P normalizedAbsolute = (P)path.toAbsolutePath().normalize();
-        return getFileSystemInternal().hasCachedAttributes(normalizedAbsolute) || exists(normalizedAbsolute);
+        if (getFileSystemInternal().hasCachedAttributes(normalizedAbsolute)) {
+            getFileSystemInternal().getMetrics().recordAttributeCacheHit();
+            return true;
+        }
+        getFileSystemInternal().getMetrics().recordAttributeCacheMiss();
+        return exists(normalizedAbsolute);
     }
 
     /**
@@ -669,7 +793,7 @@ protected final boolean existsCached(final P path) throws IOException {
     @SuppressWarnings("resource")
     protected boolean exists(final P path) throws IOException {
         try {
-            final BaseFileAttributes fileAttrs = fetchAttributesInternal(path, BasicFileAttributes.class);
+            final BaseFileAttributes fileAttrs = fetchAttributesMeasured(path, BasicFileAttributes.class);
             getFileSystemInternal().addToAttributeCache(path, fileAttrs);
             return true;
         } catch (NoSuchFileException e) { // NOSONAR ignore because indicates file does not exist
@@ -738,7 +862,8 @@ public <A extends BasicFileAttributes> A readAttributes(final Path path, final C
                 getFileSystemInternal().getCachedAttributes(checkedPath);
 
             if (!cachedAttributes.isPresent()) {
-                attributes = fetchAttributesInternal(checkedPath, type);
+                getFileSystemInternal().getMetrics().recordAttributeCacheMiss();
+                attributes = fetchAttributesMeasured(checkedPath, type);
                 getFileSystemInternal().addToAttributeCache(checkedPath, attributes);
             } else {
                 attributes = cachedAttributes.get();
@@ -767,6 +892,16 @@ public <A extends BasicFileAttributes> A readAttributes(final Path path, final C
      */
     protected abstract BaseFileAttributes fetchAttributesInternal(final P path, final Class<?> type) throws IOException;
 
+    private BaseFileAttributes fetchAttributesMeasured(final P path, final Class<?> type) throws IOException {
+        final var metrics = getFileSystemInternal().getMetrics();
+        final long start = metrics.startTimer();
+        try {
+            return fetchAttributesInternal(path, type);
+        } finally {
+            metrics.record(FSOperation.FETCH_ATTRIBUTES, start);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -794,7 +929,13 @@ public void checkAccess(final Path path, final AccessMode... modes) throws IOExc
         }
 
         if (modes.length > 0) {
-            checkAccessInternal(checkedPath, modes);
+            final var metrics = getFileSystemInternal().getMetrics();
+            final long start = metrics.startTimer();
+            try {
+                checkAccessInternal(checkedPath, modes);
+            } finally {
+                metrics.record(FSOperation.CHECK_ACCESS, start);
+            }
         }
     }
 
@@ -824,7 +965,13 @@ public void delete(final Path path) throws IOException {
             throw new DirectoryNotEmptyException(path.toString());
         }
 
-        deleteInternal(checkedPath);
+        final var metrics = getFileSystemInternal().getMetrics();
+        final long start = metrics.startTimer();
+        try {
+            deleteInternal(checkedPath);
+        } finally {
+            metrics.record(FSOperation.DELETE, start);
+        }
         getFileSystemInternal().removeFromAttributeCache(path);
         deleteCachedParentDirectoryAttributes(checkedPath);
     }
@@ -66,6 +66,9 @@ public abstract class BlobStorePath extends UnixStylePath {
 
     private final boolean m_isDirectory;
 
+    /** Lazily computed string representation including the trailing separator of directories */
+    private String m_stringRepresentation;
+
     /**
      * Creates a BlobStorePath from the given path name components.
      *
@@ -217,15 +220,22 @@ public BlobStorePath toDirectoryPath() {
 
     @Override
     public String toString() {
-        String toString = super.toString();
-
-        if (isDirectory() && !isRoot() && !isEmptyPath()) {
-            toString = toString.concat(m_pathSeparator);
+        var toString = m_stringRepresentation;
+        if (toString == null) {
+            toString = super.toString();
+            if (hasTrailingSeparator()) {
+                toString = toString.concat(m_pathSeparator);
+            }
+            m_stringRepresentation = toString;
         }
-
         return toString;
     }
 
+    @Override
+    protected boolean hasTrailingSeparator() {
+        return isDirectory() && !isRoot() && !isEmptyPath();
+    }
+
     @Override
     public Path getFileName() {
         if (m_pathParts.isEmpty()) {
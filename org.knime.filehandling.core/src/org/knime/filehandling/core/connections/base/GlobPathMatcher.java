@@ -0,0 +1,190 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.connections.base;
+
+import java.nio.file.FileSystem;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link PathMatcher} for glob patterns as defined by {@link FileSystem#getPathMatcher(String)}. In addition to
+ * matching paths, it can tell whether any path below a given directory can match (see
+ * {@link #canMatchBelow(Path)}) and provides the deepest directory that is fixed by the pattern (see
+ * {@link #getLiteralPrefix()}). Both allow walks to skip whole subtrees, e.g. a walk for
+ * {@code /data/2024/*}{@code /part-*.parquet} starts at {@code /data/2024} and never lists {@code /data/2023}.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ * @noreference non-public API
+ */
+public final class GlobPathMatcher implements PathMatcher {
+
+    private static final String GLOB_META_CHARS = "*?[{";
+
+    private static final char ESCAPE_CHAR = '\\';
+
+    /** Matches the drive of an absolute path if the backslash is the separator, e.g. {@code C:\}. */
+    private static final Pattern DRIVE = Pattern.compile("[A-Za-z]:\\\\");
+
+    private final Pattern m_pattern;
+
+    private final String m_separator;
+
+    private final String m_literalPrefix;
+
+    private final boolean m_isAbsolute;
+
+    /**
+     * Creates a matcher for the given glob. If the separator is the backslash, backslashes in the glob are separators
+     * and can't be used to escape glob meta characters.
+     *
+     * @param glob the glob pattern (without the "glob:" syntax prefix)
+     * @param separator the path separator of the file system
+     * @throws java.util.regex.PatternSyntaxException if the glob is invalid
+     */
+    public GlobPathMatcher(final String glob, final String separator) {
+        final char separatorChar = separator.charAt(0);
+        m_pattern = GlobToRegexConverter.convert(glob, separatorChar);
+        m_separator = separator;
+        final String literal = unescapedLiteralStart(glob, separatorChar);
+        m_isAbsolute =
+            literal.startsWith(separator) || (separatorChar == ESCAPE_CHAR && DRIVE.matcher(literal).lookingAt());
+        m_literalPrefix = computeLiteralPrefix(literal, separator);
+    }
+
+    /**
+     * Returns the part of the glob that precedes the first wildcard, with escape characters removed.
+     */
+    private static String unescapedLiteralStart(final String glob, final char separator) {
+        final var literal = new StringBuilder();
+        for (var i = 0; i < glob.length(); i++) {
+            final char c = glob.charAt(i);
+            if (c == ESCAPE_CHAR && separator != ESCAPE_CHAR) {
+                if (i + 1 == glob.length()) {
+                    // invalid glob, rejected by the converter
+                    break;
+                }
+                i++;
+                literal.append(glob.charAt(i));
+            } else if (GLOB_META_CHARS.indexOf(c) >= 0) {
+                break;
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.toString();
+    }
+
+    private String computeLiteralPrefix(final String literal, final String separator) {
+        // the last name of a path is never a directory prefix, even if it doesn't contain any wildcards
+        final int lastSeparator = literal.lastIndexOf(separator);
+        if (lastSeparator < 0) {
+            return "";
+        }
+        final String prefix = literal.substring(0, lastSeparator + 1);
+        // keep the separator of root directories, e.g. / or C:\
+        return m_isAbsolute && (prefix.length() == separator.length() || DRIVE.matcher(prefix).matches()) ? prefix
+            : prefix.substring(0, lastSeparator);
+    }
+
+    @Override
+    public boolean matches(final Path path) {
+        return matches(path.toString());
+    }
+
+    boolean matches(final String path) {
+        return m_pattern.matcher(path).matches();
+    }
+
+    /**
+     * Checks whether any path below the given directory, i.e. a path that starts with the given directory followed by
+     * a separator, can be matched by this matcher. Walks can skip the subtree of a directory for which this method
+     * returns {@code false}. The directory itself is not considered, use {@link #matches(Path)} for that.
+     *
+     * @param directory the directory to check
+     * @return {@code false} if no path below the given directory matches, {@code true} if there might be a match
+     */
+    public boolean canMatchBelow(final Path directory) {
+        return canMatchBelow(directory.toString());
+    }
+
+    boolean canMatchBelow(final String directory) {
+        if (directory.isEmpty()) {
+            // the empty path is the prefix of all relative paths
+            return true;
+        }
+        final String prefix = directory.endsWith(m_separator) ? directory : (directory + m_separator);
+        final Matcher matcher = m_pattern.matcher(prefix);
+        // if the matcher did not hit the end of the prefix, appending characters can't produce a match
+        return matcher.matches() || matcher.hitEnd();
+    }
+
+    /**
+     * Returns the deepest directory that is fixed by the glob, i.e. the part of the glob up to the last separator that
+     * precedes the first wildcard. For example, {@code /data/2024} is the literal prefix of
+     * {@code /data/2024/*}{@code /part-*.parquet}, and the root directory is the literal prefix of {@code /*.csv}. All
+     * paths matched by this matcher are below the literal prefix.
+     *
+     * @return the literal prefix, or {@link Optional#empty()} if the glob is relative and starts with a wildcard or
+     *         consists of a single name only
+     */
+    public Optional<String> getLiteralPrefix() {
+        return m_literalPrefix.isEmpty() ? Optional.empty() : Optional.of(m_literalPrefix);
+    }
+
+    /**
+     * @return whether the glob only matches absolute paths
+     */
+    public boolean isAbsolute() {
+        return m_isAbsolute;
+    }
+}
@@ -68,7 +68,8 @@ private GlobToRegexConverter() {
     }
 
     /**
-     * Converts a glob pattern to a regex considering the given path separator.
+     * Converts a glob pattern to a regex considering the given path separator. If the path separator is the backslash,
+     * backslashes in the glob are separators and not escape characters.
      *
      * @param glob the glob to convert
      * @param pathSeparator the path separator for the file system
@@ -84,6 +85,11 @@ static Pattern convert(final String glob, final char pathSeparator) {
             index++;
             switch (currentChar) {
                 case '\\':
+                    if (pathSeparator == '\\') {
+                        // the backslash is the path separator and therefore can't be used for escaping
+                        regex.append(escapeChar(currentChar));
+                        break;
+                    }
                     if (index == glob.length()) {
                         throw new PatternSyntaxException("No character to escape", glob, index - 1);
                     }
@@ -91,6 +91,12 @@ public abstract class UnixStylePath extends FSPath {
     /** Whether the path is absolute */
     protected final boolean m_isAbsolute;
 
+    /** Lazily computed string representation, paths are immutable */
+    private String m_stringRepresentation;
+
+    /** Lazily computed hash code, 0 if not yet computed */
+    private int m_hashCode;
+
     /**
      * Creates an UnixStylePath from the given bucket name and object key
      *
@@ -107,6 +113,27 @@ protected UnixStylePath(final FSFileSystem<?> fileSystem, final String pathStrin
         m_pathParts = getPathSplits(pathString);
     }
 
+    /**
+     * Creates an UnixStylePath from already split path parts. The provided list is used as is, i.e. it may be shared
+     * with other paths (e.g. the parent path) and must therefore never be modified.
+     *
+     * @param fileSystem the file system
+     * @param isAbsolute whether the path is absolute
+     * @param pathParts the path parts as created by {@link UnixStylePathUtil#getPathSplits(String, String)}
+     * @since 5.12
+     */
+    @SuppressWarnings({"unchecked", "resource"})
+    protected UnixStylePath(final FSFileSystem<?> fileSystem, final boolean isAbsolute,
+        final List<String> pathParts) {
+        CheckUtils.checkNotNull(fileSystem, "FileSystem must not be null.");
+        CheckUtils.checkNotNull(pathParts, "Path parts must not be null.");
+        m_fileSystem = (FSFileSystem<? extends UnixStylePath>)fileSystem;
+        m_pathSeparator = m_fileSystem.getSeparator();
+        m_isAbsolute = isAbsolute;
+        // the empty path is represented by a single empty part
+        m_pathParts = pathParts.isEmpty() && !isAbsolute ? List.of("") : pathParts;
+    }
+
     /**
      * Creates an UnixStylePath from the given bucket name and object key
      *
@@ -162,17 +189,31 @@ public Path getFileName() {
         if (m_pathParts.isEmpty()) {
             return null;
         }
-        return getFileSystem().getPath(m_pathParts.get(m_pathParts.size() - 1));
+        return createPath(false, m_pathParts.subList(m_pathParts.size() - 1, m_pathParts.size()));
     }
 
     @Override
     public Path getParent() {
-        final String parentPath = UnixStylePathUtil.getParentPathName(m_isAbsolute, m_pathSeparator, m_pathParts);
-        if (parentPath == null) {
+        if ((m_isAbsolute && m_pathParts.isEmpty()) || (!m_isAbsolute && m_pathParts.size() <= 1)) {
             return null;
-        } else {
-            return getFileSystem().getPath(parentPath);
         }
+        return createPath(m_isAbsolute, m_pathParts.subList(0, m_pathParts.size() - 1));
+    }
+
+    /**
+     * Creates a path of this file system from already split path parts. The default implementation joins the parts
+     * and parses the resulting string via {@link FSFileSystem#getPath(String, String...)}. Subclasses should override
+     * this method and use {@link #UnixStylePath(FSFileSystem, boolean, List)} instead, which shares the path parts
+     * with this path instead of re-splitting them.
+     *
+     * @param isAbsolute whether the path to create is absolute
+     * @param pathParts the parts of the path to create, must not be modified
+     * @return the path for the given parts
+     * @since 5.12
+     */
+    protected Path createPath(final boolean isAbsolute, final List<String> pathParts) {
+        final String prefix = isAbsolute ? m_pathSeparator : "";
+        return getFileSystem().getPath(prefix + String.join(m_pathSeparator, pathParts));
     }
 
     @Override
@@ -202,9 +243,7 @@ public Path subpath(final int beginIndex, final int endIndex) {
             || endIndex > m_pathParts.size()) {
             throw new IllegalArgumentException();
         }
-        final String pathString = String.join(m_pathSeparator, m_pathParts.subList(beginIndex, endIndex));
-
-        return getFileSystem().getPath(pathString);
+        return createPath(false, m_pathParts.subList(beginIndex, endIndex));
     }
 
     /**
@@ -299,11 +338,11 @@ public Path normalize() {
         }
 
         final List<String> normalized = getNormalizedPathParts();
+        if (normalized.equals(m_pathParts)) {
+            return this;
+        }
 
-        //Ensure absolute paths stay absolute
-        final String first = m_isAbsolute ? m_pathSeparator : "";
-
-        return getFileSystem().getPath(first, normalized.toArray(new String[normalized.size()]));
+        return createPath(m_isAbsolute, new ArrayList<>(normalized));
     }
 
     /**
@@ -331,6 +370,14 @@ public Path resolve(final Path other) {
             return this;
         }
 
+        if (other instanceof UnixStylePath otherUnix && !otherUnix.hasTrailingSeparator()
+            && !isEmptyParts(m_pathParts) && !isEmptyParts(otherUnix.m_pathParts)) {
+            final List<String> resolved = new ArrayList<>(m_pathParts.size() + otherUnix.m_pathParts.size());
+            resolved.addAll(m_pathParts);
+            resolved.addAll(otherUnix.m_pathParts);
+            return createPath(m_isAbsolute, resolved);
+        }
+
         return getFileSystem().getPath(toString(), other.toString());
     }
 
@@ -499,16 +546,87 @@ public int compareTo(final Path other) {
             throw new IllegalArgumentException("Cannot compare paths across different file systems");
         }
 
+        if (other instanceof UnixStylePath otherUnix) {
+            return compareLexicographically(this, otherUnix);
+        }
         return toString().compareTo(other.toString());
     }
 
+    /**
+     * Compares the string representations of two paths without creating them, i.e. the result has the same sign as
+     * {@code first.toString().compareTo(second.toString())}.
+     *
+     * @param first the first path
+     * @param second the second path
+     * @return a negative integer, zero, or a positive integer as the first path is less than, equal to, or greater
+     *         than the second path
+     * @since 5.12
+     */
+    public static int compareLexicographically(final UnixStylePath first, final UnixStylePath second) {
+        if (first.m_isAbsolute != second.m_isAbsolute || first.m_pathSeparator.length() != 1
+            || !first.m_pathSeparator.equals(second.m_pathSeparator)) {
+            // rare cases which aren't worth the additional complexity
+            return first.toString().compareTo(second.toString());
+        }
+        final char separator = first.m_pathSeparator.charAt(0);
+        final List<String> firstParts = first.m_pathParts;
+        final List<String> secondParts = second.m_pathParts;
+        final int commonCount = Math.min(firstParts.size(), secondParts.size());
+        for (var i = 0; i < commonCount; i++) {
+            final String firstPart = firstParts.get(i);
+            final String secondPart = secondParts.get(i);
+            final int cmp = firstPart.compareTo(secondPart);
+            if (cmp == 0) {
+                continue;
+            }
+            final int firstLength = firstPart.length();
+            final int secondLength = secondPart.length();
+            if (firstLength < secondLength && secondPart.startsWith(firstPart)) {
+                // the first path continues with a separator or ends
+                return first.hasSeparatorAfter(i) ? Character.compare(separator, secondPart.charAt(firstLength)) : -1;
+            } else if (secondLength < firstLength && firstPart.startsWith(secondPart)) {
+                return second.hasSeparatorAfter(i) ? Character.compare(firstPart.charAt(secondLength), separator) : 1;
+            } else {
+                return cmp;
+            }
+        }
+        if (firstParts.size() == secondParts.size()) {
+            return Boolean.compare(first.hasTrailingSeparator(), second.hasTrailingSeparator());
+        }
+        // the shorter one is a prefix of the longer one
+        return firstParts.size() < secondParts.size() ? -1 : 1;
+    }
+
+    private static boolean isEmptyParts(final List<String> pathParts) {
+        return pathParts.size() == 1 && pathParts.get(0).isEmpty();
+    }
+
+    private boolean hasSeparatorAfter(final int partIndex) {
+        return partIndex < m_pathParts.size() - 1 || hasTrailingSeparator();
+    }
+
+    /**
+     * Indicates whether the string representation of this path ends with a separator that is not part of the root.
+     * Subclasses that append a separator in {@link #toString()} must override this method accordingly.
+     *
+     * @return {@code true} if the string representation of this path has a trailing separator
+     * @since 5.12
+     */
+    protected boolean hasTrailingSeparator() {
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public int hashCode() {
-        int result = m_fileSystem.hashCode();
-        result = 31 * result + m_pathParts.hashCode();
+        int result = m_hashCode;
+        if (result == 0) {
+            result = m_fileSystem.hashCode();
+            result = 31 * result + m_pathParts.hashCode();
+            m_hashCode = result;
+        }
         return result;
     }
 
@@ -548,8 +666,13 @@ public boolean equals(final Object other) {
 
     @Override
     public String toString() {
-        final String root = isAbsolute() ? m_pathSeparator : "";
-        return root + String.join(m_pathSeparator, m_pathParts);
+        var stringRepresentation = m_stringRepresentation;
+        if (stringRepresentation == null) {
+            final String root = isAbsolute() ? m_pathSeparator : "";
+            stringRepresentation = root + String.join(m_pathSeparator, m_pathParts);
+            m_stringRepresentation = stringRepresentation;
+        }
+        return stringRepresentation;
     }
 
     /**
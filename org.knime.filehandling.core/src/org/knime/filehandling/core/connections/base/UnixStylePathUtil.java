@@ -53,7 +53,6 @@
 import java.util.LinkedList;
 import java.util.List;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * Utility class to implement basic logic for dealing with UNIX-style paths, in order to avoid reimplementing the logic
@@ -195,11 +194,23 @@ public static List<String> getPathSplits(final String separator, final String pa
         if (pathString.isEmpty()) {
             // special case: the empty path
             splitList.add("");
-        } else {
-
+        } else if (separator.isEmpty()) {
             Arrays.stream(pathString.split(Pattern.quote(separator))) //
                 .filter(c -> !c.isEmpty()) //
                 .forEach(splitList::add);
+        } else {
+            // NB: splitting manually is considerably cheaper than using a regular expression
+            var start = 0;
+            int end;
+            while ((end = pathString.indexOf(separator, start)) >= 0) {
+                if (end > start) {
+                    splitList.add(pathString.substring(start, end));
+                }
+                start = end + separator.length();
+            }
+            if (start < pathString.length()) {
+                splitList.add(pathString.substring(start));
+            }
         }
         return splitList;
     }
@@ -217,10 +228,18 @@ public static String getParentPathName(final boolean isAbsolute, final String pa
         if ((isAbsolute && pathParts.isEmpty()) || (!isAbsolute && pathParts.size() <= 1)) {
             return null;
         }
-        final String prefix = isAbsolute ? pathSeparator : "";
-        return pathParts.stream()//
-                .limit(pathParts.size() - 1L)//
-                .collect(Collectors.joining(pathSeparator, prefix, ""));
+        final var sb = new StringBuilder();
+        if (isAbsolute) {
+            sb.append(pathSeparator);
+        }
+        final int parentSize = pathParts.size() - 1;
+        for (var i = 0; i < parentSize; i++) {
+            if (i > 0) {
+                sb.append(pathSeparator);
+            }
+            sb.append(pathParts.get(i));
+        }
+        return sb.toString();
     }
 
 }
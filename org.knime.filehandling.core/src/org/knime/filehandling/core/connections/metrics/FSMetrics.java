@@ -0,0 +1,359 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.connections.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.filehandling.core.connections.FSFileSystem;
+import org.knime.filehandling.core.connections.FSLocationSpec;
+
+/**
+ * Per-{@link FSFileSystem} instrumentation of the file system provider primitives (see {@link FSOperation}), the
+ * attributes cache and the bytes transferred through the file system's streams.
+ *
+ * <p>
+ * Metrics are disabled by default, in which case {@link FSFileSystem#getMetrics()} returns a shared instance on which
+ * every recording method returns immediately and all statistics are zero. They can be enabled by setting the system
+ * property {@value #ENABLED_PROPERTY} to {@code true}. If additionally {@value #JMX_PROPERTY} is set to {@code true},
+ * the metrics of each open file system are exposed as {@link FSMetricsMXBean}.
+ * </p>
+ *
+ * <p>
+ * Usage within a file system provider:
+ *
+ * <pre>
+ * final long start = metrics.startTimer();
+ * try {
+ *     copyInternal(source, target, options);
+ * } finally {
+ *     metrics.record(FSOperation.COPY, start);
+ * }
+ * </pre>
+ * </p>
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ * @noreference non-public API
+ * @noinstantiate non-public API
+ */
+public final class FSMetrics implements FSMetricsMXBean {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(FSMetrics.class);
+
+    /**
+     * System property that enables the file system metrics.
+     */
+    public static final String ENABLED_PROPERTY = "knime.filehandling.metrics";
+
+    /**
+     * System property that additionally exposes the file system metrics via JMX.
+     */
+    public static final String JMX_PROPERTY = "knime.filehandling.metrics.jmx";
+
+    /**
+     * The JMX domain under which the {@link FSMetricsMXBean}s are registered.
+     */
+    public static final String JMX_DOMAIN = "org.knime.filehandling";
+
+    private static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final boolean JMX_ENABLED = ENABLED && Boolean.getBoolean(JMX_PROPERTY);
+
+    private static final FSMetrics DISABLED = new FSMetrics(false);
+
+    private static final AtomicLong JMX_ID_SEQUENCE = new AtomicLong();
+
+    private final boolean m_enabled;
+
+    private final Map<FSOperation, LatencyHistogram> m_histograms = new EnumMap<>(FSOperation.class);
+
+    private final LongAdder m_bytesRead = new LongAdder();
+
+    private final LongAdder m_bytesWritten = new LongAdder();
+
+    private final LongAdder m_attributeCacheHits = new LongAdder();
+
+    private final LongAdder m_attributeCacheMisses = new LongAdder();
+
+    private ObjectName m_objectName;
+
+    FSMetrics(final boolean enabled) {
+        m_enabled = enabled;
+        if (enabled) {
+            for (final FSOperation operation : FSOperation.values()) {
+                m_histograms.put(operation, new LatencyHistogram(operation));
+            }
+        }
+    }
+
+    /**
+     * Creates the metrics for a new file system. Only to be called by {@link FSFileSystem}.
+     *
+     * @param fsLocationSpec the location spec of the file system, its type is only resolved if the metrics are
+     *            published via JMX
+     * @return new metrics if {@value #ENABLED_PROPERTY} is set, otherwise a shared instance that records nothing
+     */
+    public static FSMetrics create(final FSLocationSpec fsLocationSpec) {
+        if (!ENABLED) {
+            return DISABLED;
+        }
+        final var metrics = new FSMetrics(true);
+        if (JMX_ENABLED) {
+            metrics.registerMBean(getTypeId(fsLocationSpec));
+        }
+        return metrics;
+    }
+
+    private static String getTypeId(final FSLocationSpec fsLocationSpec) {
+        try {
+            return fsLocationSpec.getFSType().getTypeId();
+        } catch (IllegalStateException ex) { // NOSONAR
+            // e.g. connected file systems whose type isn't registered
+            return fsLocationSpec.getFileSystemCategory();
+        }
+    }
+
+    /**
+     * @return whether metrics are recorded
+     */
+    public boolean isEnabled() {
+        return m_enabled;
+    }
+
+    /**
+     * Starts timing a call. Pass the returned value to {@link #record(FSOperation, long)} once the call returned.
+     *
+     * @return the start time or 0 if the metrics are disabled
+     */
+    public long startTimer() {
+        return m_enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records a call of the given operation.
+     *
+     * @param operation the called operation
+     * @param startNanos the value returned by {@link #startTimer()} before the call
+     */
+    public void record(final FSOperation operation, final long startNanos) {
+        if (m_enabled) {
+            m_histograms.get(operation).record(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Records an attribute lookup that was answered by the attributes cache.
+     */
+    public void recordAttributeCacheHit() {
+        if (m_enabled) {
+            m_attributeCacheHits.increment();
+        }
+    }
+
+    /**
+     * Records an attribute lookup that was not answered by the attributes cache.
+     */
+    public void recordAttributeCacheMiss() {
+        if (m_enabled) {
+            m_attributeCacheMisses.increment();
+        }
+    }
+
+    /**
+     * Records bytes read through an input stream of the file system.
+     *
+     * @param bytes the number of bytes read, values smaller than one (e.g. end of stream) are ignored
+     */
+    public void recordBytesRead(final long bytes) {
+        if (m_enabled && bytes > 0) {
+            m_bytesRead.add(bytes);
+        }
+    }
+
+    /**
+     * Records bytes written through an output stream of the file system.
+     *
+     * @param bytes the number of bytes written
+     */
+    public void recordBytesWritten(final long bytes) {
+        if (m_enabled && bytes > 0) {
+            m_bytesWritten.add(bytes);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the statistics of the given operation.
+     *
+     * @param operation the operation
+     * @return the statistics of the operation, all zero if the metrics are disabled
+     */
+    public FSOperationStatistics getStatistics(final FSOperation operation) {
+        if (!m_enabled) {
+            return new FSOperationStatistics(operation, 0, 0, 0, new long[LatencyHistogram.NUMBER_OF_BUCKETS]);
+        }
+        return m_histograms.get(operation).snapshot();
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        final Map<String, Long> counts = new LinkedHashMap<>();
+        for (final FSOperation operation : FSOperation.values()) {
+            counts.put(operation.name(), getStatistics(operation).getCount());
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Double> getTotalLatencyMillis() {
+        return toMillisPerOperation(FSOperationStatistics::getTotalNanos);
+    }
+
+    @Override
+    public Map<String, Double> getMeanLatencyMillis() {
+        return toMillisPerOperation(FSOperationStatistics::getMeanNanos);
+    }
+
+    @Override
+    public Map<String, Double> getP95LatencyMillis() {
+        return toMillisPerOperation(s -> s.getPercentileNanos(95));
+    }
+
+    @Override
+    public Map<String, Double> getMaxLatencyMillis() {
+        return toMillisPerOperation(FSOperationStatistics::getMaxNanos);
+    }
+
+    private Map<String, Double> toMillisPerOperation(final ToDoubleFunction<FSOperationStatistics> nanosExtractor) {
+        final Map<String, Double> millis = new LinkedHashMap<>();
+        for (final FSOperation operation : FSOperation.values()) {
+            millis.put(operation.name(), nanosExtractor.applyAsDouble(getStatistics(operation)) / 1_000_000d);
+        }
+        return millis;
+    }
+
+    @Override
+    public long getBytesRead() {
+        return m_bytesRead.sum();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return m_bytesWritten.sum();
+    }
+
+    @Override
+    public long getAttributeCacheHits() {
+        return m_attributeCacheHits.sum();
+    }
+
+    @Override
+    public long getAttributeCacheMisses() {
+        return m_attributeCacheMisses.sum();
+    }
+
+    @Override
+    public void reset() {
+        m_histograms.values().forEach(LatencyHistogram::reset);
+        m_bytesRead.reset();
+        m_bytesWritten.reset();
+        m_attributeCacheHits.reset();
+        m_attributeCacheMisses.reset();
+    }
+
+    private synchronized void registerMBean(final String fsTypeId) {
+        try {
+            final var objectName = new ObjectName(String.format("%s:type=FSMetrics,fsType=%s,id=%d", JMX_DOMAIN,
+                ObjectName.quote(fsTypeId), JMX_ID_SEQUENCE.incrementAndGet()));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            m_objectName = objectName;
+        } catch (JMException ex) {
+            LOGGER.debug("Could not register file system metrics via JMX: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Releases the JMX registration (if any). Only to be called by {@link FSFileSystem} when it is closed.
+     */
+    public synchronized void dispose() {
+        if (m_objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(m_objectName);
+            } catch (JMException ex) {
+                LOGGER.debug("Could not unregister file system metrics from JMX: " + ex.getMessage(), ex);
+            }
+            m_objectName = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (!m_enabled) {
+            return "FSMetrics[disabled]";
+        }
+        final var sb = new StringBuilder("FSMetrics[");
+        for (final LatencyHistogram histogram : m_histograms.values()) {
+            sb.append(histogram).append(", ");
+        }
+        return sb.append("bytesRead=").append(getBytesRead()) //
+            .append(", bytesWritten=").append(getBytesWritten()) //
+            .append(", cacheHits=").append(getAttributeCacheHits()) //
+            .append(", cacheMisses=").append(getAttributeCacheMisses()) //
+            .append(']').toString();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.connections.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the {@link FSMetrics} of a single file system. The beans are registered under
+ * {@value FSMetrics#JMX_DOMAIN}{@code :type=FSMetrics,fsType=<type>,id=<id>} if
+ * {@value FSMetrics#JMX_PROPERTY} is set to {@code true}.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ * @noreference non-public API
+ * @noimplement non-public API
+ */
+public interface FSMetricsMXBean {
+
+    /**
+     * @return the number of calls per {@link FSOperation}
+     */
+    Map<String, Long> getOperationCounts();
+
+    /**
+     * @return the accumulated time spent in the calls per {@link FSOperation}, in milliseconds
+     */
+    Map<String, Double> getTotalLatencyMillis();
+
+    /**
+     * @return the mean time spent in a call per {@link FSOperation}, in milliseconds
+     */
+    Map<String, Double> getMeanLatencyMillis();
+
+    /**
+     * @return the estimated 95th percentile of the call latencies per {@link FSOperation}, in milliseconds
+     */
+    Map<String, Double> getP95LatencyMillis();
+
+    /**
+     * @return the latency of the slowest call per {@link FSOperation}, in milliseconds
+     */
+    Map<String, Double> getMaxLatencyMillis();
+
+    /**
+     * @return the number of bytes read through the input streams of the file system
+     */
+    long getBytesRead();
+
+    /**
+     * @return the number of bytes written through the output streams of the file system
+     */
+    long getBytesWritten();
+
+    /**
+     * @return the number of attribute lookups that were answered by the attributes cache
+     */
+    long getAttributeCacheHits();
+
+    /**
+     * @return the number of attribute lookups that were not answered by the attributes cache
+     */
+    long getAttributeCacheMisses();
+
+    /**
+     * Resets all counters and histograms.
+     */
+    void reset();
+}
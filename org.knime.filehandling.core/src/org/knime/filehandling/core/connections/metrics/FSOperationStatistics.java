@@ -0,0 +1,159 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.connections.metrics;
+
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Immutable snapshot of the call count and latency histogram of a single {@link FSOperation}.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ * @noreference non-public API
+ * @noinstantiate non-public API
+ */
+public final class FSOperationStatistics {
+
+    private final FSOperation m_operation;
+
+    private final long m_count;
+
+    private final long m_totalNanos;
+
+    private final long m_maxNanos;
+
+    private final long[] m_buckets;
+
+    FSOperationStatistics(final FSOperation operation, final long count, final long totalNanos, final long maxNanos,
+        final long[] buckets) {
+        m_operation = operation;
+        m_count = count;
+        m_totalNanos = totalNanos;
+        m_maxNanos = maxNanos;
+        m_buckets = buckets;
+    }
+
+    /**
+     * @return the operation these statistics belong to
+     */
+    public FSOperation getOperation() {
+        return m_operation;
+    }
+
+    /**
+     * @return the number of calls (including the ones that failed)
+     */
+    public long getCount() {
+        return m_count;
+    }
+
+    /**
+     * @return the accumulated time spent in all calls, in nanoseconds
+     */
+    public long getTotalNanos() {
+        return m_totalNanos;
+    }
+
+    /**
+     * @return the time spent in the slowest call, in nanoseconds
+     */
+    public long getMaxNanos() {
+        return m_maxNanos;
+    }
+
+    /**
+     * @return the mean time spent in a call, in nanoseconds, or 0 if there were no calls
+     */
+    public double getMeanNanos() {
+        return m_count == 0 ? 0 : ((double)m_totalNanos / m_count);
+    }
+
+    /**
+     * Estimates the given percentile of the call latencies. The estimate is the upper bound of the histogram bucket
+     * that contains the percentile (capped by the {@link #getMaxNanos() maximum}), i.e. it is at most twice the actual
+     * value.
+     *
+     * @param percentile the percentile in the range (0, 100]
+     * @return the estimated percentile in nanoseconds, or 0 if there were no calls
+     */
+    public long getPercentileNanos(final double percentile) {
+        CheckUtils.checkArgument(percentile > 0 && percentile <= 100, "The percentile must be in the range (0, 100].");
+        if (m_count == 0) {
+            return 0;
+        }
+        final var rank = (long)Math.ceil(percentile / 100 * m_count);
+        long seen = 0;
+        for (var i = 0; i < m_buckets.length; i++) {
+            seen += m_buckets[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), m_maxNanos);
+            }
+        }
+        // the buckets are summed up independently of the count, so concurrent recording may leave us here
+        return m_maxNanos;
+    }
+
+    private static long upperBound(final int bucketIndex) {
+        return bucketIndex >= Long.SIZE - 1 ? Long.MAX_VALUE : ((1L << bucketIndex) - 1);
+    }
+
+    /**
+     * @return a copy of the histogram buckets, where bucket {@code i} counts the calls that took less than
+     *         2<sup>i</sup> and at least 2<sup>i-1</sup> nanoseconds
+     */
+    public long[] getHistogram() {
+        return m_buckets.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[count=%d, mean=%.0fns, p95=%dns, max=%dns]", m_operation, m_count, getMeanNanos(),
+            getPercentileNanos(95), m_maxNanos);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.connections.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the calls of a single {@link FSOperation} and records their latencies in a histogram with exponentially
+ * growing buckets. Bucket {@code i} holds the calls that took less than 2<sup>i</sup> nanoseconds (and at least
+ * 2<sup>i-1</sup> nanoseconds), hence the relative error of the reported percentiles is bounded by a factor of two
+ * while recording is a single increment.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+final class LatencyHistogram {
+
+    static final int NUMBER_OF_BUCKETS = Long.SIZE;
+
+    private final FSOperation m_operation;
+
+    private final LongAdder[] m_buckets = new LongAdder[NUMBER_OF_BUCKETS];
+
+    private final LongAdder m_count = new LongAdder();
+
+    private final LongAdder m_totalNanos = new LongAdder();
+
+    private final LongAccumulator m_maxNanos = new LongAccumulator(Math::max, 0);
+
+    LatencyHistogram(final FSOperation operation) {
+        m_operation = operation;
+        for (var i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            m_buckets[i] = new LongAdder();
+        }
+    }
+
+    static int bucketIndex(final long nanos) {
+        return nanos <= 0 ? 0 : (Long.SIZE - Long.numberOfLeadingZeros(nanos));
+    }
+
+    void record(final long nanos) {
+        final var sanitizedNanos = Math.max(0, nanos);
+        m_buckets[Math.min(bucketIndex(sanitizedNanos), NUMBER_OF_BUCKETS - 1)].increment();
+        m_count.increment();
+        m_totalNanos.add(sanitizedNanos);
+        m_maxNanos.accumulate(sanitizedNanos);
+    }
+
+    void reset() {
+        for (final LongAdder bucket : m_buckets) {
+            bucket.reset();
+        }
+        m_count.reset();
+        m_totalNanos.reset();
+        m_maxNanos.reset();
+    }
+
+    FSOperationStatistics snapshot() {
+        final var buckets = new long[NUMBER_OF_BUCKETS];
+        for (var i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            buckets[i] = m_buckets[i].sum();
+        }
+        return new FSOperationStatistics(m_operation, m_count.sum(), m_totalNanos.sum(), m_maxNanos.get(), buckets);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d calls, %d ms", m_operation, m_count.sum(),
+            TimeUnit.NANOSECONDS.toMillis(m_totalNanos.sum()));
+    }
+}
@@ -69,7 +69,10 @@
  * {@link ValueFactory} for {@link FSLocationReadValue} and {@link FSLocationWriteValue} objects.
  *
  * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
+ * @deprecated only kept to read existing tables, new tables are written with
+ *             {@link PrefixSharingFSLocationValueFactory}
  */
+@Deprecated(since = "5.12")
 public final class FSLocationValueFactory implements ValueFactory<StructReadAccess, StructWriteAccess> {
 
     @Override
@@ -55,6 +55,7 @@
 import org.knime.core.data.meta.DataColumnMetaDataCreator;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.filehandling.core.connections.DefaultFSLocationSpec;
+import org.knime.filehandling.core.connections.FSLocationSpec;
 
 /**
  * {@link DataColumnMetaDataCreator} for {@link FSLocationValueMetaData}.
@@ -68,6 +69,12 @@ public final class FSLocationValueMetaDataCreator implements DataColumnMetaDataC
 
     private final Set<DefaultFSLocationSpec> m_specs;
 
+    /**
+     * The spec of the last cell that has been seen. Subsequent cells typically share the same spec, so comparing
+     * against it avoids allocations and hash lookups for almost all cells.
+     */
+    private DefaultFSLocationSpec m_lastSpec;
+
     FSLocationValueMetaDataCreator() {
         this(new HashSet<>());
     }
@@ -81,11 +88,14 @@ public void update(final DataCell cell) {
         if (cell.isMissing() || !(cell instanceof FSLocationValue)) {
             return;
         }
-        final FSLocationValue value = (FSLocationValue)cell;
-        final Set<DefaultFSLocationSpec> set = new HashSet<>();
-        set.add(new DefaultFSLocationSpec(value.getFSLocation().getFileSystemCategory(),
-            value.getFSLocation().getFileSystemSpecifier().orElse(null)));
-        m_specs.addAll(set);
+        final var location = ((FSLocationValue)cell).getFSLocation();
+        if (FSLocationSpec.areEqual(m_lastSpec, location)) {
+            return;
+        }
+        final var spec =
+            new DefaultFSLocationSpec(location.getFileSystemCategory(), location.getFileSystemSpecifier().orElse(null));
+        m_specs.add(spec);
+        m_lastSpec = spec;
     }
 
     @Override
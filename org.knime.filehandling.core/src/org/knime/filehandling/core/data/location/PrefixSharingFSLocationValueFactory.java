@@ -0,0 +1,214 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 13, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.data.location;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.v2.ReadValue;
+import org.knime.core.data.v2.ValueFactory;
+import org.knime.core.data.v2.WriteValue;
+import org.knime.core.table.access.StringAccess.StringReadAccess;
+import org.knime.core.table.access.StringAccess.StringWriteAccess;
+import org.knime.core.table.access.StructAccess.StructReadAccess;
+import org.knime.core.table.access.StructAccess.StructWriteAccess;
+import org.knime.core.table.schema.DataSpec;
+import org.knime.core.table.schema.StructDataSpec;
+import org.knime.core.table.schema.traits.DataTrait.DictEncodingTrait;
+import org.knime.core.table.schema.traits.DataTrait.DictEncodingTrait.KeyType;
+import org.knime.core.table.schema.traits.DataTraits;
+import org.knime.core.table.schema.traits.DefaultStructDataTraits;
+import org.knime.filehandling.core.connections.FSLocation;
+import org.knime.filehandling.core.data.location.cell.SimpleFSLocationCell;
+
+/**
+ * {@link ValueFactory} for {@link FSLocation FSLocations} that stores the path split into its parent prefix and its
+ * file name.</br>
+ * All parts are dictionary encoded. Since listings typically contain many paths within the same folder, the parent
+ * prefix is stored only once per distinct folder (and batch) instead of once per row. Consequently, the table size and
+ * the deserialization time are proportional to the number of distinct file systems and folders rather than to the
+ * number of rows.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+public final class PrefixSharingFSLocationValueFactory implements ValueFactory<StructReadAccess, StructWriteAccess> {
+
+    private static final int CATEGORY_IDX = 0;
+
+    private static final int SPECIFIER_IDX = 1;
+
+    private static final int PARENT_IDX = 2;
+
+    private static final int NAME_IDX = 3;
+
+    @Override
+    public PrefixSharingFSLocationReadValue createReadValue(final StructReadAccess access) {
+        return new PrefixSharingFSLocationReadValue(access);
+    }
+
+    @Override
+    public PrefixSharingFSLocationWriteValue createWriteValue(final StructWriteAccess access) {
+        return new PrefixSharingFSLocationWriteValue(access);
+    }
+
+    @Override
+    public DataSpec getSpec() {
+        return new StructDataSpec(DataSpec.stringSpec(), DataSpec.stringSpec(), DataSpec.stringSpec(),
+            DataSpec.stringSpec());
+    }
+
+    @Override
+    public DataTraits getTraits() {
+        return DefaultStructDataTraits.builder()//
+            .addInnerTraits(new DictEncodingTrait(KeyType.INT_KEY))//
+            .addInnerTraits(new DictEncodingTrait(KeyType.INT_KEY))//
+            .addInnerTraits(new DictEncodingTrait(KeyType.LONG_KEY))//
+            // file names also tend to repeat across folders e.g. in partitioned data sets
+            .addInnerTraits(new DictEncodingTrait(KeyType.LONG_KEY))//
+            .build();
+    }
+
+    /**
+     * Determines the index at which the path is split into parent prefix and file name. The split is lossless i.e. the
+     * concatenation of both parts always yields the original path regardless of the separator used by the file system.
+     *
+     * @param path the path to split
+     * @return the index of the first character of the file name
+     */
+    static int getNameStartIndex(final String path) {
+        final var lastSeparator = Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\'));
+        // a trailing separator belongs to the name, otherwise directories would end up with an empty name
+        if (lastSeparator > 0 && lastSeparator == path.length() - 1) {
+            final var withoutTrailing = path.substring(0, lastSeparator);
+            return Math.max(withoutTrailing.lastIndexOf('/'), withoutTrailing.lastIndexOf('\\')) + 1;
+        }
+        return lastSeparator + 1;
+    }
+
+    /**
+     * {@link ReadValue} for {@link FSLocation FSLocations} stored by a {@link PrefixSharingFSLocationValueFactory}.
+     *
+     * @author agent, KNIME GmbH, Konstanz, Germany
+     */
+    public static final class PrefixSharingFSLocationReadValue implements ReadValue, FSLocationValue {
+
+        private final StringReadAccess m_fsCategory;
+
+        private final StringReadAccess m_fsSpecifier;
+
+        private final StringReadAccess m_parent;
+
+        private final StringReadAccess m_name;
+
+        private final SimpleFSLocationCell.Factory m_cellFactory = new SimpleFSLocationCell.Factory();
+
+        private PrefixSharingFSLocationReadValue(final StructReadAccess structAccess) {
+            m_fsCategory = structAccess.getAccess(CATEGORY_IDX);
+            m_fsSpecifier = structAccess.getAccess(SPECIFIER_IDX);
+            m_parent = structAccess.getAccess(PARENT_IDX);
+            m_name = structAccess.getAccess(NAME_IDX);
+        }
+
+        @Override
+        public FSLocation getFSLocation() {
+            final var fsCategory = m_fsCategory.getStringValue();
+            final var fsSpecifier = m_fsSpecifier.isMissing() ? null : m_fsSpecifier.getStringValue();
+            final var parent = m_parent.getStringValue();
+            final var name = m_name.getStringValue();
+            final var path = parent.isEmpty() ? name : parent.concat(name);
+            return new FSLocation(fsCategory, fsSpecifier, path);
+        }
+
+        @Override
+        public DataCell getDataCell() {
+            return m_cellFactory.createCell(getFSLocation());
+        }
+
+    }
+
+    /**
+     * {@link WriteValue} for {@link FSLocation FSLocations} stored by a {@link PrefixSharingFSLocationValueFactory}.
+     *
+     * @author agent, KNIME GmbH, Konstanz, Germany
+     */
+    public static final class PrefixSharingFSLocationWriteValue implements WriteValue<FSLocationValue> {
+
+        private final StringWriteAccess m_fsCategory;
+
+        private final StringWriteAccess m_fsSpecifier;
+
+        private final StringWriteAccess m_parent;
+
+        private final StringWriteAccess m_name;
+
+        private PrefixSharingFSLocationWriteValue(final StructWriteAccess structAccess) {
+            m_fsCategory = structAccess.getWriteAccess(CATEGORY_IDX);
+            m_fsSpecifier = structAccess.getWriteAccess(SPECIFIER_IDX);
+            m_parent = structAccess.getWriteAccess(PARENT_IDX);
+            m_name = structAccess.getWriteAccess(NAME_IDX);
+        }
+
+        @Override
+        public void setValue(final FSLocationValue value) {
+            setLocation(value.getFSLocation());
+        }
+
+        /**
+         * @param location to set
+         */
+        public void setLocation(final FSLocation location) {
+            m_fsCategory.setStringValue(location.getFileSystemCategory());
+            location.getFileSystemSpecifier().ifPresentOrElse(m_fsSpecifier::setStringValue, m_fsSpecifier::setMissing);
+            final var path = location.getPath();
+            final var nameStart = getNameStartIndex(path);
+            m_parent.setStringValue(path.substring(0, nameStart));
+            m_name.setStringValue(path.substring(nameStart));
+        }
+
+    }
+
+}
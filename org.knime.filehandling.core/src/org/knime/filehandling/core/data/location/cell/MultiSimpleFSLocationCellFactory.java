@@ -54,6 +54,7 @@
 
 import org.knime.filehandling.core.connections.DefaultFSLocationSpec;
 import org.knime.filehandling.core.connections.FSLocation;
+import org.knime.filehandling.core.connections.FSLocationSpec;
 
 /**
  * A factory class allowing to easily create {@link FSLocationCell}s. This class is especially useful when the same
@@ -65,6 +66,11 @@ public final class MultiSimpleFSLocationCellFactory {
 
     private final Map<DefaultFSLocationSpec, SimpleFSLocationCellFactory> m_factories;
 
+    /** The spec of the last created cell, consecutive cells typically share it. */
+    private DefaultFSLocationSpec m_lastSpec;
+
+    private SimpleFSLocationCellFactory m_lastFactory;
+
     /**
      * Constructor.
      */
@@ -82,11 +88,13 @@ public MultiSimpleFSLocationCellFactory() {
      *             in the meta data
      */
     public SimpleFSLocationCell createCell(final FSLocation fsLocation) {
-        final DefaultFSLocationSpec defaultFSLocationSpec = new DefaultFSLocationSpec(fsLocation.getFSCategory(),
-            fsLocation.getFileSystemSpecifier().orElseGet(() -> null));
-        final SimpleFSLocationCellFactory fac = m_factories
-            .computeIfAbsent(defaultFSLocationSpec, SimpleFSLocationCellFactory::new);
-        return fac.createCell(fsLocation);
+        if (!FSLocationSpec.areEqual(m_lastSpec, fsLocation)) {
+            final DefaultFSLocationSpec defaultFSLocationSpec = new DefaultFSLocationSpec(fsLocation.getFSCategory(),
+                fsLocation.getFileSystemSpecifier().orElseGet(() -> null));
+            m_lastFactory = m_factories.computeIfAbsent(defaultFSLocationSpec, SimpleFSLocationCellFactory::new);
+            m_lastSpec = defaultFSLocationSpec;
+        }
+        return m_lastFactory.createCell(fsLocation);
     }
 
 }
@@ -71,6 +71,7 @@
 import org.knime.core.node.FlowVariableModel;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeSettings;
 import org.knime.core.node.NotConfigurableException;
 import org.knime.core.node.context.ports.PortsConfiguration;
 import org.knime.core.node.defaultnodesettings.DialogComponent;
@@ -83,10 +84,12 @@
 import org.knime.core.node.workflow.contextv2.WorkflowContextV2;
 import org.knime.core.node.workflow.contextv2.WorkflowContextV2.ExecutorType;
 import org.knime.core.util.FileUtil;
+import org.knime.core.util.Pair;
 import org.knime.filehandling.core.connections.FSConnection;
 import org.knime.filehandling.core.connections.config.URIFSConnectionConfig;
 import org.knime.filehandling.core.defaultnodesettings.FileSystemChoice.Choice;
 import org.knime.filehandling.core.defaultnodesettings.SettingsModelFileChooser2.FileOrFolderEnum;
+import org.knime.filehandling.core.defaultnodesettings.status.StatusUpdateScheduler;
 import org.knime.filehandling.core.filefilter.FileFilterDialog;
 import org.knime.filehandling.core.filefilter.FileFilterPanel;
 import org.knime.filehandling.core.port.FileSystemPortObject;
@@ -158,7 +161,7 @@ public class DialogComponentFileChooser2 extends DialogComponent {
     private final WordWrapJLabel m_statusMessage;
 
     /** Swing worker used to do file scanning in the background */
-    private StatusMessageSwingWorker m_statusMessageSwingWorker;
+    private final StatusUpdateScheduler<Pair<Color, String>> m_statusUpdateScheduler = new StatusUpdateScheduler<>();
 
     /** {@link DialogType} defining whether the component is used to read or write */
     private final DialogType m_dialogType;
@@ -258,8 +261,6 @@ public DialogComponentFileChooser2(final int inPort, final SettingsModelFileChoo
 
         m_statusMessage = new WordWrapJLabel(EMPTY_STRING, 700);
 
-        m_statusMessageSwingWorker = null;
-
         initLayout();
 
         // Fill combo boxes
@@ -640,10 +641,7 @@ private void updateEnabledness() {
 
     /** Method to update the status message */
     private void triggerStatusMessageUpdate() {
-        if (m_statusMessageSwingWorker != null) {
-            m_statusMessageSwingWorker.cancel(true);
-            m_statusMessageSwingWorker = null;
-        }
+        m_statusUpdateScheduler.cancel();
         final SettingsModelFileChooser2 model = (SettingsModelFileChooser2)getModel();
         final FileSystemChoice fsChoice = model.getFileSystemChoice();
         if (executedOnServer()) {
@@ -656,9 +654,13 @@ private void triggerStatusMessageUpdate() {
                     model.readFilesFromFolder() || m_fileSelectionMode.equals(FileSelectionMode.DIRECTORIES_ONLY)
                         ? FileSelectionMode.DIRECTORIES_ONLY : FileSelectionMode.FILES_ONLY;
 
-                m_statusMessageSwingWorker = new StatusMessageSwingWorker(m_fs, model.clone(), m_timeoutInMillis,
-                    m_statusMessage, m_dialogType, fileOrFolder);
-                m_statusMessageSwingWorker.execute();
+                final SettingsModelFileChooser2 modelClone = model.clone();
+                final Pair<Color, String> recentStatus = m_statusUpdateScheduler.schedule(
+                    createStatusKey(modelClone, fileOrFolder), () -> new StatusMessageSwingWorker(m_fs, modelClone,
+                        m_timeoutInMillis, m_statusMessage, m_dialogType, fileOrFolder));
+                if (recentStatus != null) {
+                    StatusMessageSwingWorker.updateStatusMessageLabel(m_statusMessage, recentStatus);
+                }
             } catch (final Exception ex) {
                 if (fsChoice != null && fsChoice.getType().equals(Choice.CONNECTED_FS) && !m_fs.isPresent()) {
                     m_statusMessage.setForeground(Color.RED);
@@ -675,6 +677,17 @@ private void triggerStatusMessageUpdate() {
         }
     }
 
+    /**
+     * Creates the key under which the status for the given settings is cached, i.e. the complete settings (including
+     * the location) and the selection mode the status is computed for.
+     */
+    private static Pair<String, FileSelectionMode> createStatusKey(final SettingsModelFileChooser2 model,
+        final FileSelectionMode fileSelectionMode) {
+        final var settings = new NodeSettings("status");
+        model.saveSettingsTo(settings);
+        return new Pair<>(settings.toString(), fileSelectionMode);
+    }
+
     /**
      * @param timeoutInMillis the timeout in milliseconds for the custom url file system
      */
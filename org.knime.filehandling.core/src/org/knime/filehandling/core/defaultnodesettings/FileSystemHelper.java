@@ -55,6 +55,7 @@
 import org.knime.filehandling.core.connections.DefaultFSConnectionFactory;
 import org.knime.filehandling.core.connections.FSCategory;
 import org.knime.filehandling.core.connections.FSConnection;
+import org.knime.filehandling.core.connections.FSConnectionPool;
 import org.knime.filehandling.core.connections.FSLocation;
 import org.knime.filehandling.core.connections.RelativeTo;
 import org.knime.filehandling.core.util.WorkflowContextUtil;
@@ -135,6 +136,32 @@ public static Optional<FSConnection> retrieveFSConnection(final Optional<FSConne
         }
     }
 
+    /**
+     * Method to obtain the file system for a given {@link FSLocation}. In contrast to
+     * {@link #retrieveFSConnection(Optional, FSLocation)}, convenience file systems are obtained from the
+     * {@link FSConnectionPool}, i.e. they are shared with other node executions in the same workflow. Closing the
+     * returned connection releases it to the pool.
+     *
+     * @param portObjectConnection optional {@link FSConnection}.
+     * @param location {@link FSLocation} instance.
+     * @return {@link FileSystem} to use.
+     * @since 5.12
+     */
+    public static Optional<FSConnection> retrievePooledFSConnection(final Optional<FSConnection> portObjectConnection,
+        final FSLocation location) {
+        final FSCategory category = location.getFSCategory();
+        if (portObjectConnection.isPresent() || !FSConnectionPool.isPoolable(category)) {
+            return retrieveFSConnection(portObjectConnection, location);
+        }
+        if (category == FSCategory.MOUNTPOINT) {
+            // the mountpoint might have been disconnected since the pooled connection was created
+            checkMountpointCanCreateConnection(location, extractMountpoint(location));
+        }
+        return Optional.of(FSConnectionPool.getInstance().acquire(location,
+            () -> retrieveFSConnection(portObjectConnection, location).orElseThrow(() -> new IllegalStateException(
+                "No file system connection available for \"" + location.getFSCategory() + "\""))));
+    }
+
     private static void checkMountpointCanCreateConnection(final FSLocation location,
         final KNIMEConnection connection) {
         // we would already have failed if there was no mountpoint in the specifier
@@ -158,11 +158,10 @@ protected Pair<Color, String> doInBackgroundWithContext() throws Exception {
             return mkError("Please specify a location");
         }
 
+        // NB: no need to wait for further input before accessing the file system, the worker is only started by
+        // the StatusUpdateScheduler of the dialog component once the input settled
         publish(new Pair<>(Color.BLACK, SCANNING_MESSAGE));
 
-        // sleep for 200ms to allow for quick cancellation without getting stuck in IO
-        Thread.sleep(200);
-
         // instantiate a path
         final Path fileOrFolder;
         try {
@@ -291,7 +290,7 @@ private static Pair<Color, String> mkWarning(final String msg) {
     @Override
     protected void doneWithContext() {
         try {
-            updateStatusMessageLabel(get());
+            updateStatusMessageLabel(m_statusMessageLabel, get());
         } catch (final ExecutionException e) {
             if (!(e.getCause() instanceof InterruptedException)) {
                 LOGGER.debug(e.getMessage(), e);
@@ -305,12 +304,12 @@ protected void doneWithContext() {
     @Override
     protected void processWithContext(final List<Pair<Color, String>> chunks) {
         final Pair<Color, String> colorAndMessage = chunks.get(chunks.size() - 1);
-        updateStatusMessageLabel(colorAndMessage);
+        updateStatusMessageLabel(m_statusMessageLabel, colorAndMessage);
     }
 
-    private void updateStatusMessageLabel(final Pair<Color, String> colorAndMessage) {
-        m_statusMessageLabel.setForeground(colorAndMessage.getFirst());
-        m_statusMessageLabel.setText(colorAndMessage.getSecond());
+    static void updateStatusMessageLabel(final JLabel statusMessageLabel, final Pair<Color, String> colorAndMessage) {
+        statusMessageLabel.setForeground(colorAndMessage.getFirst());
+        statusMessageLabel.setText(colorAndMessage.getSecond());
     }
 
     final Optional<String> getLatestWarning() {
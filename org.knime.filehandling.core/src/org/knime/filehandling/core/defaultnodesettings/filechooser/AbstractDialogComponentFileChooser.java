@@ -66,8 +66,10 @@
 import org.knime.core.node.FlowVariableModelButton;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeSettings;
 import org.knime.core.node.NotConfigurableException;
 import org.knime.core.node.defaultnodesettings.DialogComponent;
+import org.knime.core.node.defaultnodesettings.SettingsModel;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.node.util.FileSystemBrowser;
@@ -87,6 +89,7 @@
 import org.knime.filehandling.core.defaultnodesettings.status.StatusMessage;
 import org.knime.filehandling.core.defaultnodesettings.status.StatusMessage.MessageType;
 import org.knime.filehandling.core.defaultnodesettings.status.StatusSwingWorker;
+import org.knime.filehandling.core.defaultnodesettings.status.StatusUpdateScheduler;
 import org.knime.filehandling.core.defaultnodesettings.status.StatusView;
 import org.knime.filehandling.core.util.CheckNodeContextUtil;
 import org.knime.filehandling.core.util.GBCBuilder;
@@ -152,7 +155,7 @@
 
     private final Function<T, StatusMessageReporter> m_statusMessageReporter;
 
-    private StatusSwingWorker m_statusMessageWorker = null;
+    private final StatusUpdateScheduler<StatusMessage> m_statusUpdateScheduler = new StatusUpdateScheduler<>();
 
     /**
      * Constructor.</br>
@@ -316,6 +319,8 @@ protected void updateAdditionalComponents() {
     }
 
     private void updateStatus() {
+        // a check of the previous settings must not overwrite the status of the current ones
+        m_statusUpdateScheduler.cancel();
         m_statusView.clearStatus();
         m_statusConsumer.clear();
         final T sm = getSettingsModel();
@@ -341,13 +346,14 @@ private static boolean isRemoteJobView() {
     }
 
     private void triggerSwingWorker() {
-        if (m_statusMessageWorker != null) {
-            m_statusMessageWorker.cancel(true);
-        }
         try {
-            m_statusMessageWorker = new StatusSwingWorker(m_statusView::setStatus,
-                m_statusMessageReporter.apply(getSettingsModel().createClone()), true);
-            m_statusMessageWorker.execute();
+            final T settingsModel = getSettingsModel().createClone();
+            final StatusMessageReporter statusMessageReporter = m_statusMessageReporter.apply(settingsModel);
+            final StatusMessage recentStatus = m_statusUpdateScheduler.schedule(createStatusKey(settingsModel),
+                () -> new StatusSwingWorker(m_statusView::setStatus, statusMessageReporter, true, 0));
+            if (recentStatus != null) {
+                m_statusView.setStatus(recentStatus);
+            }
         } catch (Exception ex) {//NOSONAR we want to communicate any exception
             NodeLogger.getLogger(AbstractDialogComponentFileChooser.class)
                 .error("An exception occurred while updating the status message.", ex);
@@ -419,26 +425,27 @@ public T getSettingsModel() {
 
     @Override
     protected void validateSettingsBeforeSave() throws InvalidSettingsException {
-        cancelStatusSwingWorker();
+        m_statusUpdateScheduler.cancel();
         getSettingsModel().validateConfig();
         m_fileSelection.addCurrentSelectionToHistory();
     }
 
     /**
-     * This method cancels the {@link StatusSwingWorker}. This method must be called in the onClose method of a dialog.
+     * This method cancels any pending status update and clears the cached status messages. This method must be called
+     * in the onClose method of a dialog.
      */
     public void onClose() {
-        cancelStatusSwingWorker();
+        m_statusUpdateScheduler.reset();
     }
 
     /**
-     * This method cancels the {@link StatusSwingWorker}.
+     * Creates the key under which the status for the given settings is cached. The status depends on more than the
+     * location (e.g. on the filter options), hence the key consists of the complete settings.
      */
-    private void cancelStatusSwingWorker() {
-        if (m_statusMessageWorker != null) {
-            m_statusMessageWorker.cancel(true);
-            m_statusMessageWorker = null;
-        }
+    private static String createStatusKey(final SettingsModel settingsModel) {
+        final var settings = new NodeSettings("status");
+        settingsModel.saveSettingsTo(settings);
+        return settings.toString();
     }
 
     @Override
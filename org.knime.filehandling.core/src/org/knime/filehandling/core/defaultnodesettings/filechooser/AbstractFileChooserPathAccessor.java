@@ -155,8 +155,8 @@ private FSConnection getConnection() {
             // if we have a file system port, we always use the provided connection
             return m_portObjectConnection.get();
         } else {
-            // otherwise we retrieve the connection from the location
-            return FileSystemHelper.retrieveFSConnection(m_portObjectConnection, m_rootLocation).orElseThrow(
+            // otherwise we retrieve the connection from the location, convenience file systems are pooled
+            return FileSystemHelper.retrievePooledFSConnection(m_portObjectConnection, m_rootLocation).orElseThrow(
                 () -> new IllegalStateException("No file system connection available. Execute connector node."));
         }
     }
@@ -299,6 +299,16 @@ private FilterVisitor createVisitor(final Path rootPath) {
         }
     }
 
+    @SuppressWarnings("resource") // the file system is only used for identification
+    @Override
+    public Optional<Object> getPathsKey() {
+        // the paths are fully determined by the settings and, if present, the file system of the port object
+        return Optional.of(new PathsKey(m_settings, m_portObjectConnection.map(FSConnection::getFileSystem).orElse(null)));
+    }
+
+    private record PathsKey(FileChooserPathAccessorSettings settings, FSFileSystem<?> portObjectFileSystem) {
+    }
+
     @Override
     public void close() throws IOException {
         if (m_fileSystem != null) {
@@ -52,6 +52,7 @@
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -120,4 +121,17 @@ FSPath getRootPath(final Consumer<StatusMessage> statusMessageConsumer)
      */
     FileFilterStatistic getFileFilterStatistic();
 
+    /**
+     * Returns a key that identifies the paths this accessor resolves to, i.e. two accessors with equal keys yield the
+     * same paths as long as the underlying file system doesn't change.</br>
+     * The default implementation returns {@link Optional#empty()} which means that the paths have to be listed anew.
+     *
+     * @return a key identifying the paths or {@link Optional#empty()} if the paths can't be identified without listing
+     *         them
+     * @since 5.12
+     */
+    default Optional<Object> getPathsKey() {
+        return Optional.empty();
+    }
+
 }
@@ -328,13 +328,27 @@ public boolean testFolderName(final Path folder) {
     }
 
     /**
-     * Tells whether or not to visit the files in the provided folder with respect to the selected folder filters.
+     * Tells whether or not to visit the files in the provided folder with respect to the selected folder filters. A
+     * folder is not visited if it is hidden (and hidden folders are excluded), or if neither the folder itself nor any
+     * of its subfolders can satisfy the folder name filter.
      *
      * @param folder the folder in question
      * @return {@code true} if the folder has to be visited, {@link false} otherwise
      */
     public boolean visitFolder(final Path folder) {
-        return isSatisfiedFolderHidden(folder, false);
+        return isSatisfiedFolderHidden(folder, false) && canSubtreeSatisfyFolderName(folder);
+    }
+
+    private boolean canSubtreeSatisfyFolderName(final Path folder) {
+        if (!m_filterOptionsSettings.isFilterFoldersByName() || isSatisfiedFolderName(folder, false)) {
+            return true;
+        }
+        final String relativeFolder = m_rootPath.relativize(folder).toString();
+        final String separator = folder.getFileSystem().getSeparator();
+        final var matcher = m_regexFolderName
+            .matcher(relativeFolder.endsWith(separator) ? relativeFolder : (relativeFolder + separator));
+        // if the end of the input was not hit, no subfolder name (which extends the input) can match either
+        return matcher.matches() || matcher.hitEnd();
     }
 
     /**
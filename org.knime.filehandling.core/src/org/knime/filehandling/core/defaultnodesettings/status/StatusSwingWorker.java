@@ -81,6 +81,8 @@ public final class StatusSwingWorker extends SwingWorkerWithContext<StatusMessag
 
     private final boolean m_publishScanMsg;
 
+    private final long m_delayInMillis;
+
     /**
      * Constructor.
      *
@@ -92,9 +94,28 @@ public final class StatusSwingWorker extends SwingWorkerWithContext<StatusMessag
      */
     public StatusSwingWorker(final Consumer<StatusMessage> statusMessageConsumer,
         final StatusMessageReporter statusMessageReporter, final boolean publishScanMsg) {
+        this(statusMessageConsumer, statusMessageReporter, publishScanMsg, 200);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param statusMessageConsumer the status message consumer receiving the messages once the {@link SwingWorker} is
+     *            finished
+     * @param statusMessageReporter the {@link StatusMessageReporter} creating the messages while executing the
+     *            {@link SwingWorker}
+     * @param publishScanMsg {@code true} to report a "Scanning..." info once the {@link SwingWorker} starts executing
+     * @param delayInMillis the time to wait before the status is computed, which allows to cancel the worker without
+     *            getting stuck in I/O; can be 0 if the worker is started via a {@link StatusUpdateScheduler}, which
+     *            already waits for the input to settle
+     * @since 5.12
+     */
+    public StatusSwingWorker(final Consumer<StatusMessage> statusMessageConsumer,
+        final StatusMessageReporter statusMessageReporter, final boolean publishScanMsg, final long delayInMillis) {
         m_statusMessageConsumer = statusMessageConsumer;
         m_statusMessageReporter = statusMessageReporter;
         m_publishScanMsg = publishScanMsg;
+        m_delayInMillis = delayInMillis;
     }
 
     @Override
@@ -102,7 +123,9 @@ protected StatusMessage doInBackgroundWithContext() throws Exception {
         if (m_publishScanMsg) {
             publish(SCANNING_MSG);
         }
-        Thread.sleep(200);
+        if (m_delayInMillis > 0) {
+            Thread.sleep(m_delayInMillis);
+        }
         try {
             return m_statusMessageReporter.report();
         } catch (Exception ex) {// NOSONAR we catch all exceptions because they get lost otherwise
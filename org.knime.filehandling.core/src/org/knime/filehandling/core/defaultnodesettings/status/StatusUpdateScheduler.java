@@ -0,0 +1,195 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.defaultnodesettings.status;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.swing.SwingWorker;
+import javax.swing.SwingWorker.StateValue;
+import javax.swing.Timer;
+
+import org.knime.core.node.NodeLogger;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Schedules the {@link SwingWorker}s that check the user input of a dialog component in the background, e.g. whether
+ * the selected file exists. The checks typically access the file system and are triggered on nearly every keystroke,
+ * hence this class
+ * <ul>
+ * <li>debounces the requests, i.e. a worker is only created and started once no new request was made for a short
+ * time,</li>
+ * <li>cancels the running worker once a new request is made, and</li>
+ * <li>caches the results of finished workers for a short time, so that switching back and forth between settings
+ * doesn't hit the file system again.</li>
+ * </ul>
+ * The workers are started on the event dispatch thread.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ * @param <S> the type of status computed by the workers
+ * @since 5.12
+ * @noreference non-public API
+ * @noinstantiate non-public API
+ */
+public final class StatusUpdateScheduler<S> {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(StatusUpdateScheduler.class);
+
+    /** Time without new requests after which the latest request is started */
+    private static final int DEBOUNCE_MILLIS = 200;
+
+    /** Time for which the result of a check is reused */
+    private static final long CACHE_TTL_MILLIS = 5000;
+
+    private static final int CACHE_SIZE = 32;
+
+    private final Cache<Object, S> m_cache = CacheBuilder.newBuilder() //
+        .maximumSize(CACHE_SIZE) //
+        .expireAfterWrite(CACHE_TTL_MILLIS, TimeUnit.MILLISECONDS) //
+        .build();
+
+    private final Timer m_debounceTimer;
+
+    private Object m_pendingKey;
+
+    private Supplier<? extends SwingWorker<S, ?>> m_pendingWorkerFactory;
+
+    private SwingWorker<S, ?> m_runningWorker;
+
+    /**
+     * Constructor.
+     */
+    public StatusUpdateScheduler() {
+        m_debounceTimer = new Timer(DEBOUNCE_MILLIS, e -> startPendingWorker());
+        m_debounceTimer.setRepeats(false);
+    }
+
+    /**
+     * Requests a check. Any running or not yet started check is cancelled. If a check with the same key finished
+     * recently, its result is returned and nothing is scheduled. Otherwise the worker is created and started once no
+     * further request was made for a short time. The worker is responsible for reporting its result, e.g. in
+     * {@link SwingWorker#done()}.
+     *
+     * @param key identifies the input that is checked, must implement {@link Object#equals(Object)} and
+     *            {@link Object#hashCode()}, e.g. the location together with all settings that affect the check
+     * @param workerFactory creates the worker performing the check
+     * @return the recent result of a check with the same key, or {@code null} if the check was scheduled
+     */
+    public synchronized S schedule(final Object key, final Supplier<? extends SwingWorker<S, ?>> workerFactory) {
+        cancel();
+        final S cached = m_cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        m_pendingKey = key;
+        m_pendingWorkerFactory = workerFactory;
+        m_debounceTimer.restart();
+        return null;
+    }
+
+    private synchronized void startPendingWorker() {
+        if (m_pendingWorkerFactory == null) {
+            return;
+        }
+        final Object key = m_pendingKey;
+        final SwingWorker<S, ?> worker = m_pendingWorkerFactory.get();
+        m_pendingKey = null;
+        m_pendingWorkerFactory = null;
+        worker.addPropertyChangeListener(evt -> {
+            if ("state".equals(evt.getPropertyName()) && evt.getNewValue() == StateValue.DONE) {
+                cacheResult(key, worker);
+            }
+        });
+        m_runningWorker = worker;
+        worker.execute();
+    }
+
+    private synchronized void cacheResult(final Object key, final SwingWorker<S, ?> worker) {
+        if (m_runningWorker == worker) {
+            m_runningWorker = null;
+        }
+        if (worker.isCancelled()) {
+            return;
+        }
+        try {
+            final S result = worker.get();
+            if (result != null) {
+                m_cache.put(key, result);
+            }
+        } catch (final ExecutionException e) {
+            LOGGER.debug("Status check failed, its result is not cached.", e);
+        } catch (final InterruptedException e) { // NOSONAR can't happen, the worker is done
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Cancels the running check as well as any check that has not been started yet.
+     */
+    public synchronized void cancel() {
+        m_debounceTimer.stop();
+        m_pendingKey = null;
+        m_pendingWorkerFactory = null;
+        if (m_runningWorker != null) {
+            m_runningWorker.cancel(true);
+            m_runningWorker = null;
+        }
+    }
+
+    /**
+     * Cancels all checks and discards the cached results, e.g. when the dialog is closed.
+     */
+    public synchronized void reset() {
+        cancel();
+        m_cache.invalidateAll();
+    }
+}
@@ -61,6 +61,7 @@
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileTime;
 import java.nio.file.attribute.PosixFileAttributes;
 import java.nio.file.attribute.PosixFilePermission;
@@ -94,6 +95,22 @@ public final class NioFile extends File {
 
     private final FileSystem m_fileSys;
 
+    /**
+     * Snapshot of the attributes taken when the file was listed, {@code null} if there is no snapshot (anymore). All
+     * attribute queries are answered from the snapshot, because {@link javax.swing.JFileChooser} queries them over and
+     * over while rendering, which is too slow on remote file systems.
+     */
+    private transient BasicFileAttributes m_attributes;
+
+    /** Whether the file is hidden, computed lazily if there is an attribute snapshot */
+    private transient Boolean m_isHidden;
+
+    /** Whether the file is readable, computed lazily if there is an attribute snapshot */
+    private transient Boolean m_canRead;
+
+    /** Whether the file is writable, computed lazily if there is an attribute snapshot */
+    private transient Boolean m_canWrite;
+
     /**
      * Constructs a NioFile from a {@link Path}.
      *
@@ -105,6 +122,20 @@ public NioFile(final Path path) {
         m_path = path;
     }
 
+    /**
+     * Constructs a NioFile from a {@link Path} and a snapshot of its attributes, e.g. obtained while listing its
+     * parent directory. All attribute queries ({@link #exists()}, {@link #isDirectory()}, {@link #length()}, ...) are
+     * answered from that snapshot until the file is modified via this instance.
+     *
+     * @param path the path
+     * @param attributes the attributes of the path
+     * @since 5.12
+     */
+    public NioFile(final Path path, final BasicFileAttributes attributes) {
+        this(path);
+        m_attributes = attributes;
+    }
+
     /**
      * Constructs a NioFile from a path string and a {@link FileSystem}.
      *
@@ -142,21 +173,33 @@ public boolean isAbsolute() {
 
     @Override
     public boolean exists() {
-        return Files.exists(m_path);
+        return m_attributes != null || Files.exists(m_path);
     }
 
     @Override
     public boolean isDirectory() {
-        return Files.isDirectory(m_path);
+        final BasicFileAttributes attributes = m_attributes;
+        return attributes != null ? attributes.isDirectory() : Files.isDirectory(m_path);
     }
 
     @Override
     public boolean isFile() {
-        return Files.isRegularFile(m_path);
+        final BasicFileAttributes attributes = m_attributes;
+        return attributes != null ? attributes.isRegularFile() : Files.isRegularFile(m_path);
     }
 
     @Override
     public boolean isHidden() {
+        if (m_attributes == null) {
+            return readIsHidden();
+        }
+        if (m_isHidden == null) {
+            m_isHidden = readIsHidden();
+        }
+        return m_isHidden;
+    }
+
+    private boolean readIsHidden() {
         try {
             return Files.isHidden(m_path);
         } catch (final IOException ex) {
@@ -165,6 +208,28 @@ public boolean isHidden() {
         }
     }
 
+    /**
+     * Discards the attribute snapshot, because the file was modified.
+     */
+    private void clearAttributes() {
+        m_attributes = null;
+        m_isHidden = null;
+        m_canRead = null;
+        m_canWrite = null;
+    }
+
+    /**
+     * Creates a {@link NioFile} for a listed path, together with a snapshot of its attributes. If the file system
+     * caches the attributes retrieved while listing (e.g. all {@code BaseFileSystem}s do), reading them is cheap.
+     */
+    private static NioFile createListedFile(final Path path) {
+        try {
+            return new NioFile(path, Files.readAttributes(path, BasicFileAttributes.class));
+        } catch (final IOException ex) { // NOSONAR fall back to querying the attributes on demand
+            return new NioFile(path);
+        }
+    }
+
     @Override
     public String getCanonicalPath() throws IOException {
        return  m_path.toRealPath().toString();
@@ -207,7 +272,7 @@ public File[] listFiles(final FilenameFilter filter) {
             p -> filter.accept(new NioFile(p.getParent()), p.getFileName().toString()))) {
 
             final List<File> files = new ArrayList<>();
-            directoryStream.iterator().forEachRemaining(p -> files.add(new NioFile(p.toString(), m_fileSys)));
+            directoryStream.iterator().forEachRemaining(p -> files.add(createListedFile(p)));
             return files.toArray(new NioFile[0]);
 
         } catch (final Exception ex) {
@@ -236,11 +301,16 @@ public File[] listFiles(final FileFilter filter) {
         // make sure there is no stale thread local exception
         popThreadLocalException();
 
-        try (DirectoryStream<Path> directoryStream =
-            Files.newDirectoryStream(m_path, p -> filter.accept(new NioFile(p)))) {
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(m_path)) {
 
+            // the filter gets the same instance (and hence attribute snapshot) that is returned
             final List<File> files = new ArrayList<>();
-            directoryStream.iterator().forEachRemaining(p -> files.add(new NioFile(p.toString(), m_fileSys)));
+            for (final Path p : directoryStream) {
+                final NioFile file = createListedFile(p);
+                if (filter.accept(file)) {
+                    files.add(file);
+                }
+            }
             return files.toArray(new NioFile[0]);
 
         } catch (final Exception ex) {
@@ -292,16 +362,32 @@ public String getPath() {
 
     @Override
     public boolean canRead() {
-        return Files.isReadable(m_path);
+        if (m_attributes == null) {
+            return Files.isReadable(m_path);
+        }
+        if (m_canRead == null) {
+            m_canRead = Files.isReadable(m_path);
+        }
+        return m_canRead;
     }
 
     @Override
     public boolean canWrite() {
-        return Files.isWritable(m_path);
+        if (m_attributes == null) {
+            return Files.isWritable(m_path);
+        }
+        if (m_canWrite == null) {
+            m_canWrite = Files.isWritable(m_path);
+        }
+        return m_canWrite;
     }
 
     @Override
     public long length() {
+        final BasicFileAttributes attributes = m_attributes;
+        if (attributes != null) {
+            return attributes.size();
+        }
         try {
             return Files.size(m_path);
         } catch (final IOException ex) {
@@ -312,6 +398,10 @@ public long length() {
 
     @Override
     public long lastModified() {
+        final BasicFileAttributes attributes = m_attributes;
+        if (attributes != null) {
+            return attributes.lastModifiedTime().toMillis();
+        }
         try {
             return Files.getLastModifiedTime(m_path).toMillis();
         } catch (final IOException ex) {
@@ -342,6 +432,7 @@ public File getParentFile() {
 
     @Override
     public boolean createNewFile() throws IOException {
+        clearAttributes();
         try {
             Files.createFile(m_path);
             return true;
@@ -353,6 +444,7 @@ public boolean createNewFile() throws IOException {
 
     @Override
     public boolean mkdir() {
+        clearAttributes();
         try {
             Files.createDirectory(m_path);
             return true;
@@ -364,6 +456,7 @@ public boolean mkdir() {
 
     @Override
     public boolean mkdirs() {
+        clearAttributes();
         if (exists()) {
             return false;
         }
@@ -379,6 +472,7 @@ public boolean mkdirs() {
 
     @Override
     public boolean renameTo(final File dest) {
+        clearAttributes();
 
         final Path nioDest = m_fileSys.getPath(dest.getAbsolutePath());
         try {
@@ -393,6 +487,7 @@ public boolean renameTo(final File dest) {
 
     @Override
     public boolean setLastModified(final long time) {
+        clearAttributes();
         try {
             Files.setLastModifiedTime(m_path, FileTime.fromMillis(time));
             return true;
@@ -404,6 +499,7 @@ public boolean setLastModified(final long time) {
 
     @Override
     public boolean setReadOnly() {
+        clearAttributes();
         try {
 
             final Set<PosixFilePermission> newPermissions = new HashSet<>();
@@ -422,6 +518,7 @@ public boolean setReadOnly() {
 
     @Override
     public boolean setReadable(final boolean readable, final boolean ownerOnly) {
+        clearAttributes();
         try {
 
             final PosixFileAttributes attrs = Files.readAttributes(m_path, PosixFileAttributes.class);
@@ -456,6 +553,7 @@ public boolean setReadable(final boolean readable) {
 
     @Override
     public boolean setWritable(final boolean writable, final boolean ownerOnly) {
+        clearAttributes();
         try {
             final PosixFileAttributes attrs = Files.readAttributes(m_path, PosixFileAttributes.class);
             final Set<PosixFilePermission> newPermissions = attrs.permissions();
@@ -489,6 +587,7 @@ public boolean setWritable(final boolean writable) {
 
     @Override
     public boolean setExecutable(final boolean executable, final boolean ownerOnly) {
+        clearAttributes();
         try {
             final PosixFileAttributes attrs = Files.readAttributes(m_path, PosixFileAttributes.class);
             final Set<PosixFilePermission> newPermissions = attrs.permissions();
@@ -557,6 +656,7 @@ public long getFreeSpace() {
 
     @Override
     public boolean delete() {
+        clearAttributes();
         try {
             Files.delete(m_path);
             return true;
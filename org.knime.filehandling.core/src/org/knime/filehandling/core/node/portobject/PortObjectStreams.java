@@ -0,0 +1,151 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.node.portobject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.knime.filehandling.core.connections.FSFiles;
+import org.knime.filehandling.core.util.ReadaheadInputStream;
+import org.knime.filehandling.core.util.WriteBehindOutputStream;
+
+/**
+ * Opens pipelined streams for reading and writing port objects.
+ *
+ * <p>
+ * Written data passes through a chain of {@link WriteBehindOutputStream WriteBehindOutputStreams}, i.e. the
+ * serialization, the (optional) compression and the upload to the file system run on separate threads and are
+ * connected by bounded queues. A slow file system therefore throttles the serializer instead of letting the data pile
+ * up in memory. Read data correspondingly passes through a chain of {@link ReadaheadInputStream
+ * ReadaheadInputStreams} so that the download, the decompression and the deserialization overlap.
+ * </p>
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ * @noreference non-public API
+ */
+public final class PortObjectStreams {
+
+    /** The size of the blocks passed between the stages of a pipeline. */
+    static final int BLOCK_SIZE = 1 << 20;
+
+    /** The maximal number of blocks a stage may run ahead of the subsequent one. */
+    static final int MAX_BLOCKS_IN_FLIGHT = 4;
+
+    private static final int GZIP_BUFFER_SIZE = 1 << 16;
+
+    private PortObjectStreams() {
+        // utility class
+    }
+
+    /**
+     * Opens an {@link OutputStream} to the provided path that writes to the file system on a background thread.
+     *
+     * @param path the path to write to
+     * @param compress whether the written data should be gzip compressed (on a separate thread)
+     * @param options the {@link OpenOption OpenOptions} used to open the file
+     * @return the pipelined {@link OutputStream}
+     * @throws IOException if the file can't be opened
+     */
+    @SuppressWarnings("resource") // the streams are closed by the returned stream
+    public static OutputStream newOutputStream(final Path path, final boolean compress, final OpenOption... options)
+        throws IOException {
+        final OutputStream upload =
+            new WriteBehindOutputStream(FSFiles.newOutputStream(path, options), BLOCK_SIZE, MAX_BLOCKS_IN_FLIGHT);
+        if (!compress) {
+            return upload;
+        }
+        try {
+            return new WriteBehindOutputStream(new GZIPOutputStream(upload, GZIP_BUFFER_SIZE), BLOCK_SIZE,
+                MAX_BLOCKS_IN_FLIGHT);
+        } catch (IOException | RuntimeException ex) {
+            upload.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Opens an {@link InputStream} from the provided path that fetches the data of the file system on a background
+     * thread.
+     *
+     * @param path the path to read from
+     * @param decompress whether gzip compressed data should be decompressed (on a separate thread), uncompressed
+     *            data is returned as is
+     * @return the pipelined {@link InputStream}
+     * @throws IOException if the file can't be opened
+     */
+    @SuppressWarnings("resource") // the streams are closed by the returned stream
+    public static InputStream newInputStream(final Path path, final boolean decompress) throws IOException {
+        final InputStream download = new ReadaheadInputStream(FSFiles.newInputStream(path), BLOCK_SIZE);
+        try {
+            if (decompress && isGzipCompressed(download)) {
+                return new ReadaheadInputStream(new GZIPInputStream(download, GZIP_BUFFER_SIZE), BLOCK_SIZE);
+            }
+            return download;
+        } catch (IOException | RuntimeException ex) {
+            download.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Peeks at the first two bytes of the provided stream, which must support marking.
+     */
+    private static boolean isGzipCompressed(final InputStream in) throws IOException {
+        in.mark(2);
+        final var magic = in.read() | (in.read() << 8);
+        in.reset();
+        return magic == GZIPInputStream.GZIP_MAGIC;
+    }
+}
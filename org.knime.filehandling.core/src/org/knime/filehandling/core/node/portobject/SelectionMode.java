@@ -70,7 +70,14 @@ public enum SelectionMode {
         FOLDER(FilterMode.FOLDER),
 
         /** Corresponds to {@link FilterMode#FILE} and {@link FilterMode#FOLDER}. */
-        FILE_AND_FOLDER(FilterMode.FILE, FilterMode.FOLDER);
+        FILE_AND_FOLDER(FilterMode.FILE, FilterMode.FOLDER),
+
+        /**
+         * Corresponds to {@link FilterMode#FILES_IN_FOLDERS}. Only supported by reader nodes.
+         *
+         * @since 5.12
+         */
+        FILES_IN_FOLDERS(FilterMode.FILES_IN_FOLDERS);
 
     private final FilterMode[] m_filters;
 
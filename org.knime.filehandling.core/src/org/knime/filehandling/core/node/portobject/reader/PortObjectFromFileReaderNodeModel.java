@@ -51,7 +51,7 @@
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.context.NodeCreationConfiguration;
 import org.knime.core.node.port.PortObject;
-import org.knime.filehandling.core.connections.FSFiles;
+import org.knime.filehandling.core.node.portobject.PortObjectStreams;
 
 /**
  * Abstract node model for port object reader nodes that read directly from a file.
@@ -76,11 +76,24 @@ protected PortObjectFromFileReaderNodeModel(final NodeCreationConfiguration crea
 
     @Override
     protected final PortObject[] readFromPath(final Path inputPath, final ExecutionContext exec) throws Exception {
-        try (final InputStream inputStream = FSFiles.newInputStream(inputPath)) {
+        try (final InputStream inputStream = PortObjectStreams.newInputStream(inputPath, decompress(inputPath))) {
             return read(inputStream, exec);
         }
     }
 
+    /**
+     * Whether gzip compressed data read from the provided path should be decompressed before it is passed to
+     * {@link #read(InputStream, ExecutionContext)}. The decompression runs on a separate thread and uncompressed data
+     * is passed on as is. The default implementation returns {@code false}.
+     *
+     * @param inputPath the path the object is read from
+     * @return {@code true} if compressed data should be decompressed
+     * @since 5.12
+     */
+    protected boolean decompress(final Path inputPath) {
+        return false;
+    }
+
     /**
      * Reads the object in.
      *
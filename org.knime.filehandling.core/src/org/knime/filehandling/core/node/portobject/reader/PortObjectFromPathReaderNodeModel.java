@@ -48,17 +48,29 @@
 import java.io.IOException;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.context.NodeCreationConfiguration;
 import org.knime.core.node.context.url.URLConfiguration;
 import org.knime.core.node.port.PortObject;
+import org.knime.core.node.util.CheckUtils;
+import org.knime.core.util.ThreadUtils;
 import org.knime.filehandling.core.connections.FSLocationUtil;
 import org.knime.filehandling.core.connections.FSPath;
 import org.knime.filehandling.core.defaultnodesettings.filechooser.reader.ReadPathAccessor;
+import org.knime.filehandling.core.defaultnodesettings.filtermode.SettingsModelFilterMode.FilterMode;
 import org.knime.filehandling.core.node.portobject.PortObjectIONodeModel;
+import org.knime.filehandling.core.node.portobject.SelectionMode;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /**
  * Abstract node model for port object reader nodes that read from a {@link Path}.
@@ -71,6 +83,9 @@
 public abstract class PortObjectFromPathReaderNodeModel<C extends PortObjectReaderNodeConfig>
     extends PortObjectIONodeModel<C> {
 
+    /** Interval in which the cancellation is checked while waiting for concurrent reads. */
+    private static final long CANCEL_CHECK_INTERVAL_MS = 500;
+
     /**
      * Constructor.
      *
@@ -93,8 +108,11 @@ protected PortObjectFromPathReaderNodeModel(final NodeCreationConfiguration crea
     protected final PortObject[] execute(final PortObject[] data, final ExecutionContext exec) throws Exception {
         try (final ReadPathAccessor accessor = getConfig().getFileChooserModel().createReadPathAccessor()) {
             final List<FSPath> paths = accessor.getFSPaths(getNodeModelStatusConsumer());
-            assert paths.size() == 1;
             getNodeModelStatusConsumer().setWarningsIfRequired(this::setWarningMessage);
+            if (getConfig().getFileChooserModel().getFilterMode() == FilterMode.FILES_IN_FOLDERS) {
+                return readFromPaths(paths, exec);
+            }
+            // the accessor either returns the selected file or folder or fails
             return readFromPath(paths.get(0), exec);
         } catch (NoSuchFileException e) {
             throw new IOException(String.format("The file '%s' does not exist.", e.getFile()), e);
@@ -112,4 +130,97 @@ protected final PortObject[] execute(final PortObject[] data, final ExecutionCon
     protected abstract PortObject[] readFromPath(final Path inputPath, final ExecutionContext exec)
             throws Exception; //NOSONAR
 
+    /**
+     * Reads the objects from the files contained in the selected folder, which is the case if the node is configured
+     * with {@link SelectionMode#FILES_IN_FOLDERS}. The list is empty if the folder doesn't contain any matching files.
+     * Implementations typically call {@link #readConcurrently(List, ExecutionContext)} and combine the read objects
+     * into a batch output, e.g. a table. The default implementation reads the single file contained in the folder and
+     * fails if the folder contains no or multiple files.
+     *
+     * @param inputPaths the input paths of the objects, possibly empty
+     * @param exec the execution context
+     * @return the port object(s) combining the objects read from all paths
+     * @throws Exception if any exception occurs
+     * @since 5.12
+     */
+    protected PortObject[] readFromPaths(final List<FSPath> inputPaths, final ExecutionContext exec)
+        throws Exception { //NOSONAR
+        CheckUtils.checkSetting(!inputPaths.isEmpty(), "The selected folder doesn't contain any files.");
+        CheckUtils.checkSetting(inputPaths.size() == 1,
+            "This node reads a single file but %s files have been selected.", inputPaths.size());
+        return readFromPath(inputPaths.get(0), exec);
+    }
+
+    /**
+     * Reads the objects from the provided paths via {@link #readFromPath(Path, ExecutionContext)}. Up to
+     * {@link #getMaxConcurrentReads()} files are read at the same time.
+     *
+     * @param inputPaths the input paths of the objects
+     * @param exec the execution context
+     * @return the port object(s) read from each path, in the order of the provided paths
+     * @throws Exception if reading any of the paths fails
+     * @since 5.12
+     */
+    protected final List<PortObject[]> readConcurrently(final List<? extends Path> inputPaths,
+        final ExecutionContext exec) throws Exception { //NOSONAR
+        final var numPaths = inputPaths.size();
+        final int numThreads = Math.min(getMaxConcurrentReads(), numPaths);
+        if (numThreads <= 1) {
+            final List<PortObject[]> objects = new ArrayList<>(numPaths);
+            for (final Path path : inputPaths) {
+                exec.checkCanceled();
+                objects.add(readFromPath(path, exec.createSubExecutionContext(1.0 / numPaths)));
+            }
+            return objects;
+        }
+        final var executor = Executors.newFixedThreadPool(numThreads,
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("KNIME-PortObjectReader-%d").build());
+        final List<Future<PortObject[]>> reads = new ArrayList<>(numPaths);
+        try {
+            for (final Path path : inputPaths) {
+                // the sub contexts must be created on the calling thread
+                final var subExec = exec.createSubExecutionContext(1.0 / numPaths);
+                reads.add(executor.submit(ThreadUtils.callableWithContext(() -> readFromPath(path, subExec))));
+            }
+            final List<PortObject[]> objects = new ArrayList<>(numPaths);
+            for (final Future<PortObject[]> read : reads) {
+                objects.add(await(read, exec));
+            }
+            return objects;
+        } finally {
+            reads.forEach(r -> r.cancel(true));
+            executor.shutdownNow();
+        }
+    }
+
+    private static PortObject[] await(final Future<PortObject[]> read, final ExecutionContext exec)
+        throws Exception { //NOSONAR
+        while (true) {
+            try {
+                return read.get(CANCEL_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException ex) { // NOSONAR
+                exec.checkCanceled();
+            } catch (ExecutionException ex) {
+                final Throwable cause = ex.getCause();
+                if (cause instanceof Exception exception) {
+                    throw exception;
+                }
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Returns the maximal number of files that are read concurrently by
+     * {@link #readConcurrently(List, ExecutionContext)}. The default implementation returns 1, i.e. the files are read
+     * one after another. Subclasses may only return a larger number if
+     * {@link #readFromPath(Path, ExecutionContext)} is thread-safe.
+     *
+     * @return the maximal number of concurrent reads
+     * @since 5.12
+     */
+    protected int getMaxConcurrentReads() {
+        return 1;
+    }
+
 }
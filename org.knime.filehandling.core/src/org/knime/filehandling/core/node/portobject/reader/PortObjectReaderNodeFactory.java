@@ -45,6 +45,7 @@
  */
 package org.knime.filehandling.core.node.portobject.reader;
 
+import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.port.PortType;
 import org.knime.filehandling.core.node.portobject.PortObjectIONodeFactory;
 
@@ -65,7 +66,18 @@
 
     @Override
     protected final void addAdditionalPorts(final PortsConfigurationBuilder b) {
-        b.addFixedOutputPortGroup(PORT_OBJECT_OUTPUT_GRP_NAME, getOutputPortType());
+        b.addFixedOutputPortGroup(PORT_OBJECT_OUTPUT_GRP_NAME, getFixedOutputPortType());
+    }
+
+    /**
+     * Returns the {@link PortType type} of the fixed output port. By default this is {@link #getOutputPortType()},
+     * readers that combine the objects read from a folder into a table return {@link BufferedDataTable#TYPE} instead.
+     *
+     * @return the type of the fixed output port
+     * @since 5.12
+     */
+    protected PortType getFixedOutputPortType() {
+        return getOutputPortType();
     }
 
     /**
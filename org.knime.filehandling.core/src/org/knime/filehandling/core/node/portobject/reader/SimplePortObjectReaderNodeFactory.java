@@ -48,7 +48,10 @@
  */
 package org.knime.filehandling.core.node.portobject.reader;
 
+import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.context.NodeCreationConfiguration;
+import org.knime.core.node.port.PortType;
+import org.knime.filehandling.core.node.portobject.SelectionMode;
 
 /**
  * Abstract node factory for simple port object reader nodes.
@@ -87,7 +90,24 @@ protected SimplePortObjectReaderNodeFactory(final String fileChooserHistoryId, f
 
     @Override
     protected final SimplePortObjectReaderNodeModel createNodeModel(final NodeCreationConfiguration creationConfig) {
-        return new SimplePortObjectReaderNodeModel(creationConfig, getConfig(creationConfig));
+        return new SimplePortObjectReaderNodeModel(creationConfig, getConfig(creationConfig), getOutputPortType());
+    }
+
+    @Override
+    protected final PortType getFixedOutputPortType() {
+        return readsFolder() ? BufferedDataTable.TYPE : getOutputPortType();
+    }
+
+    /**
+     * Whether the node reads all files contained in a folder instead of a single file. In this case the dialog only
+     * allows to select folders and the node outputs a table holding the path and the object read from each file. The
+     * default implementation returns {@code false}.
+     *
+     * @return {@code true} if the node reads folders
+     * @since 5.12
+     */
+    protected boolean readsFolder() {
+        return false;
     }
 
     /**
@@ -98,6 +118,7 @@ protected final SimplePortObjectReaderNodeModel createNodeModel(final NodeCreati
      */
     private PortObjectReaderNodeConfig getConfig(final NodeCreationConfiguration creationConfig) {
         return PortObjectReaderNodeConfig.builder(creationConfig)//
+            .withSelectionMode(readsFolder() ? SelectionMode.FILES_IN_FOLDERS : SelectionMode.FILE)//
             .withFileSuffixes(m_fileSuffixes)//
             .build();
     }
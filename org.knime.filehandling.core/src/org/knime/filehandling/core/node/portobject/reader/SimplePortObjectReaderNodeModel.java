@@ -49,40 +49,94 @@
 package org.knime.filehandling.core.node.portobject.reader;
 
 import java.io.InputStream;
+import java.util.List;
 
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.model.PortObjectCell;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.context.NodeCreationConfiguration;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortType;
 import org.knime.core.node.port.PortUtil;
 import org.knime.core.node.util.CheckUtils;
+import org.knime.filehandling.core.connections.FSLocationSpec;
+import org.knime.filehandling.core.connections.FSPath;
+import org.knime.filehandling.core.data.location.FSLocationValueMetaData;
+import org.knime.filehandling.core.data.location.cell.MultiSimpleFSLocationCellFactory;
+import org.knime.filehandling.core.data.location.cell.SimpleFSLocationCellFactory;
 
 /**
  * Port object reader utilizing {@link PortUtil#readObjectFromFile(java.io.File, org.knime.core.node.ExecutionMonitor)}.
+ * If a folder is selected, the objects read from the contained files are output as a table.
  *
  * @author Mark Ortmann, KNIME GmbH, Berlin, Germany
  */
 final class SimplePortObjectReaderNodeModel extends PortObjectFromFileReaderNodeModel<PortObjectReaderNodeConfig> {
 
+    private static final String PATH_COLUMN = "Path";
+
+    private static final String PORT_OBJECT_COLUMN = "Port Object";
+
+    /** The maximal number of files read at the same time in folder mode. */
+    private static final int MAX_CONCURRENT_READS = 4;
+
+    /** The type of the objects read from the files. */
+    private final PortType m_objectType;
+
     /**
      * Constructor.
      *
      * @param creationConfig the node creation configuration
      * @param config the config
+     * @param objectType the type of the objects read from the files
      */
     SimplePortObjectReaderNodeModel(final NodeCreationConfiguration creationConfig,
-        final PortObjectReaderNodeConfig config) {
+        final PortObjectReaderNodeConfig config, final PortType objectType) {
         super(creationConfig, config);
+        m_objectType = objectType;
     }
 
     @Override
     protected PortObject[] read(final InputStream inputStream, final ExecutionContext exec) throws Exception {
         PortObject portObject = PortUtil.readObjectFromStreamViaContext(inputStream, exec);
-        // save since we only have a single output port, i.e., the port object we read
-        final PortType modelPortType = getPortsConfig().getOutputPorts()[0];
-        CheckUtils.checkArgument(modelPortType.getPortObjectClass().isInstance(portObject),
-            "The file provided does not contain a valid %s.", modelPortType.getName());
+        CheckUtils.checkArgument(m_objectType.getPortObjectClass().isInstance(portObject),
+            "The file provided does not contain a valid %s.", m_objectType.getName());
         return new PortObject[]{portObject};
     }
 
+    @Override
+    protected PortObject[] readFromPaths(final List<FSPath> inputPaths, final ExecutionContext exec)
+        throws Exception {
+        if (inputPaths.isEmpty()) {
+            setWarningMessage("The selected folder doesn't contain any files.");
+        }
+        final List<PortObject[]> objects = readConcurrently(inputPaths, exec);
+        final var container = exec.createDataContainer(createBatchSpec());
+        final var cellFactory = new MultiSimpleFSLocationCellFactory();
+        for (var i = 0; i < objects.size(); i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i),
+                cellFactory.createCell(inputPaths.get(i).toFSLocation()), new PortObjectCell(objects.get(i)[0])));
+        }
+        container.close();
+        return new PortObject[]{container.getTable()};
+    }
+
+    @Override
+    protected int getMaxConcurrentReads() {
+        // each read only operates on its own stream and execution context
+        return MAX_CONCURRENT_READS;
+    }
+
+    private DataTableSpec createBatchSpec() {
+        final FSLocationSpec location = getConfig().getFileChooserModel().getLocation();
+        final var pathSpec = new DataColumnSpecCreator(PATH_COLUMN, SimpleFSLocationCellFactory.TYPE);
+        pathSpec.addMetaData(new FSLocationValueMetaData(location.getFileSystemCategory(),
+            location.getFileSystemSpecifier().orElse(null)), true);
+        final var objectSpec = new DataColumnSpecCreator(PORT_OBJECT_COLUMN, PortObjectCell.TYPE);
+        return new DataTableSpec(pathSpec.createSpec(), objectSpec.createSpec());
+    }
+
 }
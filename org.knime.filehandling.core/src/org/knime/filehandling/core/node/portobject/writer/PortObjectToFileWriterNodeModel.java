@@ -51,7 +51,7 @@
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.context.NodeCreationConfiguration;
 import org.knime.core.node.port.PortObject;
-import org.knime.filehandling.core.connections.FSFiles;
+import org.knime.filehandling.core.node.portobject.PortObjectStreams;
 
 /**
  * Abstract node model for port object writer nodes that write directly to a file.
@@ -77,12 +77,25 @@ protected PortObjectToFileWriterNodeModel(final NodeCreationConfiguration creati
     @Override
     protected final void writeToPath(final PortObject object, final Path outputPath, final ExecutionContext exec)
         throws Exception {
-        try (final OutputStream outputStream = FSFiles.newOutputStream(outputPath,
+        try (final OutputStream outputStream = PortObjectStreams.newOutputStream(outputPath, compress(outputPath),
             getConfig().getFileChooserModel().getFileOverwritePolicy().getOpenOptions())) {
             write(object, outputStream, exec);
         }
     }
 
+    /**
+     * Whether the data passed to {@link #write(PortObject, OutputStream, ExecutionContext)} should be gzip compressed
+     * before it is written to the provided path. The compression runs on a separate thread. The default
+     * implementation returns {@code false}.
+     *
+     * @param outputPath the path the object is written to
+     * @return {@code true} if the written data should be compressed
+     * @since 5.12
+     */
+    protected boolean compress(final Path outputPath) {
+        return false;
+    }
+
     /**
      * Writes the object out.
      *
@@ -54,14 +54,17 @@
 import org.knime.core.data.DataRow;
 import org.knime.core.data.RowKey;
 import org.knime.core.data.append.AppendedColumnRow;
+import org.knime.core.data.v2.RowWriteCursor;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.streamable.RowOutput;
 import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessible;
 import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessibleDecorator;
 import org.knime.filehandling.core.node.table.reader.read.Read;
 import org.knime.filehandling.core.node.table.reader.rowkey.RowKeyGenerator;
+import org.knime.filehandling.core.node.table.reader.type.mapping.RowWriteUtils;
 import org.knime.filehandling.core.node.table.reader.type.mapping.TypeMapper;
 import org.knime.filehandling.core.node.table.reader.util.IndividualTableReader;
+import org.knime.filehandling.core.util.CheckedExceptionConsumer;
 
 /**
  * Generic default implementation of {@link IndividualTableReader}.
@@ -116,16 +119,36 @@ public DataRow toRow(final RandomAccessible<V> randomAccessible) throws Exceptio
     @Override
     public void fillOutput(final Read<V> read, final RowOutput output, final ExecutionMonitor progress)
         throws Exception {
+        fillOutput(read, next -> output.push(toRow(next)), progress);
+    }
+
+    @Override
+    public void fillOutput(final Read<V> read, final RowWriteCursor output, final ExecutionMonitor progress)
+        throws Exception {
+        fillOutput(read, next -> {
+            final var rowWrite = output.forward();
+            m_mapper.set(next);
+            // writes the values of m_mapper directly into the row without creating a DataRow
+            m_typeMapper.map(m_rowKeyGenerator.createKey(next), m_mapper, rowWrite);
+            if (m_identifierCell != null) {
+                RowWriteUtils.writeCell(m_identifierCell, rowWrite, rowWrite.getNumColumns() - 1);
+            }
+        }, progress);
+    }
+
+    private void fillOutput(final Read<V> read, final CheckedExceptionConsumer<RandomAccessible<V>, Exception> sink,
+        final ExecutionMonitor progress) throws Exception {
         final OptionalLong maxProgress = read.getMaxProgress();
         if (maxProgress.isPresent()) {
-            fillOutputWithProgress(read, output, progress, maxProgress.getAsLong());
+            fillOutputWithProgress(read, sink, progress, maxProgress.getAsLong());
         } else {
-            fillOutputWithoutProgress(read, output, progress);
+            fillOutputWithoutProgress(read, sink, progress);
         }
     }
 
-    private void fillOutputWithoutProgress(final Read<V> read, final RowOutput output,
-        final ExecutionMonitor progress) throws Exception {
+    private static <V> void fillOutputWithoutProgress(final Read<V> read,
+        final CheckedExceptionConsumer<RandomAccessible<V>, Exception> sink, final ExecutionMonitor progress)
+        throws Exception {
         RandomAccessible<V> next;
         for (long i = 1; (next = read.next()) != null; i++) {
             progress.checkCanceled();
@@ -133,12 +156,13 @@ private void fillOutputWithoutProgress(final Read<V> read, final RowOutput outpu
                 final long finalI = i;
                 progress.setMessage(() -> String.format("Reading row %s", finalI));
             }
-            output.push(toRow(next));
+            sink.accept(next);
         }
     }
 
-    private void fillOutputWithProgress(final Read<V> read, final RowOutput output,
-        final ExecutionMonitor progress, final double size) throws Exception {
+    private static <V> void fillOutputWithProgress(final Read<V> read,
+        final CheckedExceptionConsumer<RandomAccessible<V>, Exception> sink, final ExecutionMonitor progress,
+        final double size) throws Exception {
         RandomAccessible<V> next;
         for (long i = 1; (next = read.next()) != null; i++) {
             progress.checkCanceled();
@@ -146,7 +170,7 @@ private void fillOutputWithProgress(final Read<V> read, final RowOutput output,
                 final long finalI = i;
                 progress.setProgress(read.getProgress() / size, () -> String.format("Reading row %s", finalI));
             }
-            output.push(toRow(next));
+            sink.accept(next);
         }
     }
 
@@ -55,6 +55,10 @@
 
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.filestore.FileStoreFactory;
+import org.knime.core.data.v2.RowContainer;
+import org.knime.core.data.v2.RowWriteCursor;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.streamable.RowOutput;
 import org.knime.filehandling.core.node.table.reader.config.TableReadConfig;
@@ -152,10 +156,25 @@ public TableSpecConfig<T> getTableSpecConfig() {
         return m_tableSpecConfig;
     }
 
-    @SuppressWarnings("resource")
     @Override
     public void fillRowOutput(final RowOutput output, final ExecutionMonitor exec, final FileStoreFactory fsFactory)
         throws Exception {
+        fillOutput(output::close, (reader, read, progress) -> reader.fillOutput(read, output, progress), exec,
+            fsFactory);
+    }
+
+    @Override
+    public BufferedDataTable readTypedTable(final ExecutionContext exec) throws Exception {
+        final var fsFactory = FileStoreFactory.createFileStoreFactory(exec);
+        final var output = new RowContainerOutput(exec.createRowContainer(m_outputSpec));
+        fillOutput(output::close, (reader, read, progress) -> reader.fillOutput(read, output.m_cursor, progress),
+            exec, fsFactory);
+        return output.m_table;
+    }
+
+    @SuppressWarnings("resource")
+    private void fillOutput(final Output output, final OutputFiller<V> filler, final ExecutionMonitor exec,
+        final FileStoreFactory fsFactory) throws Exception {
         final BiFunction<I, FileStoreFactory, ? extends IndividualTableReader<V>> individualTableReaderFactory =
             m_individualTableReaderFactorySupplier.get();
         /* Workaround for unclear resource lifetime of resources referenced in data rows (AP-18002).
@@ -197,7 +216,7 @@ public void fillRowOutput(final RowOutput output, final ExecutionMonitor exec, f
                     openReads.add(read);
                 }
                 try {
-                    reader.fillOutput(read, output, progress);
+                    filler.fill(reader, read, progress);
                 } catch (TypeMapperException e) {
                     throw m_typeMapperExceptionParser.parse(e, item.toString());
                 } finally {
@@ -211,6 +230,49 @@ public void fillRowOutput(final RowOutput output, final ExecutionMonitor exec, f
         }
     }
 
+    /**
+     * The output the rows are written to. Closing it must complete all writes to the output.
+     */
+    @FunctionalInterface
+    private interface Output {
+        void close() throws InterruptedException, IOException;
+    }
+
+    /**
+     * Fills the output with the rows of a single {@link Read}.
+     */
+    @FunctionalInterface
+    private interface OutputFiller<V> {
+        void fill(IndividualTableReader<V> reader, Read<V> read, ExecutionMonitor progress) throws Exception; // NOSONAR
+    }
+
+    /**
+     * Writes into a {@link RowContainer} and finishes the table once it is closed.
+     */
+    private static final class RowContainerOutput {
+
+        private final RowContainer m_container;
+
+        private final RowWriteCursor m_cursor;
+
+        private BufferedDataTable m_table;
+
+        RowContainerOutput(final RowContainer container) {
+            m_container = container;
+            m_cursor = container.createCursor();
+        }
+
+        void close() throws IOException {
+            m_cursor.close();
+            try {
+                m_table = m_container.finish();
+            } catch (IOException | RuntimeException ex) {
+                m_container.close();
+                throw ex;
+            }
+        }
+    }
+
     /**
      * Part of the workaround for AP-18002 (TableRead resources do not live long enough for output).
      *
@@ -219,9 +281,9 @@ public void fillRowOutput(final RowOutput output, final ExecutionMonitor exec, f
     private static final class MultiReadsCloser<V extends AutoCloseable> implements AutoCloseable {
 
         private final ArrayDeque<V> m_openReads = new ArrayDeque<>();
-        private RowOutput m_output;
+        private Output m_output;
 
-        private MultiReadsCloser(final RowOutput output) {
+        private MultiReadsCloser(final Output output) {
             m_output = output;
         }
 
@@ -230,7 +292,7 @@ public void close() throws Exception {
             final var ex = new Exception();
             try {
                 m_output.close();
-            } catch (InterruptedException e) { // NOSONAR `e` is added to `ex` which is later thrown
+            } catch (InterruptedException | IOException e) { // NOSONAR `e` is added to `ex` which is later thrown
                 ex.addSuppressed(e);
             } finally {
                 while (!m_openReads.isEmpty()) {
@@ -138,6 +138,20 @@ public StagedMultiTableRead<I, T> create(final SourceGroup<I> sourceGroup, final
         return create(specs, config, itemIdColumn);
     }
 
+    @Override
+    public StagedMultiTableRead<I, T> restage(final StagedMultiTableRead<I, T> previousRead,
+        final SourceGroup<I> sourceGroup, final MultiTableReadConfig<C, T> config, final ExecutionMonitor exec)
+        throws IOException {
+        if (previousRead instanceof DefaultStagedMultiTableRead<I, ?, T, ?> previous
+            && previous.isValidFor(sourceGroup)) {
+            // the individual specs only depend on the items and the ConfigID, hence only the cheap parts are redone
+            final DataColumnSpec itemIdColumn = createItemIdentifierColumn(sourceGroup, config);
+            return create(previous.getIndividualSpecs(), config, itemIdColumn);
+        } else {
+            return create(sourceGroup, config, exec);
+        }
+    }
+
     private Map<I, TypedReaderTableSpec<T>> readIndividualSpecs(final SourceGroup<I> sourceGroup,
         final MultiTableReadConfig<C, T> config, final ExecutionMonitor exec) throws IOException {
         final Map<I, TypedReaderTableSpec<T>> specs = new LinkedHashMap<>(sourceGroup.size());
@@ -68,6 +68,8 @@
 
     private final String m_id;
 
+    private final long m_fingerprint;
+
     /**
      * Constructor.
      *
@@ -77,6 +79,7 @@
     public DefaultSourceGroup(final String id, final Collection<I> items) {
         m_items = new ArrayList<>(items);
         m_id = id;
+        m_fingerprint = SourceGroup.computeFingerprint(m_items);
     }
 
     @Override
@@ -99,4 +102,9 @@ public int size() {
         return m_items.size();
     }
 
+    @Override
+    public long getFingerprint() {
+        return m_fingerprint;
+    }
+
 }
\ No newline at end of file
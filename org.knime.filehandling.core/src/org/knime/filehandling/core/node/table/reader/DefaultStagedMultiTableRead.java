@@ -116,6 +116,8 @@
 
     private final Map<I, TypedReaderTableSpec<T>> m_individualSpecs;
 
+    private final long m_sourceGroupFingerprint;
+
     private final RawSpec<T> m_rawSpec;
 
     private final GenericRowKeyGeneratorContextFactory<I, V> m_rowKeyGenFactory;
@@ -149,6 +151,7 @@
         final DataColumnSpec itemIdentifierColumn) {
         m_rawSpec = rawSpec;
         m_individualSpecs = individualSpecs;
+        m_sourceGroupFingerprint = SourceGroup.computeFingerprint(individualSpecs.keySet());
         m_rowKeyGenFactory = rowKeyGenFactory;
         m_config = config;
         m_tableTransformationFactory = tableTransformationFactory;
@@ -250,9 +253,19 @@ public RawSpec<T> getRawSpec() {
         return m_rawSpec;
     }
 
+    /**
+     * @return the individual specs of the items this read was created for
+     */
+    Map<I, TypedReaderTableSpec<T>> getIndividualSpecs() {
+        return m_individualSpecs;
+    }
+
     @Override
     public boolean isValidFor(final SourceGroup<I> sourceGroup) {
-        return sourceGroup.size() == m_individualSpecs.size() && containsAll(m_individualSpecs.keySet(), sourceGroup);
+        // the fingerprint check is constant-time, the full check is only needed if the fingerprints match
+        return sourceGroup.size() == m_individualSpecs.size()
+            && sourceGroup.getFingerprint() == m_sourceGroupFingerprint
+            && containsAll(m_individualSpecs.keySet(), sourceGroup);
     }
 
     private static <I> boolean containsAll(final Set<I> keys, final SourceGroup<I> sourceGroup) {
@@ -55,6 +55,7 @@
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.filehandling.core.node.table.reader.config.MultiTableReadConfig;
 import org.knime.filehandling.core.node.table.reader.config.ReaderSpecificConfig;
+import org.knime.filehandling.core.node.table.reader.config.tablespec.ConfigID;
 import org.knime.filehandling.core.node.table.reader.config.tablespec.TableSpecConfig;
 import org.knime.filehandling.core.node.table.reader.selector.TableTransformation;
 import org.knime.filehandling.core.node.table.reader.spec.TypedReaderTableSpec;
@@ -127,4 +128,26 @@ default StagedMultiTableRead<I, T> createFromConfig(final SourceGroup<I> sourceG
             throw new UncheckedIOException(ex);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates a {@link StagedMultiTableRead} for the provided {@link MultiTableReadConfig config} that reuses the
+     * individual table specs of a {@link StagedMultiTableRead} previously created for the same {@link SourceGroup}.
+     * The caller must ensure that {@link MultiTableReadConfig config} has the same {@link ConfigID} as the config the
+     * previous read was created with, i.e. only settings that don't affect the individual specs may have changed.</br>
+     * The default implementation always recalculates the specs via
+     * {@link #create(SourceGroup, MultiTableReadConfig, ExecutionMonitor)}.
+     *
+     * @param previousRead the {@link StagedMultiTableRead} previously created for sourceGroup
+     * @param sourceGroup the {@link SourceGroup} to read from
+     * @param config contains the user configuration
+     * @param exec used to monitor the spec creation in case the specs have to be recalculated
+     * @return a {@link StagedMultiTableRead} for the provided parameters
+     * @throws IOException if an {@link IOException} occurs while recalculating the table spec
+     * @since 5.12
+     */
+    default StagedMultiTableRead<I, T> restage(final StagedMultiTableRead<I, T> previousRead,
+        final SourceGroup<I> sourceGroup, final MultiTableReadConfig<C, T> config, final ExecutionMonitor exec)
+        throws IOException {
+        return create(sourceGroup, config, exec);
+    }
+}
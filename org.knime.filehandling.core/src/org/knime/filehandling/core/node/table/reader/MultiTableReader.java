@@ -80,6 +80,15 @@
  */
 public final class MultiTableReader<I, C extends ReaderSpecificConfig<C>, T> {
 
+    /**
+     * System property that allows to disable writing the read values directly into the typed columns of the table
+     * backend.
+     */
+    private static final String TYPED_OUTPUT_PROPERTY = "knime.filehandling.tablereader.typedoutput";
+
+    private static final boolean TYPED_OUTPUT =
+        Boolean.parseBoolean(System.getProperty(TYPED_OUTPUT_PROPERTY, "true"));
+
     private final MultiTableReadFactory<I, C, T> m_multiTableReadFactory;
 
     private StagedMultiTableRead<I, T> m_currentMultiRead;
@@ -175,6 +184,10 @@ public BufferedDataTable readTable(final SourceGroup<I> sourceGroup,
             .withCheckDuplicateRowKeys(checkForDuplicateRowKeys) // check for duplicate row keys if the keys are pulled
                                                                  // from the data rather than generated.
             .build();
+        if (!checkForDuplicateRowKeys && TYPED_OUTPUT) {
+            // generated keys are unique, hence the rows can be written without the duplicate check of the container
+            return multiTableRead.readTypedTable(tableReadingExec);
+        }
         return multiTableRead.readTable(tableReadingExec, containerSettings);
     }
 
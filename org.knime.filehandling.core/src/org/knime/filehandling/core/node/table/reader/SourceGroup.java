@@ -76,4 +76,48 @@
      */
     int size();
 
+    /**
+     * Returns an order-sensitive fingerprint of the source items that is based on their string representation. Two
+     * source groups with different fingerprints differ in their items, while equal fingerprints still require a full
+     * comparison to rule out collisions.<br>
+     * Implementations should precompute the fingerprint because it is queried by validity checks that are performed
+     * on every configure and execute.
+     *
+     * @return the fingerprint of the source items
+     * @see #computeFingerprint(Iterable)
+     * @since 5.12
+     */
+    default long getFingerprint() {
+        return computeFingerprint(this);
+    }
+
+    /**
+     * Computes the order-sensitive fingerprint of the provided items as used by {@link #getFingerprint()}. The
+     * fingerprint only depends on the string representation of the items, hence a source group and its counterpart
+     * with items of type String have the same fingerprint.
+     *
+     * @param items to compute the fingerprint for
+     * @return the fingerprint of the items
+     * @since 5.12
+     */
+    static long computeFingerprint(final Iterable<?> items) {
+        long fingerprint = 1;
+        for (Object item : items) {
+            fingerprint = 31 * fingerprint + hash(item.toString());
+        }
+        return fingerprint;
+    }
+
+    /**
+     * 64 bit FNV-1a hash of the characters of the provided string.
+     */
+    private static long hash(final String item) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < item.length(); i++) {
+            hash ^= item.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
 }
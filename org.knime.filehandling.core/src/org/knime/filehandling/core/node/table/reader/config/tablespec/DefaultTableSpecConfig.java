@@ -88,6 +88,8 @@
 
     private final Map<String, TypedReaderTableSpec<T>> m_individualSpecs;
 
+    private final long m_sourceGroupFingerprint;
+
     private final TableTransformation<T> m_tableTransformation;
 
     private final DataColumnSpec m_itemIdentifierColumnSpec;
@@ -95,6 +97,13 @@
     <I> DefaultTableSpecConfig(final String sourceGroupID, final ConfigID configID,
         final Map<I, TypedReaderTableSpec<T>> individualSpecs, final TableTransformation<T> tableTransformation,
         final DataColumnSpec itemIdentifierColumnSpec) {
+        this(sourceGroupID, configID, individualSpecs, tableTransformation, itemIdentifierColumnSpec,
+            SourceGroup.computeFingerprint(individualSpecs.keySet()));
+    }
+
+    <I> DefaultTableSpecConfig(final String sourceGroupID, final ConfigID configID,
+        final Map<I, TypedReaderTableSpec<T>> individualSpecs, final TableTransformation<T> tableTransformation,
+        final DataColumnSpec itemIdentifierColumnSpec, final long sourceGroupFingerprint) {
         m_sourceGroupID = sourceGroupID;
         m_configID = configID;
         m_individualSpecs = individualSpecs.entrySet().stream()//
@@ -105,6 +114,7 @@ <I> DefaultTableSpecConfig(final String sourceGroupID, final ConfigID configID,
                 , LinkedHashMap::new));
         m_tableTransformation = ImmutableTableTransformation.copy(tableTransformation);
         m_itemIdentifierColumnSpec = itemIdentifierColumnSpec;
+        m_sourceGroupFingerprint = sourceGroupFingerprint;
     }
 
     DefaultTableSpecConfig(final String sourceGroupID, final ConfigID configID, final String[] items,
@@ -115,6 +125,7 @@ <I> DefaultTableSpecConfig(final String sourceGroupID, final ConfigID configID,
         m_individualSpecs = createIndividualSpecsMap(items, individualSpecs);
         m_tableTransformation = tableTransformation;
         m_itemIdentifierColumnSpec = itemIdentifierColumnSpec;
+        m_sourceGroupFingerprint = SourceGroup.computeFingerprint(m_individualSpecs.keySet());
     }
 
     private static <T> LinkedHashMap<String, TypedReaderTableSpec<T>> createIndividualSpecsMap(final String[] items,
@@ -172,8 +183,10 @@ public boolean isConfiguredWith(final ConfigID configID, final String sourceGrou
 
     @Override
     public boolean isConfiguredWith(final ConfigID id, final SourceGroup<String> sourceGroup) {
+        // the fingerprint check is constant-time, the full check is only needed if the fingerprints match
         return isConfiguredWith(id, sourceGroup.getID()) //
             && m_individualSpecs.size() == sourceGroup.size() //
+            && m_sourceGroupFingerprint == sourceGroup.getFingerprint() //
             && sourceGroup.stream()//
                 .allMatch(m_individualSpecs::containsKey);
     }
@@ -194,6 +207,11 @@ public List<String> getItems() {
         return Collections.unmodifiableList(new ArrayList<>(m_individualSpecs.keySet()));
     }
 
+    @Override
+    public long getSourceGroupFingerprint() {
+        return m_sourceGroupFingerprint;
+    }
+
     @Override
     public TypedReaderTableSpec<T> getSpec(final String item) {
         return m_individualSpecs.get(item);
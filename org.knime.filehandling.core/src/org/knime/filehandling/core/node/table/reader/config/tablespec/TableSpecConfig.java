@@ -115,6 +115,17 @@
      */
     List<String> getItems();
 
+    /**
+     * Returns the {@link SourceGroup#getFingerprint() fingerprint} of the source group this config has been created
+     * with, i.e. of its {@link #getItems() items}.
+     *
+     * @return the fingerprint of the source group
+     * @since 5.12
+     */
+    default long getSourceGroupFingerprint() {
+        return SourceGroup.computeFingerprint(getItems());
+    }
+
     /**
      * Returns the ID of the source group.
      *
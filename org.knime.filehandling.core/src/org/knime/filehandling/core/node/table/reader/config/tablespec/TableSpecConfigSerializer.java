@@ -80,9 +80,11 @@ static <T> TableSpecConfigSerializer<T> createStartingV44(final ProductionPathSe
         final ConfigIDLoader configIDLoader, final NodeSettingsSerializer<T> typeSerializer) {
         final EnumMap<TableSpecConfigSerializerVersion, TableSpecConfigSerializer<T>> serializers =
             new EnumMap<>(TableSpecConfigSerializerVersion.class);
+        serializers.put(TableSpecConfigSerializerVersion.V5_12,
+            new V512TableSpecConfigSerializer<>(productionPathSerializer, configIDLoader, typeSerializer));
         serializers.put(TableSpecConfigSerializerVersion.V4_4,
             new V44TableSpecConfigSerializer<>(productionPathSerializer, configIDLoader, typeSerializer));
-        return new VersionedTableSpecConfigSerializer<>(serializers, TableSpecConfigSerializerVersion.V4_4);
+        return new VersionedTableSpecConfigSerializer<>(serializers, TableSpecConfigSerializerVersion.V5_12);
     }
 
     /**
@@ -98,11 +100,13 @@ static <T> TableSpecConfigSerializer<T> createStartingV43(final ProductionPathSe
         final ConfigIDLoader configIDLoader, final NodeSettingsSerializer<T> typeSerializer) {
         final EnumMap<TableSpecConfigSerializerVersion, TableSpecConfigSerializer<T>> serializers =
             new EnumMap<>(TableSpecConfigSerializerVersion.class);
+        serializers.put(TableSpecConfigSerializerVersion.V5_12,
+            new V512TableSpecConfigSerializer<>(productionPathSerializer, configIDLoader, typeSerializer));
         serializers.put(TableSpecConfigSerializerVersion.V4_4,
             new V44TableSpecConfigSerializer<>(productionPathSerializer, configIDLoader, typeSerializer));
         serializers.put(TableSpecConfigSerializerVersion.V4_3,
             new V43TableSpecConfigSerializer<>(productionPathSerializer));
-        return new VersionedTableSpecConfigSerializer<>(serializers, TableSpecConfigSerializerVersion.V4_4);
+        return new VersionedTableSpecConfigSerializer<>(serializers, TableSpecConfigSerializerVersion.V5_12);
     }
 
     /**
@@ -120,13 +124,15 @@ static <T> TableSpecConfigSerializer<T> createStartingV42(final ProducerRegistry
         final ProductionPathSerializer productionPathSerializer = new DefaultProductionPathSerializer(producerRegistry);
         final EnumMap<TableSpecConfigSerializerVersion, TableSpecConfigSerializer<T>> serializers =
             new EnumMap<>(TableSpecConfigSerializerVersion.class);
+        serializers.put(TableSpecConfigSerializerVersion.V5_12,
+            new V512TableSpecConfigSerializer<>(productionPathSerializer, configIDLoader, typeSerializer));
         serializers.put(TableSpecConfigSerializerVersion.V4_4,
             new V44TableSpecConfigSerializer<>(productionPathSerializer, configIDLoader, typeSerializer));
         serializers.put(TableSpecConfigSerializerVersion.V4_3,
             new V43TableSpecConfigSerializer<>(productionPathSerializer));
         serializers.put(TableSpecConfigSerializerVersion.V4_2,
             new V42TableSpecConfigSerializer<>(producerRegistry, mostGenericType));
-        return new VersionedTableSpecConfigSerializer<>(serializers, TableSpecConfigSerializerVersion.V4_4);
+        return new VersionedTableSpecConfigSerializer<>(serializers, TableSpecConfigSerializerVersion.V5_12);
     }
 
     /**
@@ -148,6 +154,11 @@ TableSpecConfig<T> load(final NodeSettingsRO settings, final AdditionalParameter
      * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
      */
     enum TableSpecConfigSerializerVersion {
+            /**
+             * Version 5.12.0. Stores each distinct individual spec only once together with a compact index that maps
+             * the items to their spec.
+             */
+            V5_12,
             /**
              * Version 4.4.0. This is the version where this enum was first introduced. This version also introduced the
              * skipEmptyColumns option and separated storing of the ProductionPaths from storing the individual specs.
@@ -0,0 +1,220 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.node.table.reader.config.tablespec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.util.CheckUtils;
+import org.knime.filehandling.core.node.table.reader.selector.TableTransformation;
+import org.knime.filehandling.core.node.table.reader.spec.TypedReaderTableSpec;
+
+/**
+ * Serializer for {@link TableSpecConfig TableSpecConfigs} in KNIME Analytics Platform 5.12.0+.</br>
+ * In contrast to the {@link V44TableSpecConfigSerializer}, each distinct individual spec (schema) is stored only once.
+ * The items and the id of their schema are stored as a single compressed entry, so that the size of the settings
+ * scales with the number of distinct schemas rather than with the number of items.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+final class V512TableSpecConfigSerializer<T> implements TableSpecConfigSerializer<T> {
+
+    private static final String CFG_ITEM_IDENTIFIER_COLUMN = "item_identifier_column";
+
+    private static final String CFG_SCHEMAS = "schemas";
+
+    private static final String CFG_ITEM_INDEX = "item_index";
+
+    private static final String CFG_TABLE_TRANSFORMATION = "table_transformation";
+
+    private static final String CFG_SOURCE_GROUP_ID = "source_group_id";
+
+    private static final String CFG_SOURCE_GROUP_FINGERPRINT = "source_group_fingerprint";
+
+    private final TypedReaderTableSpecSerializer<T> m_tableSpecSerializer;
+
+    private final TableTransformationSerializer<T> m_tableTransformationSerializer;
+
+    private final ConfigIDSerializer m_configIDSerializer;
+
+    V512TableSpecConfigSerializer(final ProductionPathSerializer productionPathSerializer,
+        final ConfigIDLoader configIDLoader, final NodeSettingsSerializer<T> typeSerializer) {
+        m_configIDSerializer = new ConfigIDSerializer(configIDLoader);
+        final TypedReaderColumnSpecSerializer<T> columnSpecSerializer =
+            new TypedReaderColumnSpecSerializer<>(typeSerializer);
+        m_tableSpecSerializer = new TypedReaderTableSpecSerializer<>(columnSpecSerializer);
+        m_tableTransformationSerializer = new TableTransformationSerializer<>(
+            new ColumnTransformationSerializer<T>(columnSpecSerializer, productionPathSerializer));
+    }
+
+    @Override
+    public void save(final TableSpecConfig<T> config, final NodeSettingsWO settings) {
+        saveIndividualSpecs(config, settings);
+        m_tableTransformationSerializer.save(config.getTableTransformation(),
+            settings.addNodeSettings(CFG_TABLE_TRANSFORMATION));
+        settings.addString(CFG_SOURCE_GROUP_ID, config.getSourceGroupID());
+        settings.addLong(CFG_SOURCE_GROUP_FINGERPRINT, config.getSourceGroupFingerprint());
+        ConfigIDSerializer.saveID(config.getConfigID(), settings);
+        saveItemIdentifierColumn(config, settings);
+    }
+
+    private static void saveItemIdentifierColumn(final TableSpecConfig<?> config, final NodeSettingsWO settings) {
+        config.getItemIdentifierColumn().ifPresent(i -> i.save(settings.addNodeSettings(CFG_ITEM_IDENTIFIER_COLUMN)));
+    }
+
+    private void saveIndividualSpecs(final TableSpecConfig<T> config, final NodeSettingsWO settings) {
+        final List<String> items = config.getItems();
+        final Map<TypedReaderTableSpec<T>, Integer> schemaIds = new HashMap<>();
+        final NodeSettingsWO schemaSettings = settings.addNodeSettings(CFG_SCHEMAS);
+        final int[] itemSchemaIds = new int[items.size()];
+        for (int i = 0; i < itemSchemaIds.length; i++) {
+            final TypedReaderTableSpec<T> spec = config.getSpec(items.get(i));
+            final int schemaId = schemaIds.computeIfAbsent(spec, s -> {
+                final int id = schemaIds.size();
+                m_tableSpecSerializer.save(s, schemaSettings.addNodeSettings(Integer.toString(id)));
+                return id;
+            });
+            itemSchemaIds[i] = schemaId;
+        }
+        settings.addString(CFG_ITEM_INDEX, encodeItemIndex(items, itemSchemaIds));
+    }
+
+    private static String encodeItemIndex(final List<String> items, final int[] schemaIds) {
+        final var bytes = new ByteArrayOutputStream();
+        try (final var out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeInt(items.size());
+            for (int i = 0; i < schemaIds.length; i++) {
+                final byte[] item = items.get(i).getBytes(StandardCharsets.UTF_8);
+                out.writeInt(item.length);
+                out.write(item);
+                out.writeInt(schemaIds[i]);
+            }
+        } catch (IOException ex) {
+            // can't happen because we write to memory
+            throw new UncheckedIOException(ex);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    @Override
+    public TableSpecConfig<T> load(final NodeSettingsRO settings, final AdditionalParameters additionalParameters)
+        throws InvalidSettingsException {
+        return load(settings);
+    }
+
+    @Override
+    public TableSpecConfig<T> load(final NodeSettingsRO settings) throws InvalidSettingsException {
+        final TableTransformation<T> tableTransformation =
+            m_tableTransformationSerializer.load(settings.getNodeSettings(CFG_TABLE_TRANSFORMATION));
+        final LinkedHashMap<String, TypedReaderTableSpec<T>> individualSpecs = loadIndividualSpecs(settings);
+        final String sourceGroupID = settings.getString(CFG_SOURCE_GROUP_ID);
+        final long sourceGroupFingerprint = settings.getLong(CFG_SOURCE_GROUP_FINGERPRINT);
+        final ConfigID configID = m_configIDSerializer.loadID(settings);
+        final DataColumnSpec itemIdentifierColumn = loadIdentifierColumn(settings);
+        return new DefaultTableSpecConfig<>(sourceGroupID, configID, individualSpecs, tableTransformation,
+            itemIdentifierColumn, sourceGroupFingerprint);
+    }
+
+    private static DataColumnSpec loadIdentifierColumn(final NodeSettingsRO settings) throws InvalidSettingsException {
+        if (settings.containsKey(CFG_ITEM_IDENTIFIER_COLUMN)) {
+            return DataColumnSpec.load(settings.getNodeSettings(CFG_ITEM_IDENTIFIER_COLUMN));
+        } else {
+            return null;
+        }
+    }
+
+    private LinkedHashMap<String, TypedReaderTableSpec<T>> loadIndividualSpecs(final NodeSettingsRO settings)
+        throws InvalidSettingsException {
+        final NodeSettingsRO schemaSettings = settings.getNodeSettings(CFG_SCHEMAS);
+        // each schema is loaded once and shared by all items that have it
+        final List<TypedReaderTableSpec<T>> schemas = new ArrayList<>();
+        for (int i = 0; schemaSettings.containsKey(Integer.toString(i)); i++) {
+            schemas.add(m_tableSpecSerializer.load(schemaSettings.getNodeSettings(Integer.toString(i))));
+        }
+        return decodeItemIndex(settings.getString(CFG_ITEM_INDEX), schemas);
+    }
+
+    private static <T> LinkedHashMap<String, TypedReaderTableSpec<T>> decodeItemIndex(final String encoded,
+        final List<TypedReaderTableSpec<T>> schemas) throws InvalidSettingsException {
+        final LinkedHashMap<String, TypedReaderTableSpec<T>> specs = new LinkedHashMap<>();
+        try (final var in = new DataInputStream(
+            new InflaterInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(encoded))))) {
+            final int numItems = in.readInt();
+            for (int i = 0; i < numItems; i++) {
+                final byte[] item = new byte[in.readInt()];
+                in.readFully(item);
+                final int schemaId = in.readInt();
+                CheckUtils.checkSetting(schemaId >= 0 && schemaId < schemas.size(),
+                    "The item index references the unknown schema %s.", schemaId);
+                specs.put(new String(item, StandardCharsets.UTF_8), schemas.get(schemaId));
+            }
+        } catch (IOException | IllegalArgumentException | NegativeArraySizeException ex) {
+            throw new InvalidSettingsException("The item index of the stored specs is corrupt.", ex);
+        }
+        return specs;
+    }
+
+}
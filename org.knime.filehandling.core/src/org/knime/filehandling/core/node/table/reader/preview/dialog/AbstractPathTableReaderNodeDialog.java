@@ -51,6 +51,7 @@
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
 
 import org.knime.core.node.InvalidSettingsException;
@@ -148,6 +149,11 @@ public FSPath getRootItem(final Consumer<StatusMessage> statusMessageConsumer)
             return m_pathAccessor.getRootPath(statusMessageConsumer);
         }
 
+        @Override
+        public Optional<Object> getItemsKey() {
+            return m_pathAccessor.getPathsKey();
+        }
+
     }
 
 }
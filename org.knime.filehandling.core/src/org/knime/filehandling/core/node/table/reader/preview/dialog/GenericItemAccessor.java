@@ -51,6 +51,7 @@
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
 
 import org.knime.core.node.InvalidSettingsException;
@@ -85,4 +86,18 @@
      */
     I getRootItem(Consumer<StatusMessage> statusMessageConsumer) throws IOException, InvalidSettingsException;
 
-}
\ No newline at end of file
+    /**
+     * Returns a key that identifies the items this accessor resolves to, i.e. two accessors with equal keys yield the
+     * same items as long as the underlying storage doesn't change. This allows callers to reuse previously retrieved
+     * items instead of listing them again.</br>
+     * The default implementation returns {@link Optional#empty()} which means that the items have to be retrieved anew.
+     *
+     * @return a key identifying the items or {@link Optional#empty()} if the items can't be identified without
+     *         retrieving them
+     * @since 5.12
+     */
+    default Optional<Object> getItemsKey() {
+        return Optional.empty();
+    }
+
+}
@@ -54,6 +54,7 @@
 
 import javax.swing.event.ChangeEvent;
 
+import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.container.CloseableTable;
@@ -137,6 +138,24 @@ public static PreviewDataTable createLazyPreviewDataTable(final DataTableSpec sp
         return new LazyPreviewDataTable(spec, iteratorSupplier);
     }
 
+    /**
+     * Creates a PreviewDataTable that reads lazily but only once.<br>
+     * In contrast to {@link #createLazyPreviewDataTable(DataTableSpec, Supplier)}, the rows are read by a single
+     * {@link PreviewRowIterator} and cached in pages, i.e. new iterators (e.g. when scrolling back) are served from the
+     * cache instead of reading the source again. Only a bounded number of pages is kept in memory, the remaining ones
+     * are spilled to disk.<br>
+     * This call is expected to be quick because no reading happens.
+     *
+     * @param spec of the table
+     * @param iteratorSupplier provides the {@link PreviewRowIterator} whose rows are cached
+     * @return a lazy PreviewDataTable backed by a paged cache
+     * @since 5.12
+     */
+    public static PreviewDataTable createPagedPreviewDataTable(final DataTableSpec spec,
+        final Supplier<PreviewRowIterator> iteratorSupplier) {
+        return new PagedPreviewDataTable(spec, iteratorSupplier);
+    }
+
     /**
      * Adds a {@link PreviewIterationErrorListener} to the list of error listeners.
      *
@@ -201,6 +220,84 @@ public DataTableSpec getDataTableSpec() {
         }
     }
 
+    private static final class PagedPreviewDataTable extends PreviewDataTable {
+
+        private static final int PAGE_SIZE = 500;
+
+        private static final int MAX_PAGES_IN_MEMORY = 4;
+
+        private final DataTableSpec m_spec;
+
+        private final Supplier<PreviewRowIterator> m_iteratorSupplier;
+
+        private PreviewRowCache m_cache;
+
+        PagedPreviewDataTable(final DataTableSpec spec, final Supplier<PreviewRowIterator> iteratorSupplier) {
+            m_spec = spec;
+            m_iteratorSupplier = iteratorSupplier;
+        }
+
+        private synchronized PreviewRowCache getCache() {
+            if (m_cache == null) {
+                // the source is only opened once the first iterator is requested
+                final ObservablePreviewIterator source = new ObservablePreviewIterator(m_iteratorSupplier.get());
+                source.addErrorListener(this::handleIteratorError);
+                m_cache = new PreviewRowCache(m_spec, source, PAGE_SIZE, MAX_PAGES_IN_MEMORY);
+            }
+            return m_cache;
+        }
+
+        @SuppressWarnings("resource") // the cache is closed in #close()
+        @Override
+        protected CloseableRowIterator createIterator() {
+            return new CachedRowIterator(getCache());
+        }
+
+        @Override
+        public DataTableSpec getDataTableSpec() {
+            return m_spec;
+        }
+
+        @Override
+        public synchronized void close() {
+            super.close();
+            if (m_cache != null) {
+                m_cache.close();
+                m_cache = null;
+            }
+        }
+
+    }
+
+    private static final class CachedRowIterator extends CloseableRowIterator {
+
+        private final PreviewRowCache m_cache;
+
+        private long m_nextRowIdx;
+
+        CachedRowIterator(final PreviewRowCache cache) {
+            m_cache = cache;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return m_cache.hasRow(m_nextRowIdx);
+        }
+
+        @Override
+        public DataRow next() {
+            final DataRow row = m_cache.getRow(m_nextRowIdx);
+            m_nextRowIdx++;
+            return row;
+        }
+
+        @Override
+        public void close() {
+            // the cache is shared by all iterators and closed together with the table
+        }
+
+    }
+
     private static final class BufferedPreviewDataTable extends PreviewDataTable {
 
         private final BufferedDataTable m_table;
@@ -0,0 +1,273 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.node.table.reader.preview.dialog;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.CloseableTable;
+import org.knime.core.data.container.DataContainer;
+import org.knime.core.data.container.DataContainerSettings;
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Caches the rows of a preview in pages so that they can be served in arbitrary order without restarting the
+ * underlying source iterator.</br>
+ * Rows are pulled from the source only if a row beyond the already read ones is requested. At most a fixed number of
+ * pages is kept in memory, the least recently used pages are spilled into {@link DataContainer DataContainers} that
+ * write directly to disk and are read back on demand.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ */
+final class PreviewRowCache implements AutoCloseable {
+
+    /**
+     * Spilled pages are written directly to disk. Row keys aren't checked for duplicates because the preview shows the
+     * rows as they are read, e.g. with a row ID column that contains repeated values.
+     */
+    private static final DataContainerSettings SPILL_SETTINGS = DataContainerSettings.builder()//
+        .withInitializedDomain(false)//
+        .withMaxCellsInMemory(0)//
+        .withCheckDuplicateRowKeys(false)//
+        .build();
+
+    private final DataTableSpec m_spec;
+
+    private final CloseableRowIterator m_source;
+
+    private final int m_pageSize;
+
+    private final int m_maxPagesInMemory;
+
+    private final List<Page> m_pages = new ArrayList<>();
+
+    /**
+     * The complete pages currently held in memory ordered from least to most recently used.
+     */
+    private final LinkedHashSet<Page> m_pagesInMemory = new LinkedHashSet<>();
+
+    /**
+     * The page that is currently filled from the source, it is never spilled.
+     */
+    private Page m_fillingPage;
+
+    private long m_numRowsRead;
+
+    private boolean m_sourceExhausted;
+
+    private boolean m_closed;
+
+    /**
+     * Constructor.
+     *
+     * @param spec the spec of the rows
+     * @param source the iterator providing the rows, it is closed together with this cache
+     * @param pageSize the number of rows per page
+     * @param maxPagesInMemory the maximal number of complete pages kept in memory (the page currently being filled
+     *            comes on top)
+     */
+    PreviewRowCache(final DataTableSpec spec, final CloseableRowIterator source, final int pageSize,
+        final int maxPagesInMemory) {
+        m_spec = spec;
+        m_source = source;
+        m_pageSize = pageSize;
+        CheckUtils.checkArgument(maxPagesInMemory > 0, "At least one page must be kept in memory.");
+        m_maxPagesInMemory = maxPagesInMemory;
+    }
+
+    /**
+     * Checks whether the row with the provided index exists, reading from the source if necessary.
+     *
+     * @param rowIdx index of the row
+     * @return {@code true} if the row exists
+     */
+    synchronized boolean hasRow(final long rowIdx) {
+        while (!m_sourceExhausted && !m_closed && m_numRowsRead <= rowIdx) {
+            readNextRow();
+        }
+        return rowIdx < m_numRowsRead;
+    }
+
+    /**
+     * Returns the row with the provided index, reading from the source if necessary.
+     *
+     * @param rowIdx index of the row
+     * @return the row
+     * @throws NoSuchElementException if there is no such row
+     */
+    synchronized DataRow getRow(final long rowIdx) {
+        if (!hasRow(rowIdx)) {
+            throw new NoSuchElementException("There is no row with index " + rowIdx + ".");
+        }
+        final Page page = m_pages.get((int)(rowIdx / m_pageSize));
+        return page.getRows().get((int)(rowIdx % m_pageSize));
+    }
+
+    /**
+     * @return the number of rows read from the source so far
+     */
+    synchronized long getNumRowsRead() {
+        return m_numRowsRead;
+    }
+
+    /**
+     * @return the number of complete pages that are currently held in memory
+     */
+    synchronized int getNumPagesInMemory() {
+        return m_pagesInMemory.size();
+    }
+
+    private void readNextRow() {
+        if (!m_source.hasNext()) {
+            m_sourceExhausted = true;
+            completeFillingPage();
+            return;
+        }
+        final DataRow row;
+        try {
+            row = m_source.next();
+        } catch (NoSuchElementException ex) {// NOSONAR the source notifies its error listeners about the cause
+            m_sourceExhausted = true;
+            completeFillingPage();
+            return;
+        }
+        if (m_fillingPage == null) {
+            m_fillingPage = new Page();
+            m_fillingPage.m_rows = new ArrayList<>(m_pageSize);
+            m_pages.add(m_fillingPage);
+        }
+        m_fillingPage.m_rows.add(row);
+        m_numRowsRead++;
+        if (m_fillingPage.m_rows.size() == m_pageSize) {
+            completeFillingPage();
+        }
+    }
+
+    private void completeFillingPage() {
+        if (m_fillingPage != null) {
+            final Page completePage = m_fillingPage;
+            m_fillingPage = null;
+            markAsUsed(completePage);
+        }
+    }
+
+    private void markAsUsed(final Page page) {
+        m_pagesInMemory.remove(page);
+        m_pagesInMemory.add(page);
+        if (m_pagesInMemory.size() > m_maxPagesInMemory) {
+            final Page leastRecentlyUsed = m_pagesInMemory.iterator().next();
+            m_pagesInMemory.remove(leastRecentlyUsed);
+            leastRecentlyUsed.spill();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        m_closed = true;
+        m_source.close();
+        m_pages.forEach(Page::clear);
+        m_pages.clear();
+        m_pagesInMemory.clear();
+        m_fillingPage = null;
+        m_numRowsRead = 0;
+    }
+
+    private final class Page {
+
+        private List<DataRow> m_rows;
+
+        private CloseableTable m_spilled;
+
+        List<DataRow> getRows() {
+            if (this == m_fillingPage) {
+                return m_rows;
+            }
+            if (m_rows == null) {
+                m_rows = readSpilled();
+            }
+            markAsUsed(this);
+            return m_rows;
+        }
+
+        private List<DataRow> readSpilled() {
+            final List<DataRow> rows = new ArrayList<>(m_pageSize);
+            try (CloseableRowIterator iterator = m_spilled.iterator()) {
+                while (iterator.hasNext()) {
+                    rows.add(iterator.next());
+                }
+            }
+            return rows;
+        }
+
+        void spill() {
+            if (m_spilled == null) {
+                // the pages are immutable once spilled, so they only have to be written once
+                final DataContainer container = new DataContainer(m_spec, SPILL_SETTINGS);
+                m_rows.forEach(container::addRowToTable);
+                container.close();
+                m_spilled = container.getCloseableTable();
+            }
+            m_rows = null;
+        }
+
+        void clear() {
+            m_rows = null;
+            if (m_spilled != null) {
+                m_spilled.close();
+                m_spilled = null;
+            }
+        }
+    }
+
+}
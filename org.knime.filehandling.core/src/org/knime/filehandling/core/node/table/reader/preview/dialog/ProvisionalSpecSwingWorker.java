@@ -0,0 +1,144 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.node.table.reader.preview.dialog;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BiConsumer;
+
+import javax.swing.Timer;
+
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.SwingWorkerWithContext;
+import org.knime.filehandling.core.node.table.reader.DefaultSourceGroup;
+import org.knime.filehandling.core.node.table.reader.MultiTableReadFactory;
+import org.knime.filehandling.core.node.table.reader.SourceGroup;
+import org.knime.filehandling.core.node.table.reader.config.MultiTableReadConfig;
+import org.knime.filehandling.core.node.table.reader.config.ReaderSpecificConfig;
+import org.knime.filehandling.core.node.table.reader.util.StagedMultiTableRead;
+
+/**
+ * A {@link SwingWorkerWithContext} that guesses a provisional spec from the first item of a {@link SourceGroup} within
+ * a fixed time budget. Once the budget is used up, the spec guessing is stopped in the same way as the quick scan does
+ * it, i.e. the spec is based on the rows read so far.</br>
+ * Errors are only logged because the complete analysis running in parallel reports them.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ * @param <I> the item type to read from
+ * @param <C> the type of {@link ReaderSpecificConfig}
+ * @param <T> the type representing external data types
+ */
+final class ProvisionalSpecSwingWorker<I, C extends ReaderSpecificConfig<C>, T>
+    extends SwingWorkerWithContext<StagedMultiTableRead<I, T>, Void> {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ProvisionalSpecSwingWorker.class);
+
+    private final MultiTableReadFactory<I, C, T> m_readFactory;
+
+    private final SourceGroup<I> m_firstItem;
+
+    private final MultiTableReadConfig<C, T> m_config;
+
+    private final ExecutionMonitor m_exec = new ExecutionMonitor();
+
+    private final Timer m_budgetTimer;
+
+    private final BiConsumer<SourceGroup<I>, StagedMultiTableRead<I, T>> m_resultConsumer;
+
+    /**
+     * Constructor.
+     *
+     * @param readFactory used to create the provisional {@link StagedMultiTableRead}
+     * @param sourceGroup the {@link SourceGroup} whose first item is used for the provisional spec
+     * @param config the config
+     * @param budgetMs the time in milliseconds after which the spec guessing is stopped
+     * @param resultConsumer consumes the single item {@link SourceGroup} and the provisional
+     *            {@link StagedMultiTableRead} created for it
+     */
+    ProvisionalSpecSwingWorker(final MultiTableReadFactory<I, C, T> readFactory, final SourceGroup<I> sourceGroup,
+        final MultiTableReadConfig<C, T> config, final int budgetMs,
+        final BiConsumer<SourceGroup<I>, StagedMultiTableRead<I, T>> resultConsumer) {
+        m_readFactory = readFactory;
+        m_firstItem = new DefaultSourceGroup<>(sourceGroup.getID(), List.of(sourceGroup.iterator().next()));
+        m_config = config;
+        m_resultConsumer = resultConsumer;
+        m_budgetTimer = new Timer(budgetMs, e -> m_exec.getProgressMonitor().setExecuteCanceled());
+        m_budgetTimer.setRepeats(false);
+    }
+
+    /**
+     * Starts the time budget and the spec guessing.
+     */
+    void start() {
+        m_budgetTimer.start();
+        execute();
+    }
+
+    @Override
+    protected StagedMultiTableRead<I, T> doInBackgroundWithContext() throws Exception {
+        return m_readFactory.create(m_firstItem, m_config, m_exec);
+    }
+
+    @Override
+    protected void doneWithContext() {
+        m_budgetTimer.stop();
+        if (!isCancelled()) {
+            try {
+                m_resultConsumer.accept(m_firstItem, get());
+            } catch (InterruptedException ex) {// NOSONAR
+                // get() doesn't block in doneWithContext() therefore we can't be interrupted
+                LOGGER.error("InterruptedException encountered even though isCancelled() returned false.", ex);
+            } catch (ExecutionException ex) {
+                LOGGER.debug("Guessing the provisional spec failed.", ex);
+            }
+        }
+    }
+
+}
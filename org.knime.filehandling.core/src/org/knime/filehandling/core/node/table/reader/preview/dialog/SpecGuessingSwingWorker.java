@@ -69,6 +69,7 @@
 import org.knime.filehandling.core.node.table.reader.config.MultiTableReadConfig;
 import org.knime.filehandling.core.node.table.reader.config.ReaderSpecificConfig;
 import org.knime.filehandling.core.node.table.reader.config.TableReadConfig;
+import org.knime.filehandling.core.node.table.reader.config.tablespec.ConfigID;
 import org.knime.filehandling.core.node.table.reader.preview.PreviewExecutionMonitor;
 import org.knime.filehandling.core.node.table.reader.preview.dialog.AnalysisComponentModel.MessageType;
 import org.knime.filehandling.core.node.table.reader.util.StagedMultiTableRead;
@@ -101,6 +102,8 @@
 
     private final Consumer<ExecutionException> m_exceptionConsumer;
 
+    private final StagedMultiTableRead<I, T> m_previousRead;
+
     /**
      * Constructor.
      *
@@ -115,6 +118,30 @@ public SpecGuessingSwingWorker(final MultiTableReadFactory<I, C, T> reader, fina
         final ImmutableMultiTableReadConfig<C, T> config, final AnalysisComponentModel analysisComponent,
         final Consumer<StagedMultiTableRead<I, T>> resultConsumer,
         final Consumer<ExecutionException> exceptionConsumer) {
+        this(reader, sourceGroup, config, analysisComponent, resultConsumer, exceptionConsumer, null);
+    }
+
+    /**
+     * Constructor for restaging a previous {@link StagedMultiTableRead} whose individual specs are still valid because
+     * only settings changed that don't affect the {@link ConfigID}.
+     *
+     * @param reader the reader
+     * @param sourceGroup the {@link SourceGroup} to read from
+     * @param config the config
+     * @param analysisComponent the analysis component
+     * @param resultConsumer the result consumer
+     * @param exceptionConsumer consumer for any exception thrown during execution
+     * @param previousRead the {@link StagedMultiTableRead} previously created for sourceGroup (may be {@code null} in
+     *            which case the specs are calculated anew)
+     * @see MultiTableReadFactory#restage(StagedMultiTableRead, SourceGroup, MultiTableReadConfig,
+     *      org.knime.core.node.ExecutionMonitor)
+     * @since 5.12
+     */
+    public SpecGuessingSwingWorker(final MultiTableReadFactory<I, C, T> reader, final SourceGroup<I> sourceGroup,
+        final ImmutableMultiTableReadConfig<C, T> config, final AnalysisComponentModel analysisComponent,
+        final Consumer<StagedMultiTableRead<I, T>> resultConsumer,
+        final Consumer<ExecutionException> exceptionConsumer, final StagedMultiTableRead<I, T> previousRead) {
+        m_previousRead = previousRead;
         m_sourceGroup = sourceGroup;
         m_reader = reader;
         m_config = config;
@@ -136,11 +163,27 @@ protected StagedMultiTableRead<I, T> doInBackgroundWithContext() throws Exceptio
             progressMonitor.setExecuteCanceled();
         };
         quickScanModel.addActionListener(listener);
-        final StagedMultiTableRead<I, T> read = m_reader.create(m_sourceGroup, m_config, m_exec);
+        final StagedMultiTableRead<I, T> read = m_previousRead == null ? m_reader.create(m_sourceGroup, m_config, m_exec)
+            : m_reader.restage(m_previousRead, m_sourceGroup, m_config, m_exec);
         quickScanModel.removeActionListener(listener);
         return read;
     }
 
+    /**
+     * Indicates whether the analysis ran over all the data it was supposed to, i.e. it wasn't cut short by a quick
+     * scan and didn't encounter errors. Only meaningful once the worker is done.
+     *
+     * @return {@code true} if the specs are based on a complete analysis
+     */
+    boolean isAnalysisComplete() {
+        try {
+            m_exec.checkCanceled();
+            return !isCancelled() && !m_exec.isSpecGuessingErrorOccurred();
+        } catch (CanceledExecutionException ex) {// NOSONAR the quick scan is signaled via cancellation
+            return false;
+        }
+    }
+
     private AnalysisUpdate createAnalysisUpdate(final NodeProgressEvent progressEvent) {
         final Optional<I> currentPath = m_exec.getCurrenttem();
         final StringBuilder sb = new StringBuilder("Reading input data ")//
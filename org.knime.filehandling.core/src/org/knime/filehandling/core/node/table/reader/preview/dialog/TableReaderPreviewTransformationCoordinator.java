@@ -48,11 +48,14 @@
  */
 package org.knime.filehandling.core.node.table.reader.preview.dialog;
 
+import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 import javax.swing.SwingWorker;
+import javax.swing.Timer;
 
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
@@ -66,6 +69,8 @@
 import org.knime.filehandling.core.node.table.reader.config.ImmutableMultiTableReadConfig;
 import org.knime.filehandling.core.node.table.reader.config.MultiTableReadConfig;
 import org.knime.filehandling.core.node.table.reader.config.ReaderSpecificConfig;
+import org.knime.filehandling.core.node.table.reader.config.TableReadConfig;
+import org.knime.filehandling.core.node.table.reader.config.tablespec.ConfigID;
 import org.knime.filehandling.core.node.table.reader.config.tablespec.TableSpecConfig;
 import org.knime.filehandling.core.node.table.reader.preview.dialog.AnalysisComponentModel.MessageType;
 import org.knime.filehandling.core.node.table.reader.selector.ObservableTransformationModelProvider;
@@ -89,6 +94,25 @@
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(TableReaderPreviewTransformationCoordinator.class);
 
+    /**
+     * System property that allows to disable the provisional preview that is displayed while the spec guessing is
+     * still running.
+     */
+    private static final String PROGRESSIVE_PREVIEW_PROPERTY = "knime.filehandling.tablereader.preview.progressive";
+
+    private static final boolean PROGRESSIVE_PREVIEW =
+        Boolean.parseBoolean(System.getProperty(PROGRESSIVE_PREVIEW_PROPERTY, "true"));
+
+    /**
+     * Time in milliseconds the spec guessing may take before a provisional preview is created.
+     */
+    private static final int PROVISIONAL_PREVIEW_DELAY = 300;
+
+    /**
+     * Time in milliseconds the guessing of the provisional spec may take.
+     */
+    private static final int PROVISIONAL_SPEC_BUDGET = 500;
+
     private final MultiTableReadFactory<I, C, T> m_readFactory;
 
     private final AnalysisComponentModel m_analysisComponent;
@@ -131,14 +155,20 @@ public TableReaderPreviewTransformationCoordinator(final MultiTableReadFactory<I
     }
 
     /**
-     * Updates the transformation model and consequently the preview if the config changed.
+     * Updates the transformation model and consequently the preview if the config changed.</br>
+     * Only the stages invalidated by the change are recomputed: If the items (e.g. paths) are unchanged, the
+     * {@link SourceGroup} of the previous run is reused and if in addition the {@link ConfigID} is unchanged, the
+     * individual specs are reused as well.
      */
     public void configChanged() {
-        cancelCurrentRun();
+        final PreviewRun previousRun = m_currentRun;
+        m_currentRun = null;
         m_analysisComponent.reset();
         try {
             m_currentRun = new PreviewRun(m_configSupplier.get());
+            m_currentRun.start(previousRun);
         } catch (InvalidSettingsException ex) {// NOSONAR, the exception is displayed in the dialog
+            closeIfNotNull(previousRun);
             m_analysisComponent.setErrorLabel(ex.getMessage());
             m_previewModel.setDataTable(null);
             m_transformationModel.clearRawSpec();
@@ -153,9 +183,13 @@ public void setDisabledInRemoteJobViewInfo() {
     }
 
     private void cancelCurrentRun() {
-        if (m_currentRun != null) {
-            m_currentRun.close();
-            m_currentRun = null;
+        closeIfNotNull(m_currentRun);
+        m_currentRun = null;
+    }
+
+    private void closeIfNotNull(final PreviewRun run) {
+        if (run != null) {
+            run.close();
         }
     }
 
@@ -216,6 +250,10 @@ private final class PreviewRun implements AutoCloseable {
 
         private TableUpdateSwingWorker m_tableUpdateWorker = null;
 
+        private Timer m_provisionalPreviewTimer = null;
+
+        private ProvisionalSpecSwingWorker<I, C, T> m_provisionalSpecWorker = null;
+
         private StagedMultiTableRead<I, T> m_currentRead = null;
 
         private GenericItemAccessor<I> m_readPathAccessor = null;
@@ -226,14 +264,73 @@ private final class PreviewRun implements AutoCloseable {
 
         private boolean m_updatingPreview = true;
 
+        private boolean m_analysisComplete = false;
+
         private SourceGroup<I> m_sourceGroup;
 
         PreviewRun(final MultiTableReadConfig<C, T> config) {
             m_config = new ImmutableMultiTableReadConfig<>(config);
-            m_readPathAccessor = m_readPathAccessorSupplier.get();
-            m_pathAccessWorker =
-                new SourceGroupSwingWorker<>(m_readPathAccessor, this::startSpecGuessingWorker, this::displayPathError);
-            m_pathAccessWorker.execute();
+        }
+
+        /**
+         * Starts the calculations and reuses the results of the previous run that are unaffected by the config change.
+         * The previous run is closed by this method.
+         *
+         * @param previousRun the previous run (may be {@code null})
+         */
+        @SuppressWarnings("resource") // the accessors are closed either by this run or by the CloserSwingWorker
+        void start(final PreviewRun previousRun) {
+            final GenericItemAccessor<I> itemAccessor = m_readPathAccessorSupplier.get();
+            if (previousRun != null && previousRun.hasSameItems(itemAccessor)) {
+                // the previous accessor has to be taken over because it owns the file system the items belong to
+                final StagedMultiTableRead<I, T> reusableRead = previousRun.getReadReusableFor(m_config);
+                final SourceGroup<I> sourceGroup = previousRun.m_sourceGroup;
+                m_readPathAccessor = previousRun.handOverItemAccessor();
+                previousRun.close();
+                new CloserSwingWorker(itemAccessor).execute();
+                startSpecGuessingWorker(sourceGroup, reusableRead);
+            } else {
+                closeIfNotNull(previousRun);
+                m_readPathAccessor = itemAccessor;
+                m_pathAccessWorker = new SourceGroupSwingWorker<>(m_readPathAccessor, this::startSpecGuessingWorker,
+                    this::displayPathError);
+                m_pathAccessWorker.execute();
+            }
+        }
+
+        private boolean hasSameItems(final GenericItemAccessor<I> itemAccessor) {
+            if (m_sourceGroup == null || m_readPathAccessor == null) {
+                // the items haven't been retrieved (successfully)
+                return false;
+            }
+            final Optional<Object> itemsKey = m_readPathAccessor.getItemsKey();
+            return itemsKey.isPresent() && itemsKey.equals(itemAccessor.getItemsKey());
+        }
+
+        /**
+         * The individual specs of the current read can be reused if they stem from a complete analysis and the new
+         * config yields the same specs i.e. has the same {@link ConfigID} and the same spec analysis limits.
+         *
+         * @param config the new config
+         * @return the read whose specs can be reused or {@code null} if the specs have to be recalculated
+         */
+        private StagedMultiTableRead<I, T> getReadReusableFor(final MultiTableReadConfig<C, T> config) {
+            if (m_currentRead == null || !m_analysisComplete) {
+                return null;
+            }
+            final TableReadConfig<C> oldTableReadConfig = m_config.getTableReadConfig();
+            final TableReadConfig<C> newTableReadConfig = config.getTableReadConfig();
+            final boolean sameSpecs = Objects.equals(m_config.getConfigID(), config.getConfigID())//
+                && oldTableReadConfig.limitRowsForSpec() == newTableReadConfig.limitRowsForSpec()//
+                && oldTableReadConfig.getMaxRowsForSpec() == newTableReadConfig.getMaxRowsForSpec();
+            return sameSpecs ? m_currentRead : null;
+        }
+
+        private GenericItemAccessor<I> handOverItemAccessor() {
+            final GenericItemAccessor<I> itemAccessor = m_readPathAccessor;
+            // prevents close() from closing the accessor
+            m_readPathAccessor = null;
+            return itemAccessor;
         }
 
         TableSpecConfig<T> getTableSpecConfig() {
@@ -245,6 +342,7 @@ public void close() {
             m_closed.set(true);
             cancelIfNotNull(m_pathAccessWorker);
             cancelIfNotNull(m_specGuessingWorker);
+            cancelProvisionalPreview();
             cancelTableUpdate();
             // the preview must be closed before we close the readPathAccessor
             // otherwise the iterator might throw a ClosedFileSystemException
@@ -260,6 +358,13 @@ private void cancelIfNotNull(final SwingWorker<?, ?> worker) {
             }
         }
 
+        private void cancelProvisionalPreview() {
+            if (m_provisionalPreviewTimer != null) {
+                m_provisionalPreviewTimer.stop();
+            }
+            cancelIfNotNull(m_provisionalSpecWorker);
+        }
+
         private void displayPathError(final ExecutionException exception) {
             m_analysisComponent.setErrorLabel(MessageType.ERROR, exception.getCause().getMessage());
             m_previewModel.setDataTable(null);
@@ -276,6 +381,11 @@ boolean isUpdatingPreview() {
          * @param rootPathAndPaths the list of paths resolved by m_pathAccessWorker
          */
         private void startSpecGuessingWorker(final SourceGroup<I> sourceGroup) {
+            startSpecGuessingWorker(sourceGroup, null);
+        }
+
+        private void startSpecGuessingWorker(final SourceGroup<I> sourceGroup,
+            final StagedMultiTableRead<I, T> previousRead) {
             if (m_closed.get()) {
                 // this method is called in the EDT so it might be the case that
                 // the run got cancelled between the completion of the path access worker
@@ -288,13 +398,45 @@ private void startSpecGuessingWorker(final SourceGroup<I> sourceGroup) {
                 .finishUpdate();
             m_sourceGroup = sourceGroup;
             m_specGuessingWorker = new SpecGuessingSwingWorker<>(m_readFactory, m_sourceGroup, m_config,
-                m_analysisComponent, this::consumeNewStagedMultiRead, e -> calculatingRawSpecFailed());
+                m_analysisComponent, this::consumeNewStagedMultiRead, e -> calculatingRawSpecFailed(), previousRead);
             m_specGuessingWorker.execute();
+            if (PROGRESSIVE_PREVIEW && !m_bufferPreview && previousRead == null && sourceGroup.size() > 0) {
+                // if the analysis is slow, we display a preview based on a provisional spec of the first item
+                m_provisionalPreviewTimer = new Timer(PROVISIONAL_PREVIEW_DELAY, e -> startProvisionalSpecWorker());
+                m_provisionalPreviewTimer.setRepeats(false);
+                m_provisionalPreviewTimer.start();
+            }
+        }
+
+        private void startProvisionalSpecWorker() {
+            if (m_closed.get() || m_currentRead != null) {
+                // the analysis finished before the delay passed
+                return;
+            }
+            m_provisionalSpecWorker = new ProvisionalSpecSwingWorker<>(m_readFactory, m_sourceGroup, m_config,
+                PROVISIONAL_SPEC_BUDGET, this::displayProvisionalPreview);
+            m_provisionalSpecWorker.start();
+        }
+
+        private void displayProvisionalPreview(final SourceGroup<I> firstItem,
+            final StagedMultiTableRead<I, T> provisionalRead) {
+            if (m_closed.get() || m_currentRead != null) {
+                // the complete analysis finished first, so the provisional preview is obsolete
+                return;
+            }
+            try {
+                // the preview is replaced once the complete analysis is done (see consumeNewStagedMultiRead)
+                setPreviewDirectly(provisionalRead.withoutTransformation(firstItem));
+            } catch (Exception ex) {// NOSONAR the provisional preview is optional, the analysis reports any problems
+                LOGGER.debug("Creating the provisional preview failed.", ex);
+            }
         }
 
         private void calculatingRawSpecFailed() {
             // the raw spec could not be calculated because of some configuration problem
             // (not the path though because in that case retrieving the path would have already failed)
+            cancelProvisionalPreview();
+            m_previewModel.setDataTable(null);
             m_transformationModel.clearRawSpec();
         }
 
@@ -305,7 +447,9 @@ private void consumeNewStagedMultiRead(final StagedMultiTableRead<I, T> stagedMu
                 // and the invocation of its background worker
                 return;
             }
+            cancelProvisionalPreview();
             m_currentRead = stagedMultiTableRead;
+            m_analysisComplete = m_specGuessingWorker.isAnalysisComplete();
             // we disable the transformation view during this update to avoid concurrent manipulation
             m_transformationModel.setEnabled(false);
             m_transformationModel.updateRawSpec(m_currentRead.getRawSpec(), m_config);
@@ -355,7 +499,7 @@ private void bufferPreviewInBackground(final MultiTableRead<T> mtr) {
         private void setPreviewDirectly(final MultiTableRead<T> mtr) {
             @SuppressWarnings("resource") // the m_preview must make sure that the PreviewDataTable is closed
             final PreviewDataTable pdt =
-                PreviewDataTable.createLazyPreviewDataTable(mtr.getOutputSpec(), mtr::createPreviewIterator);
+                PreviewDataTable.createPagedPreviewDataTable(mtr.getOutputSpec(), mtr::createPreviewIterator);
             m_previewModel.setDataTable(pdt);
         }
 
@@ -50,14 +50,18 @@
 
 import java.awt.Dimension;
 import java.awt.GridBagLayout;
+import java.awt.Point;
 import java.awt.Rectangle;
 import java.util.concurrent.CopyOnWriteArraySet;
 
 import javax.swing.BorderFactory;
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
+import javax.swing.event.TableModelEvent;
 
+import org.knime.core.node.tableview.TableContentModel;
 import org.knime.core.node.tableview.TableView;
 import org.knime.filehandling.core.util.GBCBuilder;
 
@@ -97,9 +101,21 @@ public TableReaderPreviewView(final TableReaderPreviewModel model) {
         m_tableView.getContentTable().getTableHeader().setReorderingAllowed(false);
         // tell listeners that the scrolling changed
         m_tableView.getViewport().addChangeListener(e -> notifyListeners());
+        // keep the scroll position if the table is swapped in place e.g. when a provisional preview is refined
+        model.getPreviewTableModel().addTableModelListener(e -> keepViewPosition(e, model.getPreviewTableModel()));
         createPanel();
     }
 
+    private void keepViewPosition(final TableModelEvent event, final TableContentModel tableModel) {
+        // this listener is notified before the table view, so the viewport still shows the old table
+        if (event.getFirstRow() == TableModelEvent.HEADER_ROW && tableModel.hasData()) {
+            final Point viewPosition = m_tableView.getViewport().getViewPosition();
+            if (viewPosition.x != 0 || viewPosition.y != 0) {
+                SwingUtilities.invokeLater(() -> m_tableView.getViewport().setViewPosition(viewPosition));
+            }
+        }
+    }
+
     private void notifyListeners() {
         for (ChangeListener listener : m_scrollListeners) {
             listener.stateChanged(m_changeEvent);
@@ -50,19 +50,34 @@
 
 import java.util.stream.IntStream;
 
+import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.convert.datacell.JavaToDataCellConverter;
+import org.knime.core.data.convert.map.CellValueProducer;
 import org.knime.core.data.convert.map.DataRowProducer;
 import org.knime.core.data.convert.map.MappingFramework;
 import org.knime.core.data.convert.map.ProductionPath;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
 import org.knime.core.data.filestore.FileStoreFactory;
+import org.knime.core.data.v2.RowWrite;
+import org.knime.core.data.v2.value.BooleanValueFactory.BooleanWriteValue;
+import org.knime.core.data.v2.value.DoubleValueFactory.DoubleWriteValue;
+import org.knime.core.data.v2.value.IntValueFactory.IntWriteValue;
+import org.knime.core.data.v2.value.LongValueFactory.LongWriteValue;
 import org.knime.filehandling.core.node.table.reader.ReadAdapter;
 import org.knime.filehandling.core.node.table.reader.ReadAdapter.ReadAdapterParams;
 import org.knime.filehandling.core.node.table.reader.config.ReaderSpecificConfig;
 import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessible;
 
 /**
- * Handles mapping from {@link RandomAccessible RandomAccessibles} to {@link DataRow DataRows}.
+ * Handles mapping from {@link RandomAccessible RandomAccessibles} to {@link DataRow DataRows}.</br>
+ * When mapping into a {@link RowWrite}, values of production paths that end in an int, long, double or boolean column
+ * are written directly into the typed write values, i.e. no {@link DataCell} is created for them.
  *
  * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
  * @param <V> the type of values mapped to cells
@@ -78,6 +93,13 @@
 
     private final DataRowProducer<ReadAdapterParams<ReadAdapter<?, V>, C>> m_rowProducer;
 
+    private final ProductionPath[] m_productionPaths;
+
+    private final FileStoreFactory m_fsFactory;
+
+    /** Created on first use because most reads only ever map to {@link DataRow DataRows}. */
+    private ColumnWriter[] m_columnWriters;
+
     /**
      * Constructor.
      *
@@ -89,6 +111,8 @@
     public DefaultTypeMapper(final ReadAdapter<?, V> readAdapter, final ProductionPath[] productionPaths,
         final FileStoreFactory fsFactory, final C readerSpecificConfig) {
         m_readAdapter = readAdapter;
+        m_productionPaths = productionPaths.clone();
+        m_fsFactory = fsFactory;
         m_rowProducer = MappingFramework.createDataRowProducer(fsFactory, m_readAdapter, productionPaths);
         // ReadAdapterParams are compatible with any ReadAdapter, the generics
         // are only necessary to shut up the compiler
@@ -108,4 +132,86 @@ public DataRow map(final RowKey key, final RandomAccessible<V> randomAccessible)
         }
     }
 
+    @Override
+    public void map(final RowKey key, final RandomAccessible<V> randomAccessible, final RowWrite rowWrite)
+        throws Exception {
+        if (m_columnWriters == null) {
+            m_columnWriters = createColumnWriters();
+        }
+        m_readAdapter.setSource(randomAccessible);
+        try {
+            rowWrite.setRowKey(key);
+            for (var i = 0; i < m_columnWriters.length; i++) {
+                m_columnWriters[i].write(m_readAdapter, m_params[i], rowWrite, i);
+            }
+        } catch (Exception ex) {
+            throw new TypeMapperException(key.toString(), randomAccessible.toString(), ex);
+        }
+    }
+
+    private ColumnWriter[] createColumnWriters() {
+        final var columnWriters = new ColumnWriter[m_productionPaths.length];
+        for (var i = 0; i < columnWriters.length; i++) {
+            columnWriters[i] = createColumnWriter(m_productionPaths[i]);
+        }
+        return columnWriters;
+    }
+
+    @SuppressWarnings("unchecked") // the production path guarantees that the types match
+    private ColumnWriter createColumnWriter(final ProductionPath productionPath) {
+        final var converterFactory = productionPath.getConverterFactory();
+        final Class<?> javaType = converterFactory.getSourceType();
+        final DataType destinationType = converterFactory.getDestinationType();
+        final ValueWriter valueWriter;
+        if (javaType == Integer.class && IntCell.TYPE.equals(destinationType)) {
+            valueWriter = (v, w, i) -> w.<IntWriteValue> getWriteValue(i).setIntValue((Integer)v);
+        } else if (javaType == Long.class && LongCell.TYPE.equals(destinationType)) {
+            valueWriter = (v, w, i) -> w.<LongWriteValue> getWriteValue(i).setLongValue((Long)v);
+        } else if (javaType == Double.class && DoubleCell.TYPE.equals(destinationType)) {
+            valueWriter = (v, w, i) -> w.<DoubleWriteValue> getWriteValue(i).setDoubleValue((Double)v);
+        } else if (javaType == Boolean.class && BooleanCell.TYPE.equals(destinationType)) {
+            valueWriter = (v, w, i) -> w.<BooleanWriteValue> getWriteValue(i).setBooleanValue((Boolean)v);
+        } else {
+            final JavaToDataCellConverter<Object> converter =
+                (JavaToDataCellConverter<Object>)converterFactory.create(m_fsFactory);
+            valueWriter = (v, w, i) -> {
+                final DataCell cell = converter.convert(v);
+                if (cell == null) {
+                    w.setMissing(i);
+                } else {
+                    RowWriteUtils.writeCell(cell, w, i);
+                }
+            };
+        }
+        return new ColumnWriter(productionPath.getProducerFactory().create(), valueWriter);
+    }
+
+    /**
+     * Writes a non-null value produced by the mapping framework into column <b>index</b> of a {@link RowWrite}.
+     */
+    @FunctionalInterface
+    private interface ValueWriter {
+        void write(Object value, RowWrite rowWrite, int index) throws Exception; // NOSONAR
+    }
+
+    /**
+     * Produces the value of a single column and writes it into a {@link RowWrite}.
+     *
+     * @param producer extracts the value from the {@link ReadAdapter}
+     * @param valueWriter writes the extracted value
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"}) // the generics of the producers can't be expressed here
+    private record ColumnWriter(CellValueProducer producer, ValueWriter valueWriter) {
+
+        void write(final ReadAdapter<?, ?> readAdapter, final ReadAdapterParams<?, ?> params, final RowWrite rowWrite,
+            final int index) throws Exception { // NOSONAR
+            final Object value = producer.produceCellValue(readAdapter, params);
+            if (value == null) {
+                rowWrite.setMissing(index);
+            } else {
+                valueWriter.write(value, rowWrite, index);
+            }
+        }
+    }
+
 }
@@ -0,0 +1,99 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.node.table.reader.type.mapping;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataValue;
+import org.knime.core.data.v2.RowWrite;
+import org.knime.core.data.v2.WriteValue;
+
+/**
+ * Utility methods for writing {@link DataCell DataCells} into a {@link RowWrite}.
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ * @noreference non-public API
+ */
+public final class RowWriteUtils {
+
+    private RowWriteUtils() {
+        // static utility class
+    }
+
+    /**
+     * Writes the key and the cells of the provided {@link DataRow} into the provided {@link RowWrite}.
+     *
+     * @param row to write
+     * @param rowWrite to write to, must have at least as many columns as the row
+     */
+    public static void writeRow(final DataRow row, final RowWrite rowWrite) {
+        rowWrite.setRowKey(row.getKey());
+        for (var i = 0; i < row.getNumCells(); i++) {
+            writeCell(row.getCell(i), rowWrite, i);
+        }
+    }
+
+    /**
+     * Writes the provided {@link DataCell} into column <b>index</b> of the provided {@link RowWrite}.
+     *
+     * @param cell to write
+     * @param rowWrite to write to
+     * @param index of the column to write to
+     */
+    public static void writeCell(final DataCell cell, final RowWrite rowWrite, final int index) {
+        if (cell.isMissing()) {
+            rowWrite.setMissing(index);
+        } else {
+            // the cell is compatible with the column type because the spec is derived from the same production paths
+            final WriteValue<DataValue> writeValue = rowWrite.getWriteValue(index);
+            writeValue.setValue(cell);
+        }
+    }
+}
@@ -50,6 +50,7 @@
 
 import org.knime.core.data.DataRow;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.v2.RowWrite;
 import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessible;
 
 /**
@@ -74,4 +75,20 @@
      */
     DataRow map(RowKey key, RandomAccessible<V> randomAccessible) throws Exception;
 
+    /**
+     * Maps from the provided {@link RowKey} and {@link RandomAccessible} directly into the provided {@link RowWrite}.
+     * Implementations may write primitive values without creating intermediate cells. The default implementation
+     * writes the {@link DataRow} created by {@link #map(RowKey, RandomAccessible)}.
+     *
+     * @param key the {@link RowKey} of the written row
+     * @param randomAccessible the {@link RandomAccessible} containing the data of the row
+     * @param rowWrite the {@link RowWrite} to write the key and the mapped values to
+     * @throws Exception if the mapping fails
+     * @since 5.12
+     */
+    default void map(final RowKey key, final RandomAccessible<V> randomAccessible, final RowWrite rowWrite)
+        throws Exception {
+        RowWriteUtils.writeRow(map(key, randomAccessible), rowWrite);
+    }
+
 }
\ No newline at end of file
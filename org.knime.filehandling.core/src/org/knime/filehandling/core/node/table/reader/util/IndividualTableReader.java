@@ -49,10 +49,12 @@
 package org.knime.filehandling.core.node.table.reader.util;
 
 import org.knime.core.data.DataRow;
+import org.knime.core.data.v2.RowWriteCursor;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.streamable.RowOutput;
 import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessible;
 import org.knime.filehandling.core.node.table.reader.read.Read;
+import org.knime.filehandling.core.node.table.reader.type.mapping.RowWriteUtils;
 
 /**
  * Performs the actual reading of an individual table.
@@ -74,6 +76,26 @@
      */
     void fillOutput(Read<V> read, RowOutput output, ExecutionMonitor progress) throws Exception;
 
+    /**
+     * Reads all {@link RandomAccessible randomAccessibles} in {@link Read read} and writes them to the provided
+     * {@link RowWriteCursor}. Implementations may write primitive values directly instead of creating a
+     * {@link DataRow} per row. The default implementation writes the rows created by {@link #toRow(RandomAccessible)}.
+     *
+     * @param read to read from
+     * @param output to write to (must be compatible i.e. have the same spec)
+     * @param progress used for cancellation and progress reporting
+     * @throws Exception if something goes astray
+     * @since 5.12
+     */
+    default void fillOutput(final Read<V> read, final RowWriteCursor output, final ExecutionMonitor progress)
+        throws Exception {
+        RandomAccessible<V> next;
+        while ((next = read.next()) != null) {
+            progress.checkCanceled();
+            RowWriteUtils.writeRow(toRow(next), output.forward());
+        }
+    }
+
     /**
      * Converts the random accessible to a data row.
      *
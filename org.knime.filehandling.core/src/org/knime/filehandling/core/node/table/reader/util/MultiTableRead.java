@@ -129,4 +129,19 @@ default BufferedDataTable readTable(final ExecutionContext exec, final DataConta
         return output.getDataTable();
     }
 
+    /**
+     * Reads the table by writing the values directly into the typed columns of the table backend. Implementations may
+     * skip the creation of intermediate {@link org.knime.core.data.DataCell DataCells} for primitive columns. The
+     * row keys are not checked for uniqueness, hence this method must only be used if the keys are generated. The
+     * default implementation delegates to {@link #readTable(ExecutionContext, DataContainerSettings)}.
+     *
+     * @param exec for table creation
+     * @return the table
+     * @throws Exception if something goes awry
+     * @since 5.12
+     */
+    default BufferedDataTable readTypedTable(final ExecutionContext exec) throws Exception {
+        return readTable(exec, DataContainerSettings.builder().withCheckDuplicateRowKeys(false).build());
+    }
+
 }
\ No newline at end of file
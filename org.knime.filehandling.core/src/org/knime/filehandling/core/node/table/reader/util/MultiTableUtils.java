@@ -49,15 +49,16 @@
 package org.knime.filehandling.core.node.table.reader.util;
 
 import static java.util.stream.Collectors.toCollection;
-import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.knime.core.data.DataType;
 import org.knime.core.data.convert.datacell.JavaToDataCellConverterFactory;
@@ -65,7 +66,6 @@
 import org.knime.core.data.convert.map.ProducerRegistry;
 import org.knime.core.util.UniqueNameGenerator;
 import org.knime.filehandling.core.connections.FSPath;
-import org.knime.filehandling.core.node.table.reader.DefaultSourceGroup;
 import org.knime.filehandling.core.node.table.reader.SourceGroup;
 import org.knime.filehandling.core.node.table.reader.TableReader;
 import org.knime.filehandling.core.node.table.reader.spec.ReaderColumnSpec;
@@ -159,17 +159,50 @@ private static String createDefaultColumnName(final int iFinal) {
     }
 
     /**
-     * Transforms the provided {@link SourceGroup} of arbitrary type into a SourceGroup with items of type String.
+     * Transforms the provided {@link SourceGroup} of arbitrary type into a SourceGroup with items of type String.<br>
+     * The returned SourceGroup is a view on the provided one, i.e. the items are converted on the fly and the
+     * {@link SourceGroup#getFingerprint() fingerprint} of the provided SourceGroup is reused.
      *
      * @param <I> type of items in the provided {@link SourceGroup}
      * @param sourceGroup the {@link SourceGroup} to transform
      * @return the {@code SourceGroup<String>} corresponding to sourceGroup
      */
     public static <I> SourceGroup<String> transformToString(final SourceGroup<I> sourceGroup) {
-        return new DefaultSourceGroup<>(sourceGroup.getID(), //
-            sourceGroup.stream()//
-                .map(Object::toString)//
-                .collect(toList()));
+        return new StringSourceGroup<>(sourceGroup);
+    }
+
+    private static final class StringSourceGroup<I> implements SourceGroup<String> {
+
+        private final SourceGroup<I> m_sourceGroup;
+
+        StringSourceGroup(final SourceGroup<I> sourceGroup) {
+            m_sourceGroup = sourceGroup;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return stream().iterator();
+        }
+
+        @Override
+        public String getID() {
+            return m_sourceGroup.getID();
+        }
+
+        @Override
+        public Stream<String> stream() {
+            return m_sourceGroup.stream().map(Object::toString);
+        }
+
+        @Override
+        public int size() {
+            return m_sourceGroup.size();
+        }
+
+        @Override
+        public long getFingerprint() {
+            return m_sourceGroup.getFingerprint();
+        }
     }
 
     /**
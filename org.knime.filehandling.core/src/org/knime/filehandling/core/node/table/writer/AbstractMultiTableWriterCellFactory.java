@@ -51,8 +51,22 @@
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.nio.file.AccessDeniedException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import java.util.zip.GZIPOutputStream;
 
 import org.knime.core.data.DataCell;
@@ -60,14 +74,21 @@
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataValue;
 import org.knime.core.data.MissingCell;
+import org.knime.core.data.RowKey;
 import org.knime.core.data.container.AbstractCellFactory;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.def.StringCell.StringCellFactory;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.util.CheckUtils;
+import org.knime.core.util.ThreadUtils;
 import org.knime.filehandling.core.connections.FSFiles;
 import org.knime.filehandling.core.connections.FSPath;
 import org.knime.filehandling.core.data.location.cell.MultiSimpleFSLocationCellFactory;
 import org.knime.filehandling.core.data.location.cell.SimpleFSLocationCell;
 import org.knime.filehandling.core.defaultnodesettings.filechooser.writer.FileOverwritePolicy;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 /**
  * Factory that extends {@link AbstractCellFactory}, which creates one new column {@link SimpleFSLocationCell} holding
  * the output path of written files. It also handles the writing of files of a specific type <C> to the file system.
@@ -77,6 +98,8 @@
  */
 public abstract class AbstractMultiTableWriterCellFactory<T extends DataValue> extends AbstractCellFactory {
 
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(AbstractMultiTableWriterCellFactory.class);
+
     private static final MissingCell MISSING_VALUE_CELL = new MissingCell("Missing cell value");
 
     private final MultiSimpleFSLocationCellFactory m_multiFSLocationCellFactory;
@@ -95,6 +118,16 @@
 
     private boolean m_enableCompression = false;
 
+    private ConcurrentWrites m_concurrentWrites;
+
+    /**
+     * The files in the output directory, listed once before the first write and updated with every created file.
+     * {@code null} if the directory hasn't been listed yet or listing it failed.
+     */
+    private Set<String> m_existingFiles;
+
+    private boolean m_existingFilesListed = false;
+
     /**
      * Constructor for a concrete subclass instantiation of {@link AbstractMultiTableWriterCellFactory}.
      *
@@ -111,12 +144,23 @@ protected AbstractMultiTableWriterCellFactory(final DataColumnSpec[] outputColum
 
     @Override
     public DataCell[] getCells(final DataRow row) {
+        if (m_concurrentWrites != null) {
+            return m_concurrentWrites.getCells(row);
+        }
+        return prepareWrite(row).get();
+    }
+
+    /**
+     * Determines the output path of the given row and returns the task that writes it. Must be called in row order
+     * because the output path may depend on the row index.
+     */
+    private Supplier<DataCell[]> prepareWrite(final DataRow row) {
         final DataCell valueCell = row.getCell(m_sourceColumnIndex);
 
         if (valueCell.isMissing()) {
             m_missingCellCount++;
             m_rowIndex++;
-            return new DataCell[]{MISSING_VALUE_CELL, MISSING_VALUE_CELL};
+            return () -> new DataCell[]{MISSING_VALUE_CELL, MISSING_VALUE_CELL};
         }
 
         @SuppressWarnings("unchecked")
@@ -129,44 +173,119 @@ public DataCell[] getCells(final DataRow row) {
         }
         final FSPath outputFilePath = createOutputPath(row, fileExtension);
         m_rowIndex++;
+        if (!m_existingFilesListed) {
+            m_existingFiles = listExistingFiles();
+            m_existingFilesListed = true;
+        }
 
-        final String fileStatus = write(value, outputFilePath);
-        return new DataCell[]{m_multiFSLocationCellFactory.createCell(outputFilePath.toFSLocation()),
-            StringCellFactory.create(fileStatus)};
+        return () -> {
+            final String fileStatus = write(value, outputFilePath);
+            return new DataCell[]{m_multiFSLocationCellFactory.createCell(outputFilePath.toFSLocation()),
+                StringCellFactory.create(fileStatus)};
+        };
     }
 
-    private String write(final T value, final FSPath outputPath) {
-        String status;
+    private Set<String> listExistingFiles() {
+        final Set<String> existingFiles = ConcurrentHashMap.newKeySet();
+        try (final DirectoryStream<Path> files = newDirectoryStream(m_outputPath)) {
+            files.forEach(f -> existingFiles.add(toKey(f)));
+            return existingFiles;
+        } catch (IOException | DirectoryIteratorException ex) {
+            // the status is then determined by the outcome of each write
+            LOGGER.debug(String.format("Listing the output directory '%s' failed.", m_outputPath), ex);
+            return null;
+        }
+    }
 
+    /**
+     * Opens a stream over the files in the given directory. Only overridden by tests.
+     *
+     * @param directory the directory to list
+     * @return the stream over the files in the directory
+     * @throws IOException if the directory can't be listed
+     */
+    DirectoryStream<Path> newDirectoryStream(final FSPath directory) throws IOException {
+        return Files.newDirectoryStream(directory);
+    }
+
+    private static String toKey(final Path path) {
+        return path.normalize().toString();
+    }
+
+    private String write(final T value, final FSPath outputPath) {
+        // the status is derived from the listed files and the outcome of opening the file instead of probing the
+        // existence of each file beforehand, and files that must not be overwritten aren't accessed at all; note that
+        // opening the file may still involve several remote calls, e.g. BaseFileSystemProvider#newOutputStream reads
+        // the attributes of the file before opening it
+        if (m_existingFiles != null && m_existingFiles.contains(toKey(outputPath))) {
+            return writeExisting(value, outputPath, new FileAlreadyExistsException(outputPath.toString()));
+        }
         try {
-            status = FSFiles.exists(outputPath) ? "overwritten" : "created";
-        } catch (AccessDeniedException accessDeniedException) {
-            throw new IllegalStateException(accessDeniedException.getMessage(), accessDeniedException);
+            try (final var outputStream = getOutputStream(outputPath, StandardOpenOption.CREATE_NEW)) {
+                writeFile(outputStream, value);
+            }
+            if (m_existingFiles != null) {
+                m_existingFiles.add(toKey(outputPath));
+            }
+            return "created";
+        } catch (FileAlreadyExistsException fileAlreadyExistsException) {
+            return writeExisting(value, outputPath, fileAlreadyExistsException);
+        } catch (IOException writeImageException) {
+            throw new IllegalStateException(
+                String.format("An IOException occured while writing '%s'", outputPath.toString()), writeImageException);
         }
+    }
 
-        try (final var outputStream = getOutputStream(outputPath)) {
+    private String writeExisting(final T value, final FSPath outputPath,
+        final FileAlreadyExistsException fileAlreadyExistsException) {
+        if (m_overwritePolicy == FileOverwritePolicy.FAIL) {
+            throw new IllegalStateException(
+                String.format("The file '%s' already exists and must not be overwritten", outputPath.toString()),
+                fileAlreadyExistsException);
+        } else if (m_overwritePolicy == FileOverwritePolicy.IGNORE) {
+            return "unmodified";
+        }
+        try (final var outputStream = getOutputStream(outputPath, m_overwritePolicy.getOpenOptions())) {
             writeFile(outputStream, value);
-        } catch (FileAlreadyExistsException fileAlreadyExistsException) {
-            if (m_overwritePolicy == FileOverwritePolicy.FAIL) {
-                throw new IllegalStateException(
-                    String.format("The file '%s' already exists and must not be overwritten", outputPath.toString()),
-                    fileAlreadyExistsException);
-            } else if (m_overwritePolicy == FileOverwritePolicy.IGNORE) {
-                status = "unmodified";
-            }
         } catch (IOException writeImageException) {
             throw new IllegalStateException(
                 String.format("An IOException occured while writing '%s'", outputPath.toString()), writeImageException);
         }
-        return status;
+        return "overwritten";
     }
 
-    private OutputStream getOutputStream(final FSPath outputPath) throws IOException {
+    private OutputStream getOutputStream(final FSPath outputPath, final OpenOption... openOptions)
+        throws IOException {
         if (m_enableCompression) {
-            return new GZIPOutputStream(
-                new BufferedOutputStream(FSFiles.newOutputStream(outputPath, m_overwritePolicy.getOpenOptions())));
+            return new GZIPOutputStream(new BufferedOutputStream(FSFiles.newOutputStream(outputPath, openOptions)));
         } else {
-            return new BufferedOutputStream(FSFiles.newOutputStream(outputPath, m_overwritePolicy.getOpenOptions()));
+            return new BufferedOutputStream(FSFiles.newOutputStream(outputPath, openOptions));
+        }
+    }
+
+    /**
+     * Enables concurrent writes for the subsequent {@link #getCells(DataRow)} calls. The rows provided by the iterator
+     * must be the same rows in the same order as the ones passed to {@link #getCells(DataRow)}. They are used to
+     * submit the writes of up to {@code maxConcurrentWrites} rows ahead of the row currently processed, while the
+     * results are still returned in row order.</br>
+     * {@link #disableConcurrentWrites()} must be called once the processing is done.
+     *
+     * @param rows iterator over the rows that are going to be processed, closed by
+     *            {@link #disableConcurrentWrites()}
+     * @param maxConcurrentWrites the maximal number of files that are written at the same time
+     */
+    void enableConcurrentWrites(final CloseableRowIterator rows, final int maxConcurrentWrites) {
+        disableConcurrentWrites();
+        m_concurrentWrites = new ConcurrentWrites(rows, maxConcurrentWrites);
+    }
+
+    /**
+     * Disables concurrent writes, cancels pending writes and releases the associated resources.
+     */
+    void disableConcurrentWrites() {
+        if (m_concurrentWrites != null) {
+            m_concurrentWrites.close();
+            m_concurrentWrites = null;
         }
     }
 
@@ -176,6 +295,8 @@ int getMissingCellCount() {
 
     void setOutputPath(final FSPath outputPath) {
         m_outputPath = outputPath;
+        m_existingFiles = null;
+        m_existingFilesListed = false;
     }
 
     void setFileNameGenerator(final FileNameGenerator fileNameGenerator) {
@@ -200,7 +321,10 @@ private FSPath createOutputPath(final DataRow row, final String fileExtension) {
     }
 
     /**
-     * Writes a file to a given outputStream.
+     * Writes a file to a given outputStream.</br>
+     * This method is only called concurrently if the node model opts in by overriding
+     * {@link AbstractMultiTableWriterNodeModel#getMaxConcurrentWrites()}, in which case the implementation must be
+     * thread-safe. Otherwise the files are written one after another.
      *
      * <pre>
      * // example for images
@@ -238,4 +362,67 @@ private FSPath createOutputPath(final DataRow row, final String fileExtension) {
      * @return extension of the written file
      */
     protected abstract String getOutputFileExtension(final T value);
+
+    /**
+     * Submits the writes of the rows ahead of the currently processed row to a bounded thread pool and returns the
+     * results in row order.
+     */
+    private final class ConcurrentWrites implements AutoCloseable {
+
+        private final CloseableRowIterator m_rows;
+
+        private final int m_maxConcurrentWrites;
+
+        private final ExecutorService m_executor;
+
+        private final Deque<PendingWrite> m_pendingWrites = new ArrayDeque<>();
+
+        ConcurrentWrites(final CloseableRowIterator rows, final int maxConcurrentWrites) {
+            m_rows = rows;
+            m_maxConcurrentWrites = maxConcurrentWrites;
+            m_executor = Executors.newFixedThreadPool(maxConcurrentWrites,
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("KNIME-MultiFileWriter-%d").build());
+        }
+
+        DataCell[] getCells(final DataRow row) {
+            // the output paths are determined here, i.e. in row order, only the writes run concurrently
+            while (m_pendingWrites.size() < m_maxConcurrentWrites && m_rows.hasNext()) {
+                final DataRow next = m_rows.next();
+                m_pendingWrites.add(new PendingWrite(next.getKey(),
+                    m_executor.submit(ThreadUtils.callableWithContext(prepareWrite(next)::get))));
+            }
+            final PendingWrite write = m_pendingWrites.poll();
+            CheckUtils.checkState(write != null, "No write has been submitted for row '%s'.", row.getKey());
+            // the read ahead rows must be the processed rows, otherwise paths and statuses end up in the wrong rows
+            CheckUtils.checkState(write.key().equals(row.getKey()),
+                "The write submitted for row '%s' doesn't belong to the processed row '%s'.", write.key(), row.getKey());
+            try {
+                return write.result().get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the file of row '" + row.getKey()
+                    + "' to be written.", ex);
+            } catch (ExecutionException ex) {
+                final Throwable cause = ex.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException(cause.getMessage(), cause);
+            }
+        }
+
+        @Override
+        public void close() {
+            m_pendingWrites.forEach(w -> w.result().cancel(true));
+            m_pendingWrites.clear();
+            m_executor.shutdownNow();
+            m_rows.close();
+        }
+    }
+
+    /**
+     * A write that has been submitted for the row with the given key.
+     */
+    private record PendingWrite(RowKey key, Future<DataCell[]> result) {
+    }
 }
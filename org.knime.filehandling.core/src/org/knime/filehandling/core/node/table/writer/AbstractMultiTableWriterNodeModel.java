@@ -320,7 +320,16 @@ protected BufferedDataTable[] execute(final PortObject[] inObjects, final Execut
             createOutputDirIfRequired(outputPath);
             updateCellFactory(dataTableSpec, outputPath);
 
-            final BufferedDataTable out = exec.createColumnRearrangeTable(inputDataTable, m_columnRearranger, exec);
+            final int maxConcurrentWrites = getMaxConcurrentWrites();
+            if (maxConcurrentWrites > 1) {
+                m_multiFileWriterCellFactory.enableConcurrentWrites(inputDataTable.iterator(), maxConcurrentWrites);
+            }
+            final BufferedDataTable out;
+            try {
+                out = exec.createColumnRearrangeTable(inputDataTable, m_columnRearranger, exec);
+            } finally {
+                m_multiFileWriterCellFactory.disableConcurrentWrites();
+            }
 
             if (m_multiFileWriterCellFactory.getMissingCellCount() > 0) {
                 setWarningMessage(
@@ -332,6 +341,23 @@ protected BufferedDataTable[] execute(final PortObject[] inObjects, final Execut
 
     }
 
+    /**
+     * Returns the maximal number of files that are written concurrently during {@link #execute(PortObject[],
+     * ExecutionContext) execution}. The files are written in row order if this number is 1. Otherwise
+     * {@link AbstractMultiTableWriterCellFactory#writeFile(java.io.OutputStream, DataValue)} is called from multiple
+     * threads but the output table remains in row order. The streaming execution always writes one file after another.
+     * </br>
+     * The default implementation returns 1. Subclasses may only return a larger number if their
+     * {@link AbstractMultiTableWriterCellFactory#writeFile(java.io.OutputStream, DataValue) writeFile} implementation
+     * is thread-safe.
+     *
+     * @return the maximal number of concurrent writes
+     * @since 5.12
+     */
+    protected int getMaxConcurrentWrites() {
+        return 1;
+    }
+
     private void createOutputDirIfRequired(final FSPath outputPath) throws IOException {
         try {
             final BasicFileAttributes outputPathAttrs = Files.readAttributes(outputPath, BasicFileAttributes.class);
@@ -50,7 +50,6 @@
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.zip.ZipException;
 
@@ -63,12 +62,24 @@
  * Class which holds an {@link InputStream} and a {@link CountingInputStream} to be used in reader nodes which can read
  * .gz files.
  *
+ * <p>
+ * The raw file is read ahead block-wise on a background thread so that fetching the compressed data and inflating it
+ * overlap. The {@link CountingInputStream} sits between the read ahead and the decompressor and therefore counts the
+ * compressed bytes actually consumed rather than the bytes fetched in advance.
+ * </p>
+ *
  * @author Lars Schweikardt, KNIME GmbH, Konstanz, Germany
  */
 public final class CompressionAwareCountingInputStream extends InputStream {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(CompressionAwareCountingInputStream.class);
 
+    /** Size of each of the two read ahead blocks. */
+    private static final int READAHEAD_BLOCK_SIZE = 1 << 20;
+
+    /** Size of the input buffer of the inflater. */
+    private static final int INFLATER_BUFFER_SIZE = 1 << 16;
+
     private CountingInputStream m_countingStream;
 
     private InputStream m_inputStream;
@@ -89,7 +100,8 @@ public CompressionAwareCountingInputStream(final Path path) throws IOException {
      * @param inputStream the {@link InputStream}
      */
     public CompressionAwareCountingInputStream(final InputStream inputStream) {
-        m_inputStream = new CountingInputStream(inputStream);
+        m_countingStream = new CountingInputStream(inputStream);
+        m_inputStream = m_countingStream;
     }
 
     /**
@@ -102,20 +114,23 @@ public long getCount() {
     }
 
     /**
-     * Creates a {@link CountingInputStream} and an {@link InputStream} based on the file extension of
+     * Creates a {@link CountingInputStream} and an {@link InputStream} based on the file extension of the provided
+     * path.
      *
      * @throws IOException
      */
     private void createStreams(final Path path) throws IOException {
-        m_countingStream = new CountingInputStream(FSFiles.newInputStream(path));
+        m_countingStream =
+            new CountingInputStream(new ReadaheadInputStream(FSFiles.newInputStream(path), READAHEAD_BLOCK_SIZE));
 
         if (FileCompressionUtils.mightBeCompressed(path)) {
+            // the gzip header is read from the first block, hence we can rewind the stream if it turns out to be no gzip
+            m_countingStream.mark(READAHEAD_BLOCK_SIZE);
             try {
-                m_inputStream = FileCompressionUtils.createDecompressedStream(m_countingStream);
+                m_inputStream = FileCompressionUtils.createDecompressedStream(m_countingStream, INFLATER_BUFFER_SIZE);
             } catch (ZipException e) {
                 LOGGER.debug("A ZIPException occurred while creating the the InputStream.", e);
-                m_countingStream.close();
-                m_countingStream = new CountingInputStream(Files.newInputStream(path));
+                rewind(e);
                 m_inputStream = m_countingStream;
             }
         } else {
@@ -123,6 +138,16 @@ private void createStreams(final Path path) throws IOException {
         }
     }
 
+    private void rewind(final ZipException zipException) throws IOException {
+        try {
+            m_countingStream.reset();
+        } catch (IOException ex) {
+            zipException.addSuppressed(ex);
+            m_countingStream.close();
+            throw zipException;
+        }
+    }
+
     @Override
     public void close() throws IOException {
         m_inputStream.close();
@@ -110,6 +110,19 @@ public static InputStream createDecompressedStream(final InputStream is) throws
         return new GZIPInputStream(is);
     }
 
+    /**
+     * Wraps a {@link GZIPInputStream} with the provided input buffer size around a {@link InputStream}. A larger buffer
+     * reduces the number of calls to the underlying stream and the inflater.
+     *
+     * @param is the passed {@link InputStream}
+     * @param bufferSize the input buffer size of the {@link GZIPInputStream}
+     * @return a {@link GZIPInputStream}
+     * @throws IOException
+     */
+    public static InputStream createDecompressedStream(final InputStream is, final int bufferSize) throws IOException {
+        return new GZIPInputStream(is, bufferSize);
+    }
+
     /**
      *
      * Checks if a file might be compressed based on check if the file ends with '.gz'.
@@ -0,0 +1,264 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 12, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Double-buffered {@link InputStream} that fetches the next block of the underlying stream on a background thread while
+ * the current block is being consumed. This allows to overlap the I/O of e.g. a remote file system with the CPU work of
+ * the consumer (e.g. decompression).
+ *
+ * <p>
+ * Marking is supported as long as the reset happens before the current block is exhausted.
+ * </p>
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ * @noreference non-public API
+ */
+public final class ReadaheadInputStream extends InputStream {
+
+    private static final ExecutorService READAHEAD_EXECUTOR = Executors.newCachedThreadPool(
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("KNIME-Readahead-%d").build());
+
+    private final InputStream m_in;
+
+    private byte[] m_current;
+
+    private byte[] m_next;
+
+    private int m_pos;
+
+    private int m_limit;
+
+    private long m_block;
+
+    private long m_markBlock = -1;
+
+    private int m_markPos;
+
+    private Future<Integer> m_pendingFill;
+
+    private boolean m_closed;
+
+    /**
+     * Constructor. Immediately starts fetching the first block.
+     *
+     * @param in the {@link InputStream} to read ahead
+     * @param blockSize the size of each of the two buffers
+     */
+    public ReadaheadInputStream(final InputStream in, final int blockSize) {
+        m_in = Objects.requireNonNull(in);
+        m_current = new byte[blockSize];
+        m_next = new byte[blockSize];
+        m_pendingFill = scheduleFill(m_next);
+    }
+
+    private Future<Integer> scheduleFill(final byte[] buffer) {
+        return READAHEAD_EXECUTOR.submit(() -> fill(buffer));
+    }
+
+    /**
+     * Reads until either the buffer is full or the end of the stream is reached.
+     *
+     * @return the number of bytes read or -1 if the end of the stream has been reached before reading any byte
+     */
+    private int fill(final byte[] buffer) throws IOException {
+        var filled = 0;
+        while (filled < buffer.length) {
+            final var read = m_in.read(buffer, filled, buffer.length - filled);
+            if (read < 0) {
+                return filled == 0 ? -1 : filled;
+            }
+            filled += read;
+        }
+        return filled;
+    }
+
+    /**
+     * Swaps in the block fetched in the background and schedules the fetch of the subsequent block.
+     *
+     * @return {@code false} if the end of the stream has been reached
+     */
+    private boolean nextBlock() throws IOException {
+        if (m_pendingFill == null) {
+            return false;
+        }
+        final int read = awaitPendingFill();
+        m_pendingFill = null;
+        if (read < 0) {
+            return false;
+        }
+        final var tmp = m_current;
+        m_current = m_next;
+        m_next = tmp;
+        m_pos = 0;
+        m_limit = read;
+        m_block++;
+        if (read == m_current.length) {
+            // a partially filled block means that we reached the end of the stream
+            m_pendingFill = scheduleFill(m_next);
+        }
+        return true;
+    }
+
+    private int awaitPendingFill() throws IOException {
+        try {
+            return m_pendingFill.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            final var iioe = new InterruptedIOException("Interrupted while waiting for the next block.");
+            iioe.initCause(ex);
+            throw iioe;
+        } catch (ExecutionException ex) {
+            final var cause = ex.getCause();
+            if (cause instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        } catch (CancellationException ex) {
+            throw new IOException("The read ahead has been cancelled.", ex);
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (m_closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        ensureOpen();
+        if (m_pos >= m_limit && !nextBlock()) {
+            return -1;
+        }
+        return m_current[m_pos++] & 0xff;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        ensureOpen();
+        if (len == 0) {
+            return 0;
+        }
+        if (m_pos >= m_limit && !nextBlock()) {
+            return -1;
+        }
+        final var n = Math.min(len, m_limit - m_pos);
+        System.arraycopy(m_current, m_pos, b, off, n);
+        m_pos += n;
+        return n;
+    }
+
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        return m_limit - m_pos;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(final int readlimit) {
+        if (m_pos < m_limit) {
+            m_markBlock = m_block;
+            m_markPos = m_pos;
+        } else {
+            // the current block is exhausted, so the mark is at the start of the next block
+            m_markBlock = m_block + 1;
+            m_markPos = 0;
+        }
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        ensureOpen();
+        if (m_markBlock == m_block) {
+            m_pos = m_markPos;
+        } else if (m_markBlock != m_block + 1 || m_pos < m_limit) {
+            // the marked block has already been replaced by the read ahead
+            throw new IOException("Resetting to invalid mark");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (m_closed) {
+            return;
+        }
+        m_closed = true;
+        try {
+            if (m_pendingFill != null) {
+                // the underlying stream must not be closed while it is still being read
+                awaitPendingFill();
+            }
+        } catch (IOException ex) { // NOSONAR
+            // the fetch failed but we are closing anyway
+        } finally {
+            m_pendingFill = null;
+            m_in.close();
+        }
+    }
+}
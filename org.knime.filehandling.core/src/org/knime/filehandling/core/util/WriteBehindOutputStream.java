@@ -0,0 +1,310 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent, KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.core.util;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.node.util.CheckUtils;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Block-buffered {@link OutputStream} that hands full blocks to a background thread which writes them to the
+ * underlying stream. This is the write-side counterpart of the {@link ReadaheadInputStream} and allows to overlap the
+ * CPU work of the producer (e.g. serialization or compression) with the I/O of e.g. a remote file system.
+ *
+ * <p>
+ * At most {@code maxBlocksInFlight} blocks are waiting to be written at any time. If the background writer falls
+ * behind, {@link #write(byte[], int, int)} blocks until a block has been written, i.e. the memory used by the stream is
+ * bounded by {@code (maxBlocksInFlight + 1) * blockSize} bytes. Failures of the background writer are rethrown by the
+ * next call to this stream.
+ * </p>
+ *
+ * @author agent, KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ * @noreference non-public API
+ */
+public final class WriteBehindOutputStream extends OutputStream {
+
+    private static final ExecutorService WRITE_BEHIND_EXECUTOR = Executors.newCachedThreadPool(
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("KNIME-WriteBehind-%d").build());
+
+    /** Interval in which a waiting producer checks whether the background writer failed. */
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private static final Block END = new Block(new byte[0], 0, null);
+
+    private final OutputStream m_out;
+
+    private final int m_blockSize;
+
+    private final int m_maxBlocks;
+
+    private final BlockingQueue<byte[]> m_freeBuffers;
+
+    private final BlockingQueue<Block> m_pending = new LinkedBlockingQueue<>();
+
+    private final Future<Void> m_writer;
+
+    private int m_allocatedBlocks;
+
+    private byte[] m_current;
+
+    private int m_pos;
+
+    private boolean m_closed;
+
+    /**
+     * A block of data to write. If {@link #flushed()} is non-null, the underlying stream is flushed after the data has
+     * been written and the latch is counted down.
+     */
+    private record Block(byte[] data, int length, CountDownLatch flushed) {
+    }
+
+    /**
+     * Constructor. Immediately starts the background writer.
+     *
+     * @param out the {@link OutputStream} to write behind, it is closed when this stream is closed
+     * @param blockSize the size of each block
+     * @param maxBlocksInFlight the maximal number of full blocks that may wait to be written
+     */
+    public WriteBehindOutputStream(final OutputStream out, final int blockSize, final int maxBlocksInFlight) {
+        m_out = Objects.requireNonNull(out);
+        CheckUtils.checkArgument(blockSize > 0, "The block size must be positive.");
+        CheckUtils.checkArgument(maxBlocksInFlight > 0, "At least one block must be allowed to be in flight.");
+        m_blockSize = blockSize;
+        m_maxBlocks = maxBlocksInFlight + 1;
+        m_freeBuffers = new ArrayBlockingQueue<>(m_maxBlocks);
+        m_current = allocateBlock();
+        m_writer = WRITE_BEHIND_EXECUTOR.submit(this::writeBlocks);
+    }
+
+    private byte[] allocateBlock() {
+        m_allocatedBlocks++;
+        return new byte[m_blockSize];
+    }
+
+    /**
+     * Runs on the background thread and writes the pending blocks until the end marker is encountered.
+     */
+    private Void writeBlocks() throws IOException, InterruptedException {
+        while (true) {
+            final var block = m_pending.take();
+            if (block == END) {
+                return null;
+            }
+            if (block.length() > 0) {
+                m_out.write(block.data(), 0, block.length());
+            }
+            if (block.data() != null) {
+                m_freeBuffers.add(block.data());
+            }
+            if (block.flushed() != null) {
+                m_out.flush();
+                block.flushed().countDown();
+            }
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (m_closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    /**
+     * Rethrows the failure of the background writer, if it failed.
+     */
+    private void checkWriter() throws IOException {
+        if (m_writer.isDone()) {
+            awaitWriter();
+            // the writer only terminates regularly after the end marker, which is submitted by close
+            throw new IOException("The background writer terminated unexpectedly.");
+        }
+    }
+
+    private void awaitWriter() throws IOException {
+        try {
+            m_writer.get();
+        } catch (InterruptedException ex) {
+            throw interrupted(ex);
+        } catch (ExecutionException ex) {
+            final var cause = ex.getCause();
+            if (cause instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        } catch (CancellationException ex) {
+            throw new IOException("The write behind has been cancelled.", ex);
+        }
+    }
+
+    private static InterruptedIOException interrupted(final InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        final var iioe = new InterruptedIOException("Interrupted while waiting for the background writer.");
+        iioe.initCause(ex);
+        return iioe;
+    }
+
+    /**
+     * Returns a free block, allocating a new one if the limit is not yet reached, and otherwise waits until the
+     * background writer returns one.
+     */
+    private byte[] nextFreeBlock() throws IOException {
+        var block = m_freeBuffers.poll();
+        if (block != null) {
+            return block;
+        }
+        if (m_allocatedBlocks < m_maxBlocks) {
+            return allocateBlock();
+        }
+        try {
+            while ((block = m_freeBuffers.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) == null) {
+                checkWriter();
+            }
+        } catch (InterruptedException ex) {
+            throw interrupted(ex);
+        }
+        return block;
+    }
+
+    private void submitCurrentBlock() throws IOException {
+        checkWriter();
+        m_pending.add(new Block(m_current, m_pos, null));
+        m_current = null;
+        m_pos = 0;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        ensureOpen();
+        if (m_pos == m_blockSize) {
+            submitCurrentBlock();
+            m_current = nextFreeBlock();
+        }
+        m_current[m_pos++] = (byte)b;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        ensureOpen();
+        var offset = off;
+        var remaining = len;
+        while (remaining > 0) {
+            if (m_pos == m_blockSize) {
+                submitCurrentBlock();
+                m_current = nextFreeBlock();
+            }
+            final var n = Math.min(remaining, m_blockSize - m_pos);
+            System.arraycopy(b, offset, m_current, m_pos, n);
+            m_pos += n;
+            offset += n;
+            remaining -= n;
+        }
+    }
+
+    /**
+     * Hands the buffered data to the background writer and waits until it has been written and the underlying stream
+     * has been flushed.
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        if (m_pos > 0) {
+            submitCurrentBlock();
+            m_current = nextFreeBlock();
+        }
+        final var flushed = new CountDownLatch(1);
+        m_pending.add(new Block(null, 0, flushed));
+        try {
+            while (!flushed.await(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                checkWriter();
+            }
+        } catch (InterruptedException ex) {
+            throw interrupted(ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (m_closed) {
+            return;
+        }
+        m_closed = true;
+        try {
+            if (m_pos > 0 && !m_writer.isDone()) {
+                m_pending.add(new Block(m_current, m_pos, null));
+            }
+            m_current = null;
+            m_pending.add(END);
+            awaitWriter();
+        } catch (InterruptedIOException ex) {
+            // stop the background writer before the underlying stream is closed
+            m_writer.cancel(true);
+            throw ex;
+        } finally {
+            m_pending.clear();
+            m_out.close();
+        }
+    }
+}